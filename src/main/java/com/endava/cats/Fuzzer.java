@@ -42,4 +42,14 @@ public interface Fuzzer {
     default List<String> skipForFields() {
         return Collections.emptyList();
     }
+
+    /**
+     * Whether the tests of the Fuzzer can be executed in parallel when {@code --concurrency} is greater than 1.
+     * Fuzzers whose tests depend on the results of the previous tests must be executed sequentially.
+     *
+     * @return true if the tests can be executed in parallel, false otherwise
+     */
+    default boolean isConcurrencySafe() {
+        return true;
+    }
 }
@@ -1,5 +1,7 @@
 package com.endava.cats;
 
+import com.endava.cats.args.FilterArguments;
+import com.endava.cats.report.TestCaseListener;
 import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
 import org.apache.commons.lang3.StringUtils;
@@ -7,16 +9,33 @@ import org.fusesource.jansi.Ansi;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
+import javax.inject.Inject;
 
 @ApplicationScoped
 public class StartStopListener {
+    private final TestCaseListener testCaseListener;
+    private final FilterArguments filterArguments;
+
+    @Inject
+    public StartStopListener(TestCaseListener testCaseListener, FilterArguments filterArguments) {
+        this.testCaseListener = testCaseListener;
+        this.filterArguments = filterArguments;
+    }
 
     void onStart(@Observes StartupEvent ev) {
         String ansiEnabled = System.getenv().get("NO_COLOR");
         Ansi.setEnabled(!StringUtils.isNotEmpty(ansiEnabled));
     }
 
+    /**
+     * The shutdown event is also fired when the process is terminated, like when a pod is evicted.
+     * In this case the report for the tests executed so far is written, so that the run can be resumed.
+     *
+     * @param ev the shutdown event
+     */
     void onStop(@Observes ShutdownEvent ev) {
-        //ntd
+        if (!filterArguments.isDryRun()) {
+            testCaseListener.writePartialSummary();
+        }
     }
 }
@@ -14,7 +14,9 @@ import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.fusesource.jansi.Ansi.ansi;
 
@@ -29,10 +31,10 @@ import static org.fusesource.jansi.Ansi.ansi;
 public class DryRunAspect {
 
     private static final PrettyLogger LOGGER = PrettyLoggerFactory.getConsoleLogger();
-    private final Map<String, Integer> paths = new TreeMap<>();
+    private final Map<String, Integer> paths = new ConcurrentSkipListMap<>();
+    private final AtomicInteger counter = new AtomicInteger(0);
     @Inject
     FilterArguments filterArguments;
-    private int counter;
 
     public Object startSession(InvocationContext context) throws Exception {
         Object result = context.proceed();
@@ -40,7 +42,10 @@ public class DryRunAspect {
         return result;
     }
 
-    public Object dontInvokeService() {
+    public Object dontInvokeService(InvocationContext context) {
+        if (CompletableFuture.class.isAssignableFrom(context.getMethod().getReturnType())) {
+            return CompletableFuture.completedFuture(CatsResponse.empty());
+        }
         return CatsResponse.empty();
     }
 
@@ -59,14 +64,15 @@ public class DryRunAspect {
     public Object report(InvocationContext context) {
         Object data = context.getParameters()[1];
         if (data instanceof FuzzingData) {
-            if (counter % 10000 == 0) {
-                LOGGER.noFormat(StringUtils.repeat("..", 1 + (counter / 10000)));
+            int currentCount = counter.get();
+            if (currentCount % 10000 == 0) {
+                LOGGER.noFormat(StringUtils.repeat("..", 1 + (currentCount / 10000)));
             }
             paths.merge(((FuzzingData) data).getPath(), 1, Integer::sum);
         } else {
             paths.merge("contract-level", 1, Integer::sum);
         }
-        counter++;
+        counter.incrementAndGet();
         return null;
     }
 
@@ -83,7 +89,7 @@ public class DryRunAspect {
                 return startSession(context);
             }
             if (context.getMethod().getName().startsWith("call")) {
-                return dontInvokeService();
+                return dontInvokeService(context);
             }
             if (context.getMethod().getName().startsWith("getErrors")) {
                 return 0;
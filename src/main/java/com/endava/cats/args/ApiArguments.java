@@ -16,6 +16,10 @@ public class ApiArguments {
             defaultValue = "10000")
     private int maxRequestsPerMinute = 10000;
 
+    @CommandLine.Option(names = {"--rateLimitStrategy"},
+            description = "The strategy used to pace the requests. Default: @|bold,underline ${DEFAULT-VALUE}|@. @|bold,underline FIXED|@ sends requests at the @|bold --maxRequestsPerMinute|@ rate, while @|bold,underline ADAPTIVE|@ starts slower and increases the rate up to @|bold --maxRequestsPerMinute|@ while the service responds steadily, backing off on 429, 503, Retry-After headers or rising latencies")
+    private RateLimitStrategy rateLimitStrategy = RateLimitStrategy.FIXED;
+
     @CommandLine.Option(names = {"--connectionTimeout"},
             description = "Time period in seconds which CATS should establish a connection with the server. Default: @|bold,underline ${DEFAULT-VALUE}|@",
             defaultValue = "10")
@@ -31,10 +35,47 @@ public class ApiArguments {
             defaultValue = "10")
     private int readTimeout = 10;
 
+    @CommandLine.Option(names = {"--maxIdleConnections"},
+            description = "Maximum number of idle connections kept in the HTTP connection pool. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "10")
+    private int maxIdleConnections = 10;
+
+    @CommandLine.Option(names = {"--keepAliveDuration"},
+            description = "Time in seconds an idle connection is kept in the HTTP connection pool before being closed. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "900")
+    private int keepAliveDuration = 900;
+
+    @CommandLine.Option(names = {"--maxRequestsPerHost"},
+            description = "Maximum number of requests executed in parallel against the service when calling it asynchronously. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "64")
+    private int maxRequestsPerHost = 64;
+
+    @CommandLine.Option(names = {"--maxResponseSize"},
+            description = "Maximum number of bytes read from a response body. Larger responses are reported with a placeholder body. 0 means no limit. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "0")
+    private long maxResponseSize;
+
+    @CommandLine.Option(names = {"--forceHttp2"},
+            description = "Use HTTP/2 to call the service. For http:// servers this will use h2c with prior knowledge, while for https:// servers HTTP/2 will be negotiated through ALPN")
+    private boolean forceHttp2;
+
+    @CommandLine.Option(names = {"--concurrency"},
+            description = "Number of tests executed in parallel. Custom fuzzers like @|bold FunctionalFuzzer|@ or @|bold SecurityFuzzer|@ are always executed sequentially. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "1")
+    private int concurrency = 1;
+
+    @CommandLine.Option(names = {"--deduplicateRequests"},
+            description = "Send identical requests only once and reuse the response for all the tests sending them. Each test still checks the response against its own expectations. Only use this when the service responses don't depend on the previous requests. Custom fuzzers like @|bold FunctionalFuzzer|@ always send their requests")
+    private boolean deduplicateRequests;
+
     @CommandLine.Option(names = {"-c", "--contract"},
             description = "The OpenAPI contract")
     private String contract;
 
+    @CommandLine.Option(names = {"--contractCacheDir"},
+            description = "A folder used to cache the parsed contract. When supplied, the contract is parsed only when it changes, which speeds up the startup for large contracts")
+    private String contractCacheDir;
+
     @CommandLine.Option(names = {"-s", "--server"},
             description = "Base URL of the service")
     private String server;
@@ -51,4 +92,8 @@ public class ApiArguments {
 
         }
     }
+
+    public enum RateLimitStrategy {
+        FIXED, ADAPTIVE
+    }
 }
@@ -13,6 +13,7 @@ import com.endava.cats.annotations.ValidateAndSanitize;
 import com.endava.cats.annotations.ValidateAndTrim;
 import com.endava.cats.annotations.WhitespaceFuzzer;
 import com.endava.cats.http.HttpMethod;
+import com.endava.cats.model.Shard;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import lombok.Getter;
@@ -65,6 +66,12 @@ public class FilterArguments {
     @CommandLine.Option(names = {"-d", "--dryRun"},
             description = "Simulate a possible run without actually invoking the service. This will print how many tests will actually be executed and with which Fuzzers")
     private boolean dryRun;
+    @CommandLine.Option(names = {"--shard"}, converter = Shard.Converter.class,
+            description = "Run only a slice of the tests, supplied as @|bold index/total|@, like 2/4. Work is split by path, HTTP method and Fuzzer and all shards must be started with the same contract and arguments. Each shard writes its own report")
+    private Shard shard;
+    @CommandLine.Option(names = {"--incremental"},
+            description = "Only fuzz the operations changed since the previous run, using the operation fingerprints stored in the output folder. Paths supplied with @|bold --paths|@ are always fuzzed")
+    private boolean incremental;
 
 
     public List<String> getSkipFuzzers() {
@@ -79,6 +86,10 @@ public class FilterArguments {
         return Optional.ofNullable(this.suppliedFuzzers).orElse(Collections.emptyList());
     }
 
+    public Shard getShard() {
+        return Optional.ofNullable(this.shard).orElse(Shard.NONE);
+    }
+
     public List<String> getPaths() {
         return Optional.ofNullable(this.paths).orElse(Collections.emptyList());
     }
@@ -204,5 +215,6 @@ public class FilterArguments {
         this.skipPaths = Collections.emptyList();
         this.httpMethods = HttpMethod.restMethods();
         this.dryRun = false;
+        this.incremental = false;
     }
 }
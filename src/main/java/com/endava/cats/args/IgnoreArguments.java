@@ -25,6 +25,10 @@ public class IgnoreArguments {
             description = "Don't check if the response body received from the service matches the schema supplied inside the contract. This will return the test result as @|bold,underline success|@ instead of @|bold,underline warn|@")
     private boolean ignoreResponseBodyCheck;
 
+    @CommandLine.Option(names = {"--responseBodyCheckStrategy"},
+            description = "How the response body is checked against the schema supplied inside the contract. @|bold,underline LEGACY|@ searches each response field name inside the documented response examples. @|bold,underline COMPILED|@ compiles the documented responses once per operation and response code and checks in a single pass that each response field is documented at the same path and has the documented JSON type. COMPILED does not check formats, patterns, enums, lengths or required fields, and only checks the first element of arrays. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private ResponseBodyCheckStrategy responseBodyCheckStrategy = ResponseBodyCheckStrategy.LEGACY;
+
     @CommandLine.Option(names = {"-i", "--ignoreResponseCodes"},
             description = "A comma separated list of HTTP response codes that will be considered as @|bold,underline success|@, even if the Fuzzer will typically report it as @|bold,underline warn|@ or @|bold,underline error|@. If provided, all Contract Fuzzers will be skipped", split = ",")
     private List<String> ignoreResponseCodes;
@@ -59,4 +63,8 @@ public class IgnoreArguments {
     public List<String> getSkippedFields() {
         return Optional.ofNullable(this.skipFields).orElse(Collections.emptyList());
     }
+
+    public enum ResponseBodyCheckStrategy {
+        LEGACY, COMPILED
+    }
 }
@@ -17,6 +17,10 @@ public class ProcessingArguments {
             description = "The maximum number of fields that will be removed from a request when using the @|bold,underline SIZE|@ fieldsFuzzingStrategy")
     private int maxFieldsToRemove;
 
+    @CommandLine.Option(names = {"--maxFieldsCombinations"},
+            description = "The maximum number of fields combinations tested by the @|bold RemoveFieldsFuzzer|@. Combinations are tried in increasing order of their size. 0 means no limit. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int maxFieldsCombinations;
+
     @CommandLine.Option(names = {"--edgeSpacesStrategy"},
             description = "This can be either @|bold,underline VALIDATE_AND_TRIM|@ or @|bold,underline TRIM_AND_VALIDATE|@. It can be used to specify what CATS should expect when sending trailing and leading spaces valid values within fields. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private TrimmingStrategy edgeSpacesStrategy = TrimmingStrategy.TRIM_AND_VALIDATE;
@@ -18,7 +18,7 @@ public class ReportingArguments {
     private List<String> logData;
 
     @CommandLine.Option(names = {"--printExecutionStatistics"},
-            description = "Print a summary of execution times for each endpoint and HTTP method. By default this will print a summary for each endpoint: max, min and average. If you want detailed reports you must supply @|bold --printDetailedExecutionStatistics|@")
+            description = "Print a summary of execution times for each endpoint and HTTP method. By default this will print the average, the p50, p90, p95, p99, p99.9 percentiles and the max for each endpoint. If you want detailed reports you must supply @|bold --printDetailedExecutionStatistics|@")
     private boolean printExecutionStatistics;
 
     @CommandLine.Option(names = {"--printDetailedExecutionStatistics"},
@@ -30,18 +30,69 @@ public class ReportingArguments {
     private boolean timestampReports;
 
     @CommandLine.Option(names = {"--reportFormat"},
-            description = "The format of the CATS report. Default: @|bold,underline ${DEFAULT-VALUE}|@. You can use @|bold,underline HTML_ONLY|@ if you want the report to not contain any Javascript. This is useful for large number of tests, as the page will render faster and also in CI environments due to Javascript content security policies.")
+            description = "The format of the CATS report. Default: @|bold,underline ${DEFAULT-VALUE}|@. You can use @|bold,underline HTML_ONLY|@ if you want the report to not contain any Javascript. This is useful for large number of tests, as the page will render faster and also in CI environments due to Javascript content security policies. You can use @|bold,underline JSONL|@ if you want all test cases written in a single JSON Lines archive instead of one HTML and one JSON file per test.")
     private ReportFormat reportFormat = ReportFormat.HTML_JS;
 
+    @CommandLine.Option(names = {"--compressReport"},
+            description = "Gzip the test cases archive. This is only considered when @|bold --reportFormat=JSONL|@")
+    private boolean compressReport;
+
     @CommandLine.Option(names = {"-o", "--output"},
             description = "The output folder of the CATS report. Default: @|bold,underline cats-report|@ in the current directory.")
     private String outputReportFolder = "cats-report";
 
+    @CommandLine.Option(names = {"--resume"},
+            description = "Resume an interrupted run using the journal from the output folder. Paths, HTTP methods and Fuzzers already completed are skipped and the new tests are added to the existing report. This cannot be used with @|bold --timestampReports|@ or @|bold --reportFormat=JSONL|@")
+    private boolean resume;
+
+    @CommandLine.Option(names = {"--metricsFile"},
+            description = "Periodically write the progress of the run, the request latencies and JVM statistics to the given file, in the OpenMetrics text format")
+    private String metricsFile;
+
+    @CommandLine.Option(names = {"--metricsPort"},
+            description = "Serve the OpenMetrics statistics of the run at @|bold http://localhost:<port>/metrics|@. The port is only bound to the loopback interface")
+    private int metricsPort;
+
+    @CommandLine.Option(names = {"--metricsInterval"},
+            description = "How often, in seconds, the OpenMetrics file is written and the request rate is computed. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int metricsInterval = 10;
+
+    @CommandLine.Option(names = {"--baselineReport"},
+            description = "The report folder of a previous run. The latency percentiles of each endpoint and Fuzzer are compared with the ones of the previous run and regressions are added to the report")
+    private String baselineReport;
+
+    @CommandLine.Option(names = {"--latencyRegressionThreshold"},
+            description = "How much slower, in percents, a latency percentile must be compared to @|bold --baselineReport|@ to be reported as a regression. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private double latencyRegressionThreshold = 20;
+
+    @CommandLine.Option(names = {"--failOnLatencyRegression"},
+            description = "Add the number of latency regressions found against @|bold --baselineReport|@ to the exit code")
+    private boolean failOnLatencyRegression;
+
     public List<String> getLogData() {
         return Optional.ofNullable(logData).orElse(Collections.emptyList());
     }
 
+    /**
+     * Resuming needs the report of the previous run, which is not known when reports are timestamped.
+     * The JSONL archive index can't be rebuilt after the process is killed, so JSONL reports can't be resumed either.
+     *
+     * @param spec the current command spec
+     */
+    public void validateResume(CommandLine.Model.CommandSpec spec) {
+        if (resume && timestampReports) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "--resume cannot be used with --timestampReports");
+        }
+        if (resume && reportFormat == ReportFormat.JSONL) {
+            throw new CommandLine.ParameterException(spec.commandLine(), "--resume cannot be used with --reportFormat=JSONL");
+        }
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsFile != null || metricsPort > 0;
+    }
+
     public enum ReportFormat {
-        HTML_ONLY, HTML_JS
+        HTML_ONLY, HTML_JS, JSONL
     }
 }
@@ -1,6 +1,8 @@
 package com.endava.cats.command;
 
 import com.endava.cats.Fuzzer;
+import com.endava.cats.annotations.FieldFuzzer;
+import com.endava.cats.annotations.HeaderFuzzer;
 import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.AuthArguments;
 import com.endava.cats.args.CheckArguments;
@@ -14,26 +16,38 @@ import com.endava.cats.fuzzer.fields.FunctionalFuzzer;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.CatsGlobalContext;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.Shard;
+import com.endava.cats.model.ShardPlan;
 import com.endava.cats.report.ExecutionStatisticsListener;
+import com.endava.cats.report.MetricsExporter;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.OpenApiUtils;
+import com.endava.cats.util.OperationFingerprints;
 import com.endava.cats.util.VersionProvider;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.Schema;
+import org.springframework.core.annotation.AnnotationUtils;
 import picocli.AutoComplete;
 import picocli.CommandLine;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.fusesource.jansi.Ansi.ansi;
@@ -51,6 +65,7 @@ import static org.fusesource.jansi.Ansi.ansi;
                 AutoComplete.GenerateCompletion.class,
                 CommandLine.HelpCommand.class,
                 ListCommand.class,
+                MergeCommand.class,
                 ReplayCommand.class,
                 RunCommand.class
         })
@@ -100,21 +115,34 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     @Inject
     CatsGlobalContext globalContext;
 
+    @Inject
+    MetricsExporter metricsExporter;
+
+    private ShardPlan shardPlan = ShardPlan.create(Shard.NONE, Collections.emptyMap());
+    private Set<String> completedUnits = Collections.emptySet();
+    private Map<String, String> previousFingerprints = Collections.emptyMap();
+    private Set<String> unchangedOperations = Collections.emptySet();
+
     @Override
     public void run() {
         try {
             testCaseListener.startSession();
+            metricsExporter.start();
             this.doLogic();
             testCaseListener.endSession();
         } catch (IOException e) {
             CatsUtil.setCatsLogLevel("info");
             LOGGER.fatal("Something went wrong while running CATS!", e);
+        } finally {
+            metricsExporter.stop();
         }
     }
 
     public void doLogic() throws IOException {
         this.doEarlyOperations();
         OpenAPI openAPI = this.createOpenAPI();
+        /*the fingerprints are stored inside the output folder, which is cleaned when initializing the report*/
+        previousFingerprints = OperationFingerprints.load(this.getFingerprintsFile());
         testCaseListener.initReportingPath();
         this.initGlobalData(openAPI);
         this.startFuzzing(openAPI);
@@ -128,15 +156,133 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
     public void startFuzzing(OpenAPI openAPI) {
         List<String> suppliedPaths = this.matchSuppliedPathsWithContractPaths(openAPI);
+        Map<String, String> currentFingerprints = OperationFingerprints.compute(openAPI, suppliedPaths);
+        this.selectChangedOperations(currentFingerprints);
+        Map<String, List<FuzzingData>> fuzzingDataPerPath = this.createFuzzingData(openAPI, suppliedPaths);
+        this.createShardPlan(suppliedPaths, fuzzingDataPerPath);
+        if (reportingArguments.isResume()) {
+            completedUnits = testCaseListener.restorePreviousProgress();
+        }
 
         for (Map.Entry<String, PathItem> entry : this.sortPathsAlphabetically(openAPI)) {
 
             if (suppliedPaths.contains(entry.getKey())) {
-                this.fuzzPath(entry, openAPI);
+                this.fuzzPath(entry, fuzzingDataPerPath.get(entry.getKey()));
             } else {
                 LOGGER.skip("Skipping path {}", entry.getKey());
             }
         }
+        this.storeFingerprints(currentFingerprints);
+    }
+
+    /**
+     * When running in incremental mode, only the operations with a fingerprint different from the previous run are fuzzed.
+     * Operations from paths explicitly supplied using {@code --paths} are always fuzzed.
+     *
+     * @param currentFingerprints the fingerprints of the operations from the supplied paths
+     */
+    private void selectChangedOperations(Map<String, String> currentFingerprints) {
+        if (!filterArguments.isIncremental()) {
+            return;
+        }
+        if (previousFingerprints.isEmpty()) {
+            LOGGER.note("No operation fingerprints found from a previous run. All operations will be fuzzed");
+            return;
+        }
+        List<String> requestedPaths = filterArguments.getPaths();
+        unchangedOperations = currentFingerprints.entrySet().stream()
+                .filter(operation -> operation.getValue().equals(previousFingerprints.get(operation.getKey())))
+                .map(Map.Entry::getKey)
+                .filter(operation -> !requestedPaths.contains(operation.substring(0, operation.lastIndexOf(' '))))
+                .collect(Collectors.toSet());
+        LOGGER.note("Incremental mode: fuzzing {} changed operations out of {}", currentFingerprints.size() - unchangedOperations.size(), currentFingerprints.size());
+    }
+
+    private String httpMethodOf(String operationKey) {
+        return operationKey.substring(operationKey.lastIndexOf(' ') + 1);
+    }
+
+    /**
+     * Fingerprints are updated only for the operations fuzzed by this run, so that operations excluded using {@code --httpMethods}
+     * are still fuzzed by the next incremental run.
+     *
+     * @param currentFingerprints the fingerprints of the operations from the supplied paths
+     */
+    private void storeFingerprints(Map<String, String> currentFingerprints) {
+        if (filterArguments.isDryRun()) {
+            return;
+        }
+        Map<String, String> fingerprints = new TreeMap<>(previousFingerprints);
+        currentFingerprints.entrySet().stream()
+                .filter(operation -> filterArguments.getHttpMethods().stream().anyMatch(method -> method.name().equals(this.httpMethodOf(operation.getKey()))))
+                .forEach(operation -> fingerprints.put(operation.getKey(), operation.getValue()));
+        OperationFingerprints.store(this.getFingerprintsFile(), fingerprints);
+    }
+
+    private Path getFingerprintsFile() {
+        return Paths.get(reportingArguments.getOutputReportFolder(), OperationFingerprints.FINGERPRINTS);
+    }
+
+    /**
+     * Builds the fuzzing data for all the supplied paths before any fuzzer is run. Building the payloads is CPU bound, so paths are processed in parallel.
+     *
+     * @param openAPI       the OpenAPI object parsed from the contract
+     * @param suppliedPaths the paths that will be fuzzed
+     * @return the fuzzing data for each path
+     */
+    private Map<String, List<FuzzingData>> createFuzzingData(OpenAPI openAPI, List<String> suppliedPaths) {
+        String finishMessage = ansi().fgGreen().a("Finished building fuzzing data for {} paths in {} ms").reset().toString();
+        long t0 = System.currentTimeMillis();
+        Map<String, List<FuzzingData>> fuzzingDataPerPath = suppliedPaths.parallelStream()
+                .collect(Collectors.toConcurrentMap(Function.identity(), path -> fuzzingDataFactory.fromPathItem(path, openAPI.getPaths().get(path), openAPI)));
+        LOGGER.complete(finishMessage, fuzzingDataPerPath.size(), (System.currentTimeMillis() - t0));
+        return fuzzingDataPerPath;
+    }
+
+    /**
+     * When running a single shard, computes the path, HTTP method and Fuzzer combinations that will be run by the current shard.
+     * The work is balanced using the number of tests estimated for each combination.
+     *
+     * @param suppliedPaths      the paths that will be fuzzed
+     * @param fuzzingDataPerPath the fuzzing data for each path
+     */
+    private void createShardPlan(List<String> suppliedPaths, Map<String, List<FuzzingData>> fuzzingDataPerPath) {
+        Shard shard = filterArguments.getShard();
+        if (!shard.isSharded()) {
+            return;
+        }
+        Map<String, Long> estimatedTestsByUnit = new TreeMap<>();
+        List<String> configuredFuzzers = filterArguments.getFuzzersForPath();
+        for (String path : suppliedPaths) {
+            for (FuzzingData data : fuzzingDataPerPath.get(path)) {
+                filterArguments.getAllRegisteredFuzzers().stream()
+                        .filter(fuzzer -> configuredFuzzers.contains(fuzzer.toString()))
+                        .filter(fuzzer -> filterArguments.getHttpMethods().contains(data.getMethod()) && !fuzzer.skipForHttpMethods().contains(data.getMethod()))
+                        .forEach(fuzzer -> estimatedTestsByUnit.merge(ShardPlan.unitKey(path, data.getMethod(), fuzzer.toString()), this.estimateNumberOfTests(fuzzer, data), Long::sum));
+            }
+        }
+        shardPlan = ShardPlan.create(shard, estimatedTestsByUnit);
+        testCaseListener.setShard(shard);
+        testCaseListener.writeShardDetails(shardPlan);
+        LOGGER.note("Running shard {} with {} out of {} path, HTTP method and Fuzzer combinations; estimated tests {} out of {}", shard,
+                shardPlan.getAssignedUnits().size(), estimatedTestsByUnit.size(), shardPlan.getEstimatedTests(), shardPlan.getTotalEstimatedTests());
+    }
+
+    /**
+     * Fields Fuzzers create tests for each field and Headers Fuzzers for each header, while the other Fuzzers usually create a single test.
+     *
+     * @param fuzzer the Fuzzer
+     * @param data   the fuzzing data
+     * @return the estimated number of tests the Fuzzer will create
+     */
+    private long estimateNumberOfTests(Fuzzer fuzzer, FuzzingData data) {
+        if (AnnotationUtils.findAnnotation(fuzzer.getClass(), FieldFuzzer.class) != null) {
+            return Math.max(1, data.getAllFieldsByHttpMethod().size());
+        }
+        if (AnnotationUtils.findAnnotation(fuzzer.getClass(), HeaderFuzzer.class) != null) {
+            return Math.max(1, data.getHeaders().size());
+        }
+        return 1;
     }
 
     private LinkedHashSet<Map.Entry<String, PathItem>> sortPathsAlphabetically(OpenAPI openAPI) {
@@ -172,7 +318,7 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     public OpenAPI createOpenAPI() throws IOException {
         String finishMessage = ansi().fgGreen().a("Finished parsing the contract in {} ms").reset().toString();
         long t0 = System.currentTimeMillis();
-        OpenAPI openAPI = OpenApiUtils.readOpenApi(apiArguments.getContract());
+        OpenAPI openAPI = OpenApiUtils.readOpenApi(apiArguments.getContract(), apiArguments.getContractCacheDir());
         LOGGER.complete(finishMessage, (System.currentTimeMillis() - t0));
         return openAPI;
     }
@@ -181,6 +327,7 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         this.processLogLevelArgument();
         filesArguments.loadConfig();
         apiArguments.validateRequired(spec);
+        reportingArguments.validateResume(spec);
     }
 
     private void processLogLevelArgument() {
@@ -191,11 +338,10 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         }
     }
 
-    public void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
+    public void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, List<FuzzingData> fuzzingDataList) {
         /* WE NEED TO ITERATE THROUGH EACH HTTP OPERATION CORRESPONDING TO THE CURRENT PATH ENTRY*/
         LOGGER.info(" ");
         LOGGER.start("Start fuzzing path {}", pathItemEntry.getKey());
-        List<FuzzingData> fuzzingDataList = fuzzingDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI);
 
         if (fuzzingDataList.isEmpty()) {
             LOGGER.warning("Skipping path {}. HTTP method not supported yet!", pathItemEntry.getKey());
@@ -217,24 +363,61 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         LOGGER.info("{} configured fuzzers out of {} total fuzzers: {}", configuredFuzzers.size(), (long) allFuzzersSorted.size(), configuredFuzzers);
 
         /*We only run the fuzzers supplied and exclude those that do not apply for certain HTTP methods*/
+        Set<String> executedUnits = new TreeSet<>();
         for (Fuzzer fuzzer : allFuzzersSorted) {
             if (configuredFuzzers.contains(fuzzer.toString())) {
                 CatsUtil.filterAndPrintNotMatching(fuzzingDataListWithHttpMethodsFiltered, data -> !fuzzer.skipForHttpMethods().contains(data.getMethod()),
                                 LOGGER, "HTTP method {} is not supported by {}", t -> t.getMethod().toString(), fuzzer.toString())
+                        .stream()
+                        .filter(data -> shardPlan.isAssigned(pathItemEntry.getKey(), data.getMethod(), fuzzer.toString()))
+                        .filter(data -> !unchangedOperations.contains(OperationFingerprints.operationKey(pathItemEntry.getKey(), data.getMethod().name())))
+                        .filter(data -> this.isNotCompleted(pathItemEntry.getKey(), data.getMethod(), fuzzer))
                         .forEach(data -> {
                             LOGGER.info("Fuzzer {} and payload: {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getPayload());
                             testCaseListener.beforeFuzz(fuzzer.getClass());
                             fuzzer.fuzz(data);
                             testCaseListener.afterFuzz();
+                            this.addExecutedUnit(executedUnits, ShardPlan.unitKey(pathItemEntry.getKey(), data.getMethod(), fuzzer.toString()), fuzzer);
                         });
             } else {
                 LOGGER.debug("Skipping fuzzer {} for path {} as configured!", fuzzer, pathItemEntry.getKey());
             }
         }
+        /*tests for the next paths might depend on the outcome of the current ones, like DELETE using data created by POST*/
+        testCaseListener.waitForPendingTests();
+        this.recordCheckpoint(executedUnits);
+    }
+
+    private boolean isNotCompleted(String path, HttpMethod httpMethod, Fuzzer fuzzer) {
+        boolean completed = completedUnits.contains(ShardPlan.unitKey(path, httpMethod, fuzzer.toString()));
+        if (completed) {
+            LOGGER.skip("Skipping fuzzer {} for path {} and HTTP method {} as it was completed by the resumed run", fuzzer, path, httpMethod);
+        }
+        return !completed;
+    }
+
+    /**
+     * The Functional Fuzzer only collects the tests while fuzzing the paths and executes them at the end, so it's never recorded as completed.
+     *
+     * @param executedUnits the path, HTTP method and Fuzzer combinations executed for the current path
+     * @param unit          the combination just executed
+     * @param fuzzer        the Fuzzer
+     */
+    private void addExecutedUnit(Set<String> executedUnits, String unit, Fuzzer fuzzer) {
+        if (!(fuzzer instanceof FunctionalFuzzer)) {
+            executedUnits.add(unit);
+        }
+    }
+
+    private void recordCheckpoint(Set<String> executedUnits) {
+        if (!filterArguments.isDryRun() && !executedUnits.isEmpty()) {
+            testCaseListener.recordCheckpoint(executedUnits);
+        }
     }
 
     @Override
     public int getExitCode() {
-        return executionStatisticsListener.getErrors();
+        int latencyRegressions = reportingArguments.isFailOnLatencyRegression() ? executionStatisticsListener.getLatencyRegressions() : 0;
+        return executionStatisticsListener.getErrors() + latencyRegressions;
     }
 }
@@ -66,7 +66,7 @@ public class ListCommand implements Runnable {
 
     void listContractPaths() {
         try {
-            OpenAPI openAPI = OpenApiUtils.readOpenApi(listCommandGroups.listContractOptions.contract);
+            OpenAPI openAPI = OpenApiUtils.readOpenApi(listCommandGroups.listContractOptions.contract, listCommandGroups.listContractOptions.contractCacheDir);
             LOGGER.star("Available paths:");
             openAPI.getPaths().keySet().stream().sorted().map(item -> "\t " + item).forEach(LOGGER::info);
         } catch (IOException e) {
@@ -139,6 +139,11 @@ public class ListCommand implements Runnable {
                 description = "The OpenAPI contract",
                 required = true)
         String contract;
+
+        @CommandLine.Option(
+                names = {"--contractCacheDir"},
+                description = "A folder used to cache the parsed contract")
+        String contractCacheDir;
     }
 
 }
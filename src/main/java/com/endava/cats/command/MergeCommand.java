@@ -0,0 +1,244 @@
+package com.endava.cats.command;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.model.report.CatsTestCase;
+import com.endava.cats.model.report.CatsTestCaseSummary;
+import com.endava.cats.model.report.LatencyReport;
+import com.endava.cats.model.util.JsonUtils;
+import com.endava.cats.report.ExecutionStatisticsListener;
+import com.endava.cats.report.TestCaseExporter;
+import com.endava.cats.report.TestCaseExporterJsonl;
+import com.endava.cats.util.VersionProvider;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import picocli.CommandLine;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Merges multiple CATS reports, like the ones produced by the shards of a run, into a single report.
+ * Test cases are streamed one by one from each report and written to the new report, so that the full test cases are never all kept in memory.
+ * Test ids are kept when all reports are shards of the same run, as they are already unique. Otherwise, tests are renumbered in the order of the reports.
+ * Latency percentiles are rebuilt from the response times of the merged test cases, which only have millisecond precision.
+ */
+@CommandLine.Command(
+        name = "merge",
+        mixinStandardHelpOptions = true,
+        usageHelpAutoWidth = true,
+        description = "Merge multiple CATS reports into a single report",
+        versionProvider = VersionProvider.class)
+@Dependent
+public class MergeCommand implements Runnable, CommandLine.IExitCodeGenerator {
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(MergeCommand.class);
+    private static final Pattern TEST_CASE_FILE = Pattern.compile("Test(\\d+)\\.json");
+
+    private final Instance<TestCaseExporter> exporters;
+    private final ExecutionStatisticsListener executionStatisticsListener;
+    private final List<CatsTestCaseSummary> summaries = new ArrayList<>();
+    private TestCaseExporter testCaseExporter;
+    private boolean keepTestIds;
+    private long testNumber;
+
+    @CommandLine.Parameters(
+            paramLabel = "<report>",
+            description = "The folders of the CATS reports to merge",
+            arity = "2..")
+    List<Path> reports;
+
+    @Inject
+    @CommandLine.ArgGroup(heading = "%n@|bold,underline Reporting Options:|@%n", exclusive = false)
+    ReportingArguments reportingArguments;
+
+    @Inject
+    public MergeCommand(Instance<TestCaseExporter> exporters, ExecutionStatisticsListener executionStatisticsListener) {
+        this.exporters = exporters;
+        this.executionStatisticsListener = executionStatisticsListener;
+    }
+
+    @Override
+    public void run() {
+        try {
+            this.mergeReports();
+        } catch (IOException e) {
+            LOGGER.error("Something went wrong while merging the reports: {}", e.toString());
+        }
+    }
+
+    void mergeReports() throws IOException {
+        this.validateReports();
+        testCaseExporter = exporters.stream()
+                .filter(exporter -> exporter.reportFormat() == reportingArguments.getReportFormat())
+                .findFirst()
+                .orElseThrow();
+        keepTestIds = this.areShardsOfTheSameRun();
+        testNumber = 0;
+        summaries.clear();
+        testCaseExporter.initPath();
+
+        long executionTime = 0;
+        for (Path report : reports) {
+            LOGGER.start("Merging report {}", report);
+            this.forEachTestCase(report, this::addTestCase);
+            JsonObject summary = this.readSummary(report);
+            executionTime = Math.max(executionTime, Optional.ofNullable(summary.get("executionTime")).map(JsonElement::getAsLong).orElse(0L));
+            executionStatisticsListener.increaseSkipped(Optional.ofNullable(summary.get("skipped")).map(JsonElement::getAsInt).orElse(0));
+        }
+        testCaseExporter.flushTestCases();
+        LatencyReport latencyReport = testCaseExporter.createLatencyReport(executionStatisticsListener);
+        testCaseExporter.writeSummary(summaries, executionStatisticsListener, latencyReport, executionTime);
+        testCaseExporter.writeHelperFiles();
+        testCaseExporter.writePerformanceReport(summaries, executionStatisticsListener, latencyReport);
+        testCaseExporter.printExecutionDetails(executionStatisticsListener);
+    }
+
+    private void validateReports() throws IOException {
+        Path output = Paths.get(reportingArguments.getOutputReportFolder()).toAbsolutePath().normalize();
+        for (Path report : reports) {
+            if (!Files.isDirectory(report)) {
+                throw new IOException("Report folder " + report + " does not exist");
+            }
+            if (report.toAbsolutePath().normalize().equals(output)) {
+                throw new IOException("The output folder must be different from the merged reports: " + report);
+            }
+        }
+    }
+
+    private void addTestCase(CatsTestCase testCase) {
+        testNumber++;
+        if (!keepTestIds) {
+            testCase.setTestId("Test " + testNumber);
+        }
+        if ("error".equalsIgnoreCase(testCase.getResult())) {
+            executionStatisticsListener.increaseErrors();
+        } else if ("warn".equalsIgnoreCase(testCase.getResult())) {
+            executionStatisticsListener.increaseWarns();
+        } else {
+            executionStatisticsListener.increaseSuccess();
+        }
+        if (testCase.getResponse() != null && testCase.notIgnoredForExecutionStatistics()) {
+            executionStatisticsListener.recordLatency(testCase.getResponse().getHttpMethod(), testCase.getPath(), testCase.getFuzzer(),
+                    TimeUnit.MILLISECONDS.toNanos(testCase.getResponse().getResponseTimeInMs()));
+            Optional.ofNullable(testCase.getResponse().getTimings())
+                    .ifPresent(timings -> executionStatisticsListener.recordPhaseTimings(testCase.getResponse().getHttpMethod(), testCase.getPath(), timings));
+        }
+        testCaseExporter.writeTestCase(testCase);
+        summaries.add(CatsTestCaseSummary.fromCatsTestCase(testCase.getTestId(), testCase));
+    }
+
+    /**
+     * Reads the test cases of the given report one by one. Reports using the JSONL format are read line by line from the archive,
+     * while for the other formats each test case is read from its own JSON file, in the order of the test numbers.
+     *
+     * @param report   the report folder
+     * @param consumer what to do with each test case
+     * @throws IOException if something goes wrong while reading the report
+     */
+    void forEachTestCase(Path report, Consumer<CatsTestCase> consumer) throws IOException {
+        Optional<Path> archive = Stream.of(TestCaseExporterJsonl.TESTS_ARCHIVE, TestCaseExporterJsonl.TESTS_ARCHIVE_COMPRESSED)
+                .map(report::resolve).filter(Files::isRegularFile).findFirst();
+        if (archive.isPresent()) {
+            this.forEachTestCaseInArchive(archive.get(), consumer);
+            return;
+        }
+        for (Path testCaseFile : this.getTestCaseFiles(report)) {
+            try (Reader reader = Files.newBufferedReader(testCaseFile)) {
+                consumer.accept(JsonUtils.GSON.fromJson(reader, CatsTestCase.class));
+            }
+        }
+    }
+
+    private void forEachTestCaseInArchive(Path archive, Consumer<CatsTestCase> consumer) throws IOException {
+        try (InputStream archiveStream = Files.newInputStream(archive);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(archive.toString().endsWith(".gz") ? new GZIPInputStream(archiveStream) : archiveStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    consumer.accept(JsonUtils.GSON.fromJson(line, CatsTestCase.class));
+                }
+            }
+        }
+    }
+
+    private List<Path> getTestCaseFiles(Path report) throws IOException {
+        try (Stream<Path> files = Files.list(report)) {
+            return files.filter(file -> TEST_CASE_FILE.matcher(file.getFileName().toString()).matches())
+                    .sorted(Comparator.comparingLong(MergeCommand::testNumberOf))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static long testNumberOf(Path testCaseFile) {
+        Matcher matcher = TEST_CASE_FILE.matcher(testCaseFile.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    /**
+     * Shards of the same run have the same total number of shards and distinct indexes. Their test ids are already unique.
+     *
+     * @return true if all reports are distinct shards of the same run, false otherwise
+     * @throws IOException if something goes wrong while reading the shard details
+     */
+    private boolean areShardsOfTheSameRun() throws IOException {
+        Set<Integer> indexes = new HashSet<>();
+        Set<Integer> totals = new HashSet<>();
+        for (Path report : reports) {
+            Path shardDetails = report.resolve(TestCaseExporter.SHARD_DETAILS);
+            if (!Files.isRegularFile(shardDetails)) {
+                return false;
+            }
+            JsonObject details = JsonParser.parseString(Files.readString(shardDetails)).getAsJsonObject();
+            indexes.add(details.get("index").getAsInt());
+            totals.add(details.get("total").getAsInt());
+        }
+        return totals.size() == 1 && indexes.size() == reports.size();
+    }
+
+    /**
+     * Reads the summary of the given report. Skipped tests are not written in the reports, so they are counted only using the summary.
+     * Reports are usually executed in parallel, so the merged execution time is the longest one.
+     *
+     * @param report the report folder
+     * @return the summary of the report or an empty object if not available
+     */
+    private JsonObject readSummary(Path report) {
+        Path summary = report.resolve(TestCaseExporter.REPORT_JS);
+        try {
+            return JsonParser.parseString(Files.readString(summary)).getAsJsonObject();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Unable to read execution time and skipped tests from {}: {}", summary, e.getMessage());
+            return new JsonObject();
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return executionStatisticsListener.getErrors();
+    }
+}
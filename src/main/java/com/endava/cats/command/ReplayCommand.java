@@ -12,14 +12,23 @@ import picocli.CommandLine;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 /**
  * This will replay a given list of tests solely based on the information received in the test case file(s).
@@ -40,6 +49,10 @@ public class ReplayCommand implements Runnable {
                     "otherwise it will look for that test in the cats-report folder", split = ",", arity = "1..")
     String[] tests;
 
+    @CommandLine.Option(names = {"--archive"},
+            description = "A tests archive produced using @|bold --reportFormat=JSONL|@. If supplied, the tests will be loaded from the archive, and they can be given as @|bold,underline Test1|@ or @|bold,underline \"Test 1\"|@")
+    String archive;
+
     @Inject
     @CommandLine.ArgGroup(heading = "%n@|bold,underline Authentication Options:|@%n", exclusive = false)
     AuthArguments authArgs;
@@ -50,7 +63,7 @@ public class ReplayCommand implements Runnable {
     }
 
     public List<String> parseTestCases() {
-        return Optional.of(Arrays.asList(tests)).orElse(Collections.emptyList()).stream()
+        return Optional.ofNullable(tests).map(Arrays::asList).orElse(Collections.emptyList()).stream()
                 .map(testCase -> testCase.trim().strip())
                 .map(testCase -> testCase.endsWith(".json") ? testCase : "cats-report/" + testCase + ".json")
                 .collect(Collectors.toList());
@@ -60,14 +73,67 @@ public class ReplayCommand implements Runnable {
         String testCaseFile = Files.readString(Paths.get(testCaseFileName));
         LOGGER.note("Loaded content: \n" + testCaseFile);
         CatsTestCase testCase = JsonUtils.GSON.fromJson(testCaseFile, CatsTestCase.class);
+        this.executeTestCase(testCase);
+    }
+
+    private void executeTestCase(CatsTestCase testCase) throws IOException {
         LOGGER.info("Calling service...");
+        testCase.getRequest().restoreLargeValues();
         CatsResponse response = serviceCaller.callService(testCase.getRequest(), Collections.emptySet());
 
         LOGGER.complete("Response body: \n{}", JsonUtils.GSON.toJson(response.getJsonBody()));
     }
 
+    /**
+     * Reads the archive line by line and keeps only the requested tests. Compressed archives are made of one gzip member per test case,
+     * which are read as a single stream.
+     *
+     * @param testIds the tests to load, without spaces
+     * @return the requested tests found in the archive
+     * @throws IOException if something goes wrong while reading the archive
+     */
+    Map<String, CatsTestCase> loadTestCasesFromArchive(Set<String> testIds) throws IOException {
+        Map<String, CatsTestCase> testCases = new HashMap<>();
+        try (InputStream archiveStream = Files.newInputStream(Paths.get(archive));
+             BufferedReader reader = new BufferedReader(new InputStreamReader(archive.endsWith(".gz") ? new GZIPInputStream(archiveStream) : archiveStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null && testCases.size() < testIds.size()) {
+                CatsTestCase testCase = JsonUtils.GSON.fromJson(line, CatsTestCase.class);
+                String testId = testCase.getTestId().replace(" ", "");
+                if (testIds.contains(testId)) {
+                    testCases.put(testId, testCase);
+                }
+            }
+        }
+        return testCases;
+    }
+
+    private void executeTestCasesFromArchive() {
+        List<String> testIds = Optional.ofNullable(tests).map(Arrays::asList).orElse(Collections.emptyList()).stream()
+                .map(testCase -> testCase.replace(" ", ""))
+                .collect(Collectors.toList());
+        try {
+            Map<String, CatsTestCase> testCases = this.loadTestCasesFromArchive(new HashSet<>(testIds));
+            for (String testId : testIds) {
+                LOGGER.start("Executing {}", testId);
+                if (testCases.containsKey(testId)) {
+                    this.executeTestCase(testCases.get(testId));
+                    LOGGER.complete("Finish executing {}", testId);
+                } else {
+                    LOGGER.error("Test {} was not found in {}", testId, archive);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Something went wrong while replaying tests from {}: {}", archive, e.toString());
+        }
+    }
+
     @Override
     public void run() {
+        if (archive != null) {
+            this.executeTestCasesFromArchive();
+            return;
+        }
         for (String testCaseFileName : this.parseTestCases()) {
             try {
                 LOGGER.start("Executing {}", testCaseFileName);
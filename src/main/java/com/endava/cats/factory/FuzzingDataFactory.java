@@ -2,6 +2,7 @@ package com.endava.cats.factory;
 
 import com.endava.cats.args.FilesArguments;
 import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.model.generator.GlobalContextUpdates;
 import com.endava.cats.model.generator.PayloadGenerator;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.CatsGlobalContext;
@@ -36,6 +37,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +53,8 @@ public class FuzzingDataFactory {
     private final FilesArguments filesArguments;
     private final ProcessingArguments processingArguments;
     private final CatsGlobalContext globalContext;
+    /*examples are generated only once per schema and content type; contracts reuse schemas like errors across many operations*/
+    private final Map<String, SchemaSamples> samplesCache = new ConcurrentHashMap<>();
 
     @Inject
     public FuzzingDataFactory(FilesArguments filesArguments, ProcessingArguments processingArguments, CatsGlobalContext catsGlobalContext) {
@@ -179,14 +183,15 @@ public class FuzzingDataFactory {
         List<String> requestContentTypes = this.getRequestContentTypes(operation, openAPI);
 
         for (String reqSchemaName : reqSchemaNames) {
-            List<String> payloadSamples = this.getRequestPayloadsSamples(mediaType, reqSchemaName);
+            SchemaSamples requestSamples = this.getSchemaSamples(reqSchemaName);
+            List<String> payloadSamples = this.getRequestPayloadsSamples(mediaType, requestSamples);
             fuzzingDataList.addAll(payloadSamples.stream().map(payload ->
                     FuzzingData.builder().method(method).path(path).headers(this.extractHeaders(operation)).payload(payload)
                             .responseCodes(operation.getResponses().keySet()).reqSchema(globalContext.getSchemaMap().get(reqSchemaName)).pathItem(item)
                             .responseContentTypes(responsesContentTypes)
                             .requestContentTypes(requestContentTypes)
                             .schemaMap(globalContext.getSchemaMap()).responses(responses)
-                            .requestPropertyTypes(globalContext.getRequestDataTypes())
+                            .requestPropertyTypes(requestSamples.requestPropertyTypes)
                             .openApi(openAPI)
                             .tags(operation.getTags())
                             .reqSchemaName(reqSchemaName)
@@ -209,11 +214,14 @@ public class FuzzingDataFactory {
      */
     private List<FuzzingData> getFuzzDataForNonBodyMethods(String path, PathItem item, Operation operation, OpenAPI openAPI, HttpMethod method) {
         ObjectSchema syntheticSchema = this.createSyntheticSchemaForGet(operation.getParameters());
+        /*operationId is optional, so the synthetic schema is registered for the path and HTTP method, which are unique*/
+        String syntheticSchemaName = SYNTH_SCHEMA_NAME + method + path;
 
-        globalContext.getSchemaMap().put(SYNTH_SCHEMA_NAME + operation.getOperationId(), syntheticSchema);
+        globalContext.getSchemaMap().put(syntheticSchemaName, syntheticSchema);
         Set<String> queryParams = this.extractQueryParams(syntheticSchema);
 
-        List<String> payloadSamples = this.getRequestPayloadsSamples(null, SYNTH_SCHEMA_NAME + operation.getOperationId());
+        SchemaSamples requestSamples = this.getSchemaSamples(syntheticSchemaName);
+        List<String> payloadSamples = this.getRequestPayloadsSamples(null, requestSamples);
         Map<String, List<String>> responses = this.getResponsePayloads(operation, operation.getResponses().keySet());
         Map<String, List<String>> responsesContentTypes = this.getResponseContentTypes(operation, operation.getResponses().keySet());
         List<String> requestContentTypes = this.getRequestContentTypes(operation, openAPI);
@@ -222,7 +230,7 @@ public class FuzzingDataFactory {
                 .responseCodes(operation.getResponses().keySet()).reqSchema(syntheticSchema).pathItem(item)
                 .schemaMap(globalContext.getSchemaMap()).responses(responses)
                 .responseContentTypes(responsesContentTypes)
-                .requestPropertyTypes(globalContext.getRequestDataTypes())
+                .requestPropertyTypes(requestSamples.requestPropertyTypes)
                 .requestContentTypes(requestContentTypes)
                 .queryParams(queryParams)
                 .openApi(openAPI)
@@ -277,9 +285,8 @@ public class FuzzingDataFactory {
         return null;
     }
 
-    private List<String> getRequestPayloadsSamples(MediaType mediaType, String reqSchemaName) {
-        PayloadGenerator generator = new PayloadGenerator(globalContext, processingArguments.isUseExamples());
-        List<String> result = this.generateSample(reqSchemaName, generator);
+    private List<String> getRequestPayloadsSamples(MediaType mediaType, SchemaSamples requestSamples) {
+        List<String> result = requestSamples.samples;
 
         if (mediaType != null && mediaType.getSchema() instanceof ArraySchema) {
             /*when dealing with ArraySchemas we make sure we have 2 elements in the array*/
@@ -288,15 +295,39 @@ public class FuzzingDataFactory {
         return result;
     }
 
-    private List<String> generateSample(String reqSchemaName, PayloadGenerator generator) {
-        List<Map<String, String>> examples = generator.generate(List.of(processingArguments.getContentType()), reqSchemaName);
+    /**
+     * Samples are cached for the entire run, by schema name and content type. Cached samples are only reused if the schema registered with that name is the same.
+     * When a cached sample is reused, the entries added by the {@link PayloadGenerator} to the global context are added again,
+     * so that the global context looks the same as if the sample was generated again.
+     *
+     * @param reqSchemaName the name of the schema
+     * @return all the payload combinations for the given schema, along with the data types of their fields
+     */
+    private SchemaSamples getSchemaSamples(String reqSchemaName) {
+        String contentType = processingArguments.getContentType();
+        String key = contentType + ":" + reqSchemaName;
+        Schema<?> schema = globalContext.getSchemaMap().get(reqSchemaName);
+        SchemaSamples cached = samplesCache.get(key);
+        if (cached != null && cached.schema == schema) {
+            cached.contextUpdates.applyTo(globalContext);
+            return cached;
+        }
+        SchemaSamples generated = this.generateSample(reqSchemaName, contentType);
+        samplesCache.put(key, generated);
+        return generated;
+    }
+
+    private SchemaSamples generateSample(String reqSchemaName, String contentType) {
+        /*each schema gets its own seeded generator, so cached samples don't depend on the order in which schemas are first used*/
+        PayloadGenerator generator = new PayloadGenerator(globalContext, processingArguments.isUseExamples());
+        List<Map<String, String>> examples = generator.generate(List.of(contentType), reqSchemaName);
         if (examples.isEmpty()) {
             throw new IllegalArgumentException("Scheme is not declared: " + reqSchemaName);
         }
         String payloadSample = examples.get(0).get("example");
 
         payloadSample = this.squashAllOfElements(payloadSample);
-        return this.getPayloadCombinationsBasedOnOneOfAndAnyOf(payloadSample);
+        return new SchemaSamples(globalContext.getSchemaMap().get(reqSchemaName), List.copyOf(this.getPayloadCombinationsBasedOnOneOfAndAnyOf(payloadSample)), generator.getContextUpdates());
     }
 
     /**
@@ -447,12 +478,11 @@ public class FuzzingDataFactory {
      */
     private Map<String, List<String>> getResponsePayloads(Operation operation, Set<String> responseCodes) {
         Map<String, List<String>> responses = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        PayloadGenerator generator = new PayloadGenerator(globalContext, processingArguments.isUseExamples());
         for (String responseCode : responseCodes) {
             String responseSchemaRef = this.extractResponseSchemaRef(operation, responseCode);
             if (responseSchemaRef != null) {
                 String respSchemaName = this.getSchemaName(responseSchemaRef);
-                List<String> samples = this.generateSample(respSchemaName, generator);
+                List<String> samples = this.getSchemaSamples(respSchemaName).samples;
 
                 responses.put(responseCode, samples);
             } else {
@@ -491,4 +521,19 @@ public class FuzzingDataFactory {
 
         return headers;
     }
+
+    private static class SchemaSamples {
+        private final Schema<?> schema;
+        private final List<String> samples;
+        private final GlobalContextUpdates contextUpdates;
+        /*the data types of the fields of this schema only; the global request data types are keyed by field name and shared by all paths*/
+        private final Map<String, Schema> requestPropertyTypes;
+
+        SchemaSamples(Schema<?> schema, List<String> samples, GlobalContextUpdates contextUpdates) {
+            this.schema = schema;
+            this.samples = samples;
+            this.contextUpdates = contextUpdates;
+            this.requestPropertyTypes = Collections.unmodifiableMap(new HashMap<>(contextUpdates.getRequestDataTypes()));
+        }
+    }
 }
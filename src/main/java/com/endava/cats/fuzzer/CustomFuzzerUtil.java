@@ -9,6 +9,7 @@ import com.endava.cats.io.ServiceData;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.model.FuzzingStrategy;
+import com.endava.cats.model.util.JsonDocument;
 import com.endava.cats.model.util.JsonUtils;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
@@ -60,7 +61,7 @@ public class CustomFuzzerUtil {
         catsUtil.setAdditionalPropertiesToPayload(currentPathValues, payloadWithCustomValuesReplaced);
 
         String servicePath = this.replacePathVariablesWithCustomValues(data, currentPathValues);
-        CatsResponse response = serviceCaller.call(ServiceData.builder().relativePath(servicePath).replaceRefData(false).httpMethod(data.getMethod())
+        CatsResponse response = serviceCaller.call(ServiceData.builder().relativePath(servicePath).replaceRefData(false).deduplicate(false).httpMethod(data.getMethod())
                 .headers(data.getHeaders()).payload(payloadWithCustomValuesReplaced).queryParams(data.getQueryParams()).build());
 
         this.setOutputVariables(currentPathValues, response, payloadWithCustomValuesReplaced);
@@ -199,7 +200,7 @@ public class CustomFuzzerUtil {
 
         for (Map.Entry<String, String> entry : currentPathValues.entrySet()) {
             if (this.isNotAReservedWord(entry.getKey())) {
-                payload = this.replaceElementWithCustomValue(entry, payload);
+                payload = this.replaceElementWithCustomValue(entry, JsonDocument.parse(payload, data.getFieldPathIndex()));
             }
         }
 
@@ -238,7 +239,7 @@ public class CustomFuzzerUtil {
     public boolean wasOneOfSelectionReplaced(String oneOfSelection, FuzzingData data) {
         String[] oneOfArray = oneOfSelection.replace("{", "").replace("}", "").split("=");
 
-        String updatedJson = this.replaceElementWithCustomValue(new AbstractMap.SimpleEntry<>(oneOfArray[0], oneOfArray[1]), data.getPayload());
+        String updatedJson = this.replaceElementWithCustomValue(new AbstractMap.SimpleEntry<>(oneOfArray[0], oneOfArray[1]), data.getPayloadDocument());
         return JsonUtils.equalAsJson(data.getPayload(), updatedJson);
     }
 
@@ -290,14 +291,14 @@ public class CustomFuzzerUtil {
         return !CatsDSLWords.RESERVED_WORDS.contains(key);
     }
 
-    private String replaceElementWithCustomValue(Map.Entry<String, String> keyValue, String payload) {
-        String toReplace = catsDSLParser.parseAndGetResult(this.getPropertyValueToReplaceInBody(keyValue), payload);
+    private String replaceElementWithCustomValue(Map.Entry<String, String> keyValue, JsonDocument payload) {
+        String toReplace = catsDSLParser.parseAndGetResult(this.getPropertyValueToReplaceInBody(keyValue), payload.jsonString());
         try {
             FuzzingStrategy fuzzingStrategy = FuzzingStrategy.replace().withData(toReplace);
             return catsUtil.replaceField(payload, keyValue.getKey(), fuzzingStrategy).getJson();
         } catch (Exception e) {
             log.warning("Property [{}] does not exist", keyValue.getKey());
-            return payload;
+            return payload.jsonString();
         }
     }
 
@@ -10,8 +10,10 @@ import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.io.ServiceData;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.SetCombinations;
+import com.endava.cats.model.util.JsonDocument;
 import com.endava.cats.report.TestCaseListener;
-import com.endava.cats.model.util.JsonUtils;
+import com.google.common.collect.Iterables;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 
@@ -44,7 +46,7 @@ public class RemoveFieldsFuzzer implements Fuzzer {
 
     public void fuzz(FuzzingData data) {
         LOGGER.info("All required fields, including subfields: {}", data.getAllRequiredFields());
-        Set<Set<String>> sets = this.getAllFields(data);
+        Iterable<Set<String>> sets = this.getAllFields(data);
 
         for (Set<String> subset : sets) {
             Set<String> finalSubset = this.removeIfSkipped(subset);
@@ -60,28 +62,30 @@ public class RemoveFieldsFuzzer implements Fuzzer {
                 .collect(Collectors.toSet());
     }
 
-    private Set<Set<String>> getAllFields(FuzzingData data) {
-        Set<Set<String>> sets = data.getAllFields(FuzzingData.SetFuzzingStrategy.valueOf(processingArguments.getFieldsFuzzingStrategy().name())
+    private Iterable<Set<String>> getAllFields(FuzzingData data) {
+        SetCombinations<String> sets = data.getAllFields(FuzzingData.SetFuzzingStrategy.valueOf(processingArguments.getFieldsFuzzingStrategy().name())
                 , processingArguments.getMaxFieldsToRemove());
+        int maxCombinations = processingArguments.getMaxFieldsCombinations();
+        long combinationsToRun = maxCombinations > 0 ? Math.min(sets.size(), maxCombinations) : sets.size();
 
         LOGGER.info("Fuzzer will run with [{}] fields configuration possibilities out of [{}] maximum possible",
-                sets.size(), (int) Math.pow(2, data.getAllFieldsByHttpMethod().size()));
+                combinationsToRun, sets.size());
 
-        return sets;
+        return maxCombinations > 0 ? Iterables.limit(sets, maxCombinations) : sets;
     }
 
 
     private void process(FuzzingData data, List<String> required, Set<String> subset) {
-        String finalJsonPayload = this.getFuzzedJsonWithFieldsRemove(data.getPayload(), subset);
+        JsonDocument fuzzedDocument = data.getPayloadDocument().withoutFields(subset);
 
-        if (!JsonUtils.equalAsJson(finalJsonPayload, data.getPayload())) {
+        if (!fuzzedDocument.hasSameContentAs(data.getPayloadDocument())) {
             testCaseListener.addScenario(LOGGER, "Remove the following fields from request: {}", subset);
 
             boolean hasRequiredFieldsRemove = this.hasRequiredFieldsRemove(required, subset);
             testCaseListener.addExpectedResult(LOGGER, "Should return [{}] response code as required fields [{}] removed", ResponseCodeFamily.getExpectedWordingBasedOnRequiredFields(hasRequiredFieldsRemove));
 
             CatsResponse response = serviceCaller.call(ServiceData.builder().relativePath(data.getPath()).headers(data.getHeaders())
-                    .payload(finalJsonPayload).queryParams(data.getQueryParams()).httpMethod(data.getMethod()).build());
+                    .payload(fuzzedDocument.jsonString()).queryParams(data.getQueryParams()).httpMethod(data.getMethod()).build());
             testCaseListener.reportResult(LOGGER, data, response, ResponseCodeFamily.getResultCodeBasedOnRequiredFieldsRemoved(hasRequiredFieldsRemove));
         } else {
             testCaseListener.skipTest(LOGGER, "Field is from a different ANY_OF or ONE_OF payload");
@@ -94,20 +98,6 @@ public class RemoveFieldsFuzzer implements Fuzzer {
         return !intersection.isEmpty();
     }
 
-
-    private String getFuzzedJsonWithFieldsRemove(String payload, Set<String> fieldsToRemove) {
-        String prefix = "";
-
-        if (JsonUtils.isJsonArray(payload)) {
-            prefix = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY;
-        }
-        for (String field : fieldsToRemove) {
-            payload = JsonUtils.deleteNode(payload, prefix + field);
-        }
-
-        return payload;
-    }
-
     @Override
     public String toString() {
         return this.getClass().getSimpleName().replace("_Subclass", "");
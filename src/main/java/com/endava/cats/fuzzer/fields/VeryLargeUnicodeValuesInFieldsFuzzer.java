@@ -32,7 +32,7 @@ public class VeryLargeUnicodeValuesInFieldsFuzzer extends ExpectOnly4XXBaseField
 
     @Override
     protected List<FuzzingStrategy> getFieldFuzzingStrategy(FuzzingData data, String fuzzedField) {
-        return PayloadUtils.getLargeValuesStrategy(processingArguments.getLargeStringsSize());
+        return PayloadUtils.getLargeValuesInPayloadStrategy(processingArguments.getLargeStringsSize());
     }
 
     @Override
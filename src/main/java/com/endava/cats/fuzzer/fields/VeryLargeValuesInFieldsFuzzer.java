@@ -35,7 +35,7 @@ public class VeryLargeValuesInFieldsFuzzer extends ExpectOnly4XXBaseFieldsFuzzer
     protected List<FuzzingStrategy> getFieldFuzzingStrategy(FuzzingData data, String fuzzedField) {
         return Collections.singletonList(
                 FuzzingStrategy.replace().withData(
-                        StringGenerator.generateLargeString(processingArguments.getLargeStringsSize() / 4)));
+                        StringGenerator.generateLargeValue(processingArguments.getLargeStringsSize() / 4)));
     }
 
     @Override
@@ -11,7 +11,7 @@ import com.endava.cats.model.FuzzingConstraints;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.model.FuzzingResult;
 import com.endava.cats.model.FuzzingStrategy;
-import com.endava.cats.model.util.JsonUtils;
+import com.endava.cats.model.LargeValue;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
@@ -73,7 +73,7 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
                 this.typeOfDataSentToTheService(), fuzzedField, fuzzingStrategy.truncatedValue(), fuzzingConstraints.getRequiredString());
 
         if (this.isFuzzingPossible(data, fuzzedField, fuzzingStrategy)) {
-            FuzzingResult fuzzingResult = catsUtil.replaceField(data.getPayload(), fuzzedField, fuzzingStrategy);
+            FuzzingResult fuzzingResult = catsUtil.replaceField(data.getPayloadDocument(), fuzzedField, fuzzingStrategy);
             boolean isFuzzedValueMatchingPattern = this.isFuzzedValueMatchingPattern(fuzzingResult.getFuzzedValue(), data, fuzzedField);
 
             ServiceData serviceData = ServiceData.builder().relativePath(data.getPath())
@@ -111,7 +111,7 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
      * @return true if fuzzing is possible, false otherwise
      */
     private boolean isFuzzingPossible(FuzzingData data, String fuzzedField, FuzzingStrategy fuzzingStrategy) {
-        return !fuzzingStrategy.isSkip() && JsonUtils.isPrimitive(data.getPayload(), fuzzedField)
+        return !fuzzingStrategy.isSkip() && data.getPayloadDocument().isPrimitive(fuzzedField)
                 && isFuzzingPossibleSpecificToFuzzer(data, fuzzedField, fuzzingStrategy)
                 && !isSkippedField(fuzzedField);
     }
@@ -148,6 +148,7 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
 
     /**
      * For byte format OpenAPI is expecting a base64 encoded string. We consider this matching any pattern.
+     * Large values which are not built in memory are considered as not matching the pattern.
      *
      * @param fieldValue  the current value of the field
      * @param data        the current FuzzingData object
@@ -159,6 +160,9 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
         if (fieldSchema.getPattern() == null || fieldSchema instanceof ByteArraySchema) {
             return true;
         }
+        if (LargeValue.isLargeValue(fieldValue)) {
+            return false;
+        }
         Pattern pattern = Pattern.compile(fieldSchema.getPattern());
 
         return fieldValue == null || pattern.matcher(fieldValue).matches();
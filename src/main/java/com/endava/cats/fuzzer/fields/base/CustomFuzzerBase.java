@@ -7,4 +7,14 @@ import java.util.List;
 public interface CustomFuzzerBase extends Fuzzer {
 
     List<String> reservedWords();
+
+    /**
+     * Custom fuzzers are executed sequentially, as later tests might use variables produced by earlier ones.
+     *
+     * @return false
+     */
+    @Override
+    default boolean isConcurrencySafe() {
+        return false;
+    }
 }
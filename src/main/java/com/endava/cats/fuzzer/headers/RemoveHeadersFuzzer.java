@@ -36,7 +36,7 @@ public class RemoveHeadersFuzzer implements Fuzzer {
             return;
         }
 
-        Set<Set<CatsHeader>> headersCombination = FuzzingData.SetFuzzingStrategy.powerSet(data.getHeaders());
+        Iterable<Set<CatsHeader>> headersCombination = FuzzingData.SetFuzzingStrategy.powerSet(data.getHeaders());
         Set<CatsHeader> mandatoryHeaders = data.getHeaders().stream().filter(CatsHeader::isRequired).collect(Collectors.toSet());
 
         for (Set<CatsHeader> headersSubset : headersCombination) {
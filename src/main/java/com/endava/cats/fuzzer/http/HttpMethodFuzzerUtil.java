@@ -12,6 +12,7 @@ import org.apache.http.HttpStatus;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 @Singleton
@@ -25,12 +26,20 @@ public class HttpMethodFuzzerUtil {
     }
 
     public void process(FuzzingData data, Function<ServiceData, CatsResponse> f, HttpMethod httpMethod) {
+        CatsResponse response = f.apply(this.createServiceData(data, httpMethod));
+        this.checkResponse(response);
+    }
+
+    public CompletableFuture<Void> processAsync(FuzzingData data, Function<ServiceData, CompletableFuture<CatsResponse>> f, HttpMethod httpMethod) {
+        return f.apply(this.createServiceData(data, httpMethod)).thenAccept(this::checkResponse);
+    }
+
+    private ServiceData createServiceData(FuzzingData data, HttpMethod httpMethod) {
         testCaseListener.addScenario(LOGGER, "Send a happy flow request with undocumented HTTP method: {}", httpMethod);
         testCaseListener.addExpectedResult(LOGGER, "Should get a 405 response code");
         String payload = HttpMethod.requiresBody(httpMethod) ? data.getPayload() : "";
-        CatsResponse response = f.apply(ServiceData.builder().relativePath(data.getPath()).headers(data.getHeaders())
-                .payload(payload).httpMethod(httpMethod).build());
-        this.checkResponse(response);
+        return ServiceData.builder().relativePath(data.getPath()).headers(data.getHeaders())
+                .payload(payload).httpMethod(httpMethod).build();
     }
 
     public void checkResponse(CatsResponse response) {
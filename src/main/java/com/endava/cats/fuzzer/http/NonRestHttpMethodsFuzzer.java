@@ -33,7 +33,11 @@ public class NonRestHttpMethodsFuzzer implements Fuzzer {
     public void fuzz(FuzzingData data) {
         if (!fuzzedPaths.contains(data.getPath())) {
             for (HttpMethod httpMethod : HttpMethod.nonRestMethods()) {
-                testCaseListener.createAndExecuteTest(LOGGER, this, () -> httpMethodFuzzerUtil.process(data, serviceCaller::call, httpMethod));
+                if (testCaseListener.isConcurrentExecutionPossible(this)) {
+                    testCaseListener.createAndExecuteAsyncTest(LOGGER, this, () -> httpMethodFuzzerUtil.processAsync(data, serviceCaller::callAsync, httpMethod));
+                } else {
+                    testCaseListener.createAndExecuteTest(LOGGER, this, () -> httpMethodFuzzerUtil.process(data, serviceCaller::call, httpMethod));
+                }
             }
             fuzzedPaths.add(data.getPath());
         }
@@ -1,5 +1,6 @@
 package com.endava.cats.generator.simple;
 
+import com.endava.cats.model.LargeValue;
 import com.github.curiousoddman.rgxgen.RgxGen;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
@@ -65,6 +66,17 @@ public class StringGenerator {
         return StringUtils.repeat(FUZZ, times);
     }
 
+    /**
+     * Same as {@link #generateLargeString(int)}, but values which don't fit in memory are returned as {@link LargeValue} placeholders.
+     * This must only be used for values sent inside the request payload.
+     *
+     * @param times number of times to repeat the fuzz string
+     * @return the large string or a placeholder for it
+     */
+    public static String generateLargeValue(long times) {
+        return LargeValue.repeat(FUZZ, times);
+    }
+
     /**
      * This method generates a random string according to the given input. If the pattern already has length information the min/max will be ignored.
      *
@@ -115,7 +127,7 @@ public class StringGenerator {
      */
     public static String generateRightBoundString(Schema<?> schema) {
         long minLength = getRightBoundaryLength(schema);
-        return StringUtils.repeat('a', (int) minLength);
+        return LargeValue.repeat("a", minLength);
     }
 
     public static long getRightBoundaryLength(Schema<?> schema) {
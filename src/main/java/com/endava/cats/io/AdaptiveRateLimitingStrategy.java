@@ -0,0 +1,167 @@
+package com.endava.cats.io;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIMD (additive increase, multiplicative decrease) rate limiting. The strategy starts at a fraction of {@code --maxRequestsPerMinute}
+ * and increases the rate linearly after each window of stable responses. The rate is halved when the service signals
+ * back-pressure through {@code 429} or {@code 503} response codes or when the p95 latency of a window rises significantly
+ * above the best p95 latency observed so far. Latencies are tracked separately for each HTTP method and path, as the endpoints of a
+ * service can have very different latencies and CATS switches between them. {@code Retry-After} headers pause all requests for the given period.
+ * The rate will never exceed {@code --maxRequestsPerMinute}.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class AdaptiveRateLimitingStrategy implements RateLimitingStrategy {
+    static final int WINDOW_SIZE = 20;
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(AdaptiveRateLimitingStrategy.class);
+    private static final double INITIAL_RATE_FRACTION = 0.1;
+    private static final double INCREASE_FRACTION = 0.05;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double LATENCY_DEGRADATION_FACTOR = 1.5;
+    private static final long LATENCY_DEGRADATION_MIN_DELTA_MS = 50;
+    private static final long DECREASE_COOL_DOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_RETRY_AFTER_SECONDS = 300;
+
+    private final RateLimiter rateLimiter;
+    private final double maxRate;
+    private final double minRate;
+    private final double increaseStep;
+    private final Map<String, LatencyWindow> latencyWindows = new HashMap<>();
+    private long lastDecreaseNanos;
+    private volatile long pausedUntilNanos;
+
+    public AdaptiveRateLimitingStrategy(double maxPermitsPerSecond) {
+        this.maxRate = maxPermitsPerSecond;
+        this.minRate = Math.min(maxPermitsPerSecond, 1);
+        this.increaseStep = Math.max(maxPermitsPerSecond * INCREASE_FRACTION, minRate / 10);
+        this.rateLimiter = RateLimiter.create(Math.max(minRate, maxPermitsPerSecond * INITIAL_RATE_FRACTION));
+        this.lastDecreaseNanos = System.nanoTime() - DECREASE_COOL_DOWN_NANOS;
+    }
+
+    @Override
+    public void acquire() {
+        long remainingPause = pausedUntilNanos - System.nanoTime();
+        if (remainingPause > 0) {
+            LOGGER.note("Service requested a pause. Waiting {} ms before sending the request", TimeUnit.NANOSECONDS.toMillis(remainingPause));
+            sleep(remainingPause);
+        }
+        rateLimiter.acquire();
+    }
+
+    @Override
+    public synchronized void onResponse(String operation, int responseCode, long responseTimeInMs, String retryAfter) {
+        this.pauseIfRequested(retryAfter);
+        LatencyWindow latencyWindow = latencyWindows.computeIfAbsent(operation, key -> new LatencyWindow());
+
+        if (responseCode == 429 || responseCode == 503) {
+            latencyWindow.position = 0;
+            this.decrease("service responded with " + responseCode);
+            return;
+        }
+
+        latencyWindow.latencies[latencyWindow.position++] = responseTimeInMs;
+        if (latencyWindow.position == WINDOW_SIZE) {
+            latencyWindow.position = 0;
+            long windowP95 = latencyWindow.getP95();
+            long baselineP95 = latencyWindow.baselineP95;
+
+            if (windowP95 > baselineP95 * LATENCY_DEGRADATION_FACTOR && windowP95 - baselineP95 > LATENCY_DEGRADATION_MIN_DELTA_MS) {
+                this.decrease("p95 latency of " + operation + " increased from " + baselineP95 + " ms to " + windowP95 + " ms");
+            } else {
+                latencyWindow.baselineP95 = Math.min(baselineP95, windowP95);
+                this.increase();
+            }
+        }
+    }
+
+    public double getCurrentRate() {
+        return rateLimiter.getRate();
+    }
+
+    long getRemainingPauseInMs() {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(pausedUntilNanos - System.nanoTime()));
+    }
+
+    private void increase() {
+        double newRate = Math.min(maxRate, rateLimiter.getRate() + increaseStep);
+        if (newRate != rateLimiter.getRate()) {
+            LOGGER.debug("Stable responses. Increasing rate to {} requests per second", newRate);
+            rateLimiter.setRate(newRate);
+        }
+    }
+
+    private void decrease(String reason) {
+        long now = System.nanoTime();
+        if (now - lastDecreaseNanos < DECREASE_COOL_DOWN_NANOS) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        double newRate = Math.max(minRate, rateLimiter.getRate() * DECREASE_FACTOR);
+        LOGGER.note("Back-pressure detected: {}. Decreasing rate to {} requests per second", reason, newRate);
+        rateLimiter.setRate(newRate);
+    }
+
+    private void pauseIfRequested(String retryAfter) {
+        long pauseInSeconds = Math.min(MAX_RETRY_AFTER_SECONDS, parseRetryAfter(retryAfter));
+        if (pauseInSeconds > 0) {
+            pausedUntilNanos = Math.max(pausedUntilNanos, System.nanoTime() + TimeUnit.SECONDS.toNanos(pauseInSeconds));
+        }
+    }
+
+    /**
+     * The {@code Retry-After} header can either be a number of seconds or an HTTP date.
+     *
+     * @param retryAfter the value of the header
+     * @return the number of seconds to wait or 0 if the value is missing or cannot be parsed
+     */
+    static long parseRetryAfter(String retryAfter) {
+        if (StringUtils.isBlank(retryAfter)) {
+            return 0;
+        }
+        String value = retryAfter.trim();
+        if (StringUtils.isNumeric(value)) {
+            return value.length() > 6 ? MAX_RETRY_AFTER_SECONDS : Long.parseLong(value);
+        }
+        try {
+            return Math.max(0, Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME)).getSeconds());
+        } catch (DateTimeParseException e) {
+            LOGGER.debug("Unable to parse Retry-After header {}", value);
+            return 0;
+        }
+    }
+
+    /**
+     * The latest response times of an HTTP method and path and the best p95 latency observed for them so far.
+     */
+    private static final class LatencyWindow {
+        private final long[] latencies = new long[WINDOW_SIZE];
+        private int position;
+        private long baselineP95 = Long.MAX_VALUE;
+
+        private long getP95() {
+            long[] sorted = Arrays.copyOf(latencies, WINDOW_SIZE);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(0.95 * WINDOW_SIZE) - 1];
+        }
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
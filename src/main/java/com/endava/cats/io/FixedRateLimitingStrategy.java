@@ -0,0 +1,25 @@
+package com.endava.cats.io;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+/**
+ * Sends requests at a constant pace given by {@code --maxRequestsPerMinute}, regardless of the service's behaviour.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class FixedRateLimitingStrategy implements RateLimitingStrategy {
+    private final RateLimiter rateLimiter;
+
+    public FixedRateLimitingStrategy(double permitsPerSecond) {
+        this.rateLimiter = RateLimiter.create(permitsPerSecond);
+    }
+
+    @Override
+    public void acquire() {
+        rateLimiter.acquire();
+    }
+
+    @Override
+    public void onResponse(String operation, int responseCode, long responseTimeInMs, String retryAfter) {
+        //the pace is fixed, nothing to adjust
+    }
+}
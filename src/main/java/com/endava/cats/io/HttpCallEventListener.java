@@ -0,0 +1,117 @@
+package com.endava.cats.io;
+
+import com.endava.cats.report.ExecutionStatisticsListener;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Listens to the lifecycle of the HTTP calls made by {@link ServiceCaller} in order to compute connection usage statistics,
+ * the number of requests in flight and the duration of each phase of the call.
+ * A new listener is created for each call, using the {@link HttpCallTimer} attached to the request.
+ */
+public class HttpCallEventListener extends EventListener {
+    private final ExecutionStatisticsListener executionStatisticsListener;
+    private final HttpCallTimer timer;
+
+    public HttpCallEventListener(ExecutionStatisticsListener executionStatisticsListener, Call call) {
+        this.executionStatisticsListener = executionStatisticsListener;
+        this.timer = Optional.ofNullable(call.request().tag(HttpCallTimer.class)).orElseGet(HttpCallTimer::new);
+    }
+
+    @Override
+    public void callStart(Call call) {
+        executionStatisticsListener.increaseInFlightRequests();
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        executionStatisticsListener.decreaseInFlightRequests();
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        executionStatisticsListener.decreaseInFlightRequests();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        timer.dnsStart();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        timer.dnsEnd();
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        timer.connectStart();
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        timer.secureConnectStart();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        timer.secureConnectEnd();
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        timer.connectEnd();
+        executionStatisticsListener.increaseConnectionsOpened();
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        timer.connectEnd();
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        executionStatisticsListener.increaseConnectionsAcquired();
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        timer.requestStart();
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        timer.requestEnd();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        timer.requestEnd();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        timer.responseStart();
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        timer.downloadStart();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        timer.downloadEnd();
+    }
+}
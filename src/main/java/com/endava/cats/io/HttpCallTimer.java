@@ -0,0 +1,133 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.HttpPhaseTimings;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the phases of a single HTTP call using the events received by {@link HttpCallEventListener}. The timer is attached to the request as a tag,
+ * so that the timings can be added to the response once the body is read. Phases happening more than once, like when a connection attempt fails
+ * or a redirect is followed, are added up.
+ * <p>
+ * All events of a call are received on the thread executing the call, so no synchronization is needed.
+ * <p>
+ * The response time is measured from the moment the call starts executing. For asynchronous calls this is when the dispatcher runs the call,
+ * not when the call is enqueued, so the time spent waiting for a free slot in the dispatcher queue is not counted as response time.
+ * The {@code callStart} event cannot be used for this, as OkHttp fires it on enqueue.
+ */
+final class HttpCallTimer {
+    private static final double NANOS_IN_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private long callStart = System.nanoTime();
+    private long dnsStart;
+    private long dnsNanos;
+    private long connectStart;
+    private long connectNanos;
+    private long tlsStart;
+    private long tlsNanos;
+    private long requestStart;
+    private long requestEnd;
+    private long requestWriteNanos;
+    private long serverNanos;
+    private long downloadStart;
+    private long downloadNanos;
+
+    /**
+     * Application interceptor marking the moment the call starts executing. Application interceptors run once per call,
+     * on the thread executing it, before any retry or redirect.
+     *
+     * @param chain the interceptor chain
+     * @return the response received from the rest of the chain
+     * @throws IOException if the call fails
+     */
+    static Response markCallStart(Interceptor.Chain chain) throws IOException {
+        Optional.ofNullable(chain.request().tag(HttpCallTimer.class)).ifPresent(HttpCallTimer::callStart);
+        return chain.proceed(chain.request());
+    }
+
+    void callStart() {
+        callStart = System.nanoTime();
+    }
+
+    long getElapsedNanos() {
+        return System.nanoTime() - callStart;
+    }
+
+    void dnsStart() {
+        dnsStart = System.nanoTime();
+    }
+
+    void dnsEnd() {
+        dnsNanos += System.nanoTime() - dnsStart;
+    }
+
+    void connectStart() {
+        connectStart = System.nanoTime();
+    }
+
+    void connectEnd() {
+        connectNanos += System.nanoTime() - connectStart;
+    }
+
+    void secureConnectStart() {
+        tlsStart = System.nanoTime();
+    }
+
+    void secureConnectEnd() {
+        tlsNanos += System.nanoTime() - tlsStart;
+    }
+
+    void requestStart() {
+        requestStart = System.nanoTime();
+    }
+
+    /**
+     * Called both when the headers and when the body are written, as requests without a body end after the headers.
+     */
+    void requestEnd() {
+        long now = System.nanoTime();
+        requestWriteNanos += now - Math.max(requestStart, requestEnd);
+        requestEnd = now;
+    }
+
+    void responseStart() {
+        if (requestEnd > 0) {
+            serverNanos += System.nanoTime() - requestEnd;
+            requestEnd = 0;
+        }
+    }
+
+    void downloadStart() {
+        downloadStart = System.nanoTime();
+    }
+
+    void downloadEnd() {
+        downloadNanos += System.nanoTime() - downloadStart;
+    }
+
+    /**
+     * Returns the duration of each phase. The download only ends once the whole body is read, so the download time
+     * is left unknown when the body was not fully read.
+     *
+     * @param bodyFullyRead whether the whole response body was read
+     * @return the duration of each phase in milliseconds
+     */
+    HttpPhaseTimings toTimings(boolean bodyFullyRead) {
+        return HttpPhaseTimings.builder()
+                .dns(toMs(dnsNanos))
+                .connect(toMs(Math.max(0, connectNanos - tlsNanos)))
+                .tls(toMs(tlsNanos))
+                .requestWrite(toMs(requestWriteNanos))
+                .server(toMs(serverNanos))
+                .download(bodyFullyRead ? toMs(downloadNanos) : null)
+                .build();
+    }
+
+    private static double toMs(long nanos) {
+        return Math.round(nanos / NANOS_IN_MS * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,22 @@
+package com.endava.cats.io;
+
+/**
+ * Controls the pace at which {@link ServiceCaller} sends requests to the service.
+ */
+public interface RateLimitingStrategy {
+
+    /**
+     * Blocks the calling thread until a new request can be sent to the service.
+     */
+    void acquire();
+
+    /**
+     * Notifies the strategy about a response received from the service, so that it can adjust the pace of the following requests.
+     *
+     * @param operation        the HTTP method and path of the request, like {@code POST /pets}
+     * @param responseCode     the HTTP response code
+     * @param responseTimeInMs the response time in milliseconds
+     * @param retryAfter       the value of the {@code Retry-After} response header or {@code null} if not present
+     */
+    void onResponse(String operation, int responseCode, long responseTimeInMs, String retryAfter);
+}
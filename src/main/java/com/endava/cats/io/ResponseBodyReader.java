@@ -0,0 +1,102 @@
+package com.endava.cats.io;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import lombok.Getter;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Reads a response body in a single pass. The body is read at most once, up to an optional maximum number of bytes, and it's parsed at most once.
+ * The parsed JSON is kept alongside the body, so that consumers don't need to parse it again.
+ * Binary responses, detected either by their Content-Type or by the presence of NUL bytes, are not converted to a String.
+ * Bodies having a binary Content-Type or more than the maximum number of bytes are not fully read, which is reported by {@link #isFullyRead()}.
+ */
+@Getter
+final class ResponseBodyReader {
+    static final String NOT_A_JSON = "{\"exception\":\"Received response is not a JSON\"}";
+    private static final String TOO_LARGE = "{\"exception\":\"Received response is larger than %d bytes\"}";
+    private static final List<String> BINARY_TYPES = List.of("image", "audio", "video", "font");
+    private static final List<String> BINARY_SUBTYPES = List.of("octet-stream", "pdf", "zip", "gzip", "x-protobuf", "protobuf");
+    private static final int SNIFF_LENGTH = 1024;
+
+    private final String body;
+    private final JsonElement jsonBody;
+    private final boolean fullyRead;
+
+    private ResponseBodyReader(String body, JsonElement jsonBody, boolean fullyRead) {
+        this.body = body;
+        this.jsonBody = jsonBody;
+        this.fullyRead = fullyRead;
+    }
+
+    /**
+     * Reads and parses the given response body.
+     *
+     * @param responseBody the response body; might be null
+     * @param maxBytes     the maximum number of bytes to read; 0 means no limit
+     * @return the body as a String along with the parsed JSON
+     * @throws IOException if something goes wrong while reading the body
+     */
+    static ResponseBodyReader read(ResponseBody responseBody, long maxBytes) throws IOException {
+        if (responseBody == null) {
+            return new ResponseBodyReader("", JsonNull.INSTANCE, true);
+        }
+        MediaType contentType = responseBody.contentType();
+        if (isBinary(contentType)) {
+            return notAJson(false);
+        }
+        BufferedSource source = responseBody.source();
+        if (maxBytes > 0 && source.request(maxBytes + 1)) {
+            String tooLarge = String.format(TOO_LARGE, maxBytes);
+            return new ResponseBodyReader(tooLarge, JsonParser.parseString(tooLarge), false);
+        }
+        byte[] bytes = source.readByteArray();
+        Charset charset = charsetOf(contentType);
+        if (StandardCharsets.UTF_8.equals(charset) && containsNulBytes(bytes)) {
+            return notAJson(true);
+        }
+
+        return parse(new String(bytes, charset));
+    }
+
+    private static ResponseBodyReader parse(String text) {
+        if (text.isBlank()) {
+            return new ResponseBodyReader("", JsonNull.INSTANCE, true);
+        }
+        try {
+            return new ResponseBodyReader(text, JsonParser.parseString(text), true);
+        } catch (RuntimeException e) {
+            return notAJson(true);
+        }
+    }
+
+    private static ResponseBodyReader notAJson(boolean fullyRead) {
+        return new ResponseBodyReader(NOT_A_JSON, JsonParser.parseString(NOT_A_JSON), fullyRead);
+    }
+
+    private static boolean isBinary(MediaType contentType) {
+        return contentType != null && (BINARY_TYPES.contains(contentType.type()) || BINARY_SUBTYPES.contains(contentType.subtype()));
+    }
+
+    private static boolean containsNulBytes(byte[] bytes) {
+        for (int i = 0; i < Math.min(bytes.length, SNIFF_LENGTH); i++) {
+            if (bytes[i] == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Charset charsetOf(MediaType contentType) {
+        Charset charset = contentType != null ? contentType.charset() : null;
+        return charset != null ? charset : StandardCharsets.UTF_8;
+    }
+}
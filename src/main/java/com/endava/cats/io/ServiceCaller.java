@@ -13,28 +13,38 @@ import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingStrategy;
+import com.endava.cats.model.LargeValue;
+import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.model.util.JsonUtils;
 import com.endava.cats.util.WordUtils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.common.html.HtmlEscapers;
-import com.google.common.util.concurrent.RateLimiter;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.jayway.jsonpath.PathNotFoundException;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
-import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.NameValuePair;
 import org.apache.http.message.BasicNameValuePair;
+import org.slf4j.MDC;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
@@ -47,6 +57,7 @@ import javax.net.ssl.X509TrustManager;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
@@ -62,6 +73,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -78,6 +92,8 @@ public class ServiceCaller {
     private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(ServiceCaller.class);
     private static final List<String> AUTH_HEADERS = Arrays.asList("authorization", "jwt", "api-key", "api_key", "apikey",
             "secret", "secret-key", "secret_key", "api-secret", "api_secret", "apisecret", "api-token", "api_token", "apitoken");
+    /*the recorded responses are bounded by the total length of their bodies, as this is what makes them large*/
+    private static final long MAX_RECORDED_BODIES_LENGTH = 16L * 1024 * 1024;
     private final FilesArguments filesArguments;
     private final CatsUtil catsUtil;
     private final TestCaseListener testCaseListener;
@@ -86,12 +102,17 @@ public class ServiceCaller {
     private final ApiArguments apiArguments;
     private final ProcessingArguments processingArguments;
     private final CatsGlobalContext catsGlobalContext;
+    private final ExecutionStatisticsListener executionStatisticsListener;
     OkHttpClient okHttpClient;
 
-    private RateLimiter rateLimiter;
+    private RateLimitingStrategy rateLimitingStrategy;
+    /*the responses of requests in progress are also recorded, so that identical requests sent in parallel are sent only once*/
+    private final Cache<String, CompletableFuture<CatsResponse>> recordedResponses = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_RECORDED_BODIES_LENGTH).weigher(ServiceCaller::recordedResponseWeight).build();
 
     @Inject
-    public ServiceCaller(CatsGlobalContext context, TestCaseListener lr, CatsUtil cu, FilesArguments filesArguments, CatsDSLParser cdsl, AuthArguments authArguments, ApiArguments apiArguments, ProcessingArguments processingArguments) {
+    public ServiceCaller(CatsGlobalContext context, TestCaseListener lr, CatsUtil cu, FilesArguments filesArguments, CatsDSLParser cdsl, AuthArguments authArguments,
+                         ApiArguments apiArguments, ProcessingArguments processingArguments, ExecutionStatisticsListener executionStatisticsListener) {
         this.testCaseListener = lr;
         this.catsUtil = cu;
         this.filesArguments = filesArguments;
@@ -100,11 +121,17 @@ public class ServiceCaller {
         this.apiArguments = apiArguments;
         this.processingArguments = processingArguments;
         this.catsGlobalContext = context;
+        this.executionStatisticsListener = executionStatisticsListener;
     }
 
     @PostConstruct
     public void initRateLimiter() {
-        rateLimiter = RateLimiter.create(1.0 * apiArguments.getMaxRequestsPerMinute() / 60);
+        double maxRequestsPerSecond = 1.0 * apiArguments.getMaxRequestsPerMinute() / 60;
+        if (apiArguments.getRateLimitStrategy() == ApiArguments.RateLimitStrategy.ADAPTIVE) {
+            rateLimitingStrategy = new AdaptiveRateLimitingStrategy(maxRequestsPerSecond);
+        } else {
+            rateLimitingStrategy = new FixedRateLimitingStrategy(maxRequestsPerSecond);
+        }
     }
 
     @PostConstruct
@@ -113,19 +140,52 @@ public class ServiceCaller {
             final TrustManager[] trustAllCerts = this.buildTrustAllManager();
             final SSLSocketFactory sslSocketFactory = this.buildSslSocketFactory(trustAllCerts);
 
-            okHttpClient = new OkHttpClient.Builder()
+            OkHttpClient.Builder builder = new OkHttpClient.Builder()
                     .proxy(authArguments.getProxy())
                     .connectTimeout(apiArguments.getConnectionTimeout(), TimeUnit.SECONDS)
                     .readTimeout(apiArguments.getReadTimeout(), TimeUnit.SECONDS)
                     .writeTimeout(apiArguments.getWriteTimeout(), TimeUnit.SECONDS)
-                    .connectionPool(new ConnectionPool(10, 15, TimeUnit.MINUTES))
+                    .connectionPool(new ConnectionPool(apiArguments.getMaxIdleConnections(), apiArguments.getKeepAliveDuration(), TimeUnit.SECONDS))
+                    .dispatcher(this.buildDispatcher())
+                    .eventListenerFactory(call -> new HttpCallEventListener(executionStatisticsListener, call))
+                    .addInterceptor(HttpCallTimer::markCallStart)
                     .sslSocketFactory(sslSocketFactory, (X509TrustManager) trustAllCerts[0])
-                    .hostnameVerifier((hostname, session) -> true).build();
+                    .hostnameVerifier((hostname, session) -> true);
+
+            if (apiArguments.isForceHttp2()) {
+                builder.protocols(this.getHttp2Protocols());
+            }
+            okHttpClient = builder.build();
         } catch (GeneralSecurityException | IOException e) {
             LOGGER.warning("Failed to configure HTTP CLIENT", e);
         }
     }
 
+    /**
+     * The default OkHttp dispatcher allows only 5 asynchronous calls per host, which would limit parallel tests.
+     *
+     * @return a dispatcher sized according to the {@code --maxRequestsPerHost} argument
+     */
+    private Dispatcher buildDispatcher() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), apiArguments.getMaxRequestsPerHost()));
+        dispatcher.setMaxRequestsPerHost(apiArguments.getMaxRequestsPerHost());
+        return dispatcher;
+    }
+
+    /**
+     * OkHttp can only use prior knowledge for cleartext connections. For TLS connections HTTP/2 is negotiated using ALPN
+     * and HTTP/1.1 must be kept as a fallback.
+     *
+     * @return the list of protocols used when {@code --forceHttp2} is supplied
+     */
+    private List<Protocol> getHttp2Protocols() {
+        if (String.valueOf(apiArguments.getServer()).startsWith("https")) {
+            return List.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
+        }
+        return List.of(Protocol.H2_PRIOR_KNOWLEDGE);
+    }
+
     private TrustManager[] buildTrustAllManager() {
         return new TrustManager[]{
                 new X509TrustManager() {
@@ -173,8 +233,208 @@ public class ServiceCaller {
      */
     @DryRun
     public CatsResponse call(ServiceData data) {
+        CatsRequest catsRequest = this.createCatsRequest(data);
+        try {
+            CatsResponse response = this.sendOrReuse(catsRequest, data);
+
+            this.recordRequestAndResponse(catsRequest, response, data);
+            return response;
+        } catch (IOException e) {
+            this.recordRequestAndResponse(catsRequest, CatsResponse.empty(), data);
+            throw new CatsIOException(e);
+        }
+    }
+
+    /**
+     * Non-blocking version of {@link #call(ServiceData)}. The request is prepared on the calling thread (including rate limiting),
+     * while the response is processed on the HTTP client's threads. The logging context of the calling thread is restored
+     * while recording the request and response, so that any stage depending on the returned future will report within the
+     * same test case. When in dryRun mode ServiceCaller won't do any actual calls.
+     *
+     * @param data the current context data
+     * @return a future which completes with the result of service invocation
+     */
+    @DryRun
+    public CompletableFuture<CatsResponse> callAsync(ServiceData data) {
+        CatsRequest catsRequest = this.createCatsRequest(data);
+        Map<String, String> testContext = MDC.getCopyOfContextMap();
+        CompletableFuture<CatsResponse> result = new CompletableFuture<>();
+
+        this.sendOrReuseAsync(catsRequest, data).whenComplete((response, error) -> {
+            Map<String, String> previousContext = MDC.getCopyOfContextMap();
+            Optional.ofNullable(testContext).ifPresent(MDC::setContextMap);
+            try {
+                if (error == null) {
+                    this.recordRequestAndResponse(catsRequest, response, data);
+                    result.complete(response);
+                } else {
+                    this.recordRequestAndResponse(catsRequest, CatsResponse.empty(), data);
+                    result.completeExceptionally(error instanceof IOException ? new CatsIOException((IOException) error) : error);
+                }
+            } finally {
+                this.restoreContext(previousContext);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * When {@code --deduplicateRequests} is enabled, requests identical to a previous one are not sent again and the recorded response is reused.
+     *
+     * @param catsRequest the request to be sent to the service
+     * @param data        the current context data
+     * @return the service response
+     * @throws IOException if something goes wrong while calling the service
+     */
+    private CatsResponse sendOrReuse(CatsRequest catsRequest, ServiceData data) throws IOException {
+        String fuzzer = MDC.get(TestCaseListener.FUZZER_KEY);
+        if (!this.isDeduplicated(data)) {
+            rateLimitingStrategy.acquire();
+            return this.recordLatency(this.callService(catsRequest, data.getFuzzedFields()), catsRequest, data, fuzzer);
+        }
+        String key = this.fingerprint(catsRequest);
+        CompletableFuture<CatsResponse> newResponse = new CompletableFuture<>();
+        CompletableFuture<CatsResponse> recordedResponse = recordedResponses.asMap().putIfAbsent(key, newResponse);
+        if (recordedResponse != null) {
+            executionStatisticsListener.increaseDeduplicatedCalls();
+            return this.awaitRecordedResponse(recordedResponse).withFuzzedFields(data.getFuzzedFields());
+        }
+        rateLimitingStrategy.acquire();
+        try {
+            CatsResponse response = this.recordLatency(this.callService(catsRequest, data.getFuzzedFields()), catsRequest, data, fuzzer);
+            this.completeRecordedResponse(key, newResponse, response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            this.discardRecordedResponse(key, newResponse, e);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<CatsResponse> sendOrReuseAsync(CatsRequest catsRequest, ServiceData data) {
+        String fuzzer = MDC.get(TestCaseListener.FUZZER_KEY);
+        if (!this.isDeduplicated(data)) {
+            rateLimitingStrategy.acquire();
+            return this.callServiceAsync(catsRequest, data.getFuzzedFields()).thenApply(response -> this.recordLatency(response, catsRequest, data, fuzzer));
+        }
+        String key = this.fingerprint(catsRequest);
+        CompletableFuture<CatsResponse> newResponse = new CompletableFuture<>();
+        CompletableFuture<CatsResponse> recordedResponse = recordedResponses.asMap().putIfAbsent(key, newResponse);
+        if (recordedResponse != null) {
+            executionStatisticsListener.increaseDeduplicatedCalls();
+            CompletableFuture<CatsResponse> reusedResponse = new CompletableFuture<>();
+            recordedResponse.whenComplete((response, error) -> {
+                if (error == null) {
+                    reusedResponse.complete(response.withFuzzedFields(data.getFuzzedFields()));
+                } else {
+                    reusedResponse.completeExceptionally(error);
+                }
+            });
+            return reusedResponse;
+        }
+        rateLimitingStrategy.acquire();
+        this.callServiceAsync(catsRequest, data.getFuzzedFields()).whenComplete((response, error) -> {
+            if (error == null) {
+                this.completeRecordedResponse(key, newResponse, this.recordLatency(response, catsRequest, data, fuzzer));
+            } else {
+                this.discardRecordedResponse(key, newResponse, error);
+            }
+        });
+        return newResponse;
+    }
+
+    /**
+     * Completes the recorded response. The entry is then replaced with itself, so that it's weighed again now that the response body is known.
+     */
+    private void completeRecordedResponse(String key, CompletableFuture<CatsResponse> recordedResponse, CatsResponse response) {
+        recordedResponse.complete(response);
+        recordedResponses.asMap().replace(key, recordedResponse, recordedResponse);
+    }
+
+    /**
+     * Failed calls are not recorded, so that the next identical request is sent again instead of failing as well. The requests already waiting
+     * for this response still get the error.
+     */
+    private void discardRecordedResponse(String key, CompletableFuture<CatsResponse> recordedResponse, Throwable error) {
+        recordedResponses.asMap().remove(key, recordedResponse);
+        recordedResponse.completeExceptionally(error);
+    }
+
+    /**
+     * Responses in progress or failed get the minimum weight, as they have no body yet.
+     */
+    private static int recordedResponseWeight(String key, CompletableFuture<CatsResponse> recordedResponse) {
+        if (!recordedResponse.isDone() || recordedResponse.isCompletedExceptionally()) {
+            return 1;
+        }
+        return 1 + Optional.ofNullable(recordedResponse.join().getBody()).map(String::length).orElse(0);
+    }
+
+    /**
+     * Only responses actually received from the service are part of the latency statistics, reused responses are not recorded again.
+     * The rate limiting strategy is notified about them as well, for the path and HTTP method of the request.
+     * The Fuzzer is taken from the logging context of the calling thread, as asynchronous responses are processed on the HTTP client's threads.
+     *
+     * @param response    the service response
+     * @param catsRequest the request sent to the service
+     * @param data        the current context data
+     * @param fuzzer      the Fuzzer which sent the request
+     * @return the same response
+     */
+    private CatsResponse recordLatency(CatsResponse response, CatsRequest catsRequest, ServiceData data, String fuzzer) {
+        String retryAfter = Optional.ofNullable(response.getHeaders()).orElse(Collections.emptyList()).stream()
+                .filter(header -> header.getName().equalsIgnoreCase("Retry-After")).map(CatsHeader::getValue).findFirst().orElse(null);
+        rateLimitingStrategy.onResponse(catsRequest.getHttpMethod() + " " + data.getRelativePath(), response.getResponseCode(), response.getResponseTimeInMs(), retryAfter);
+        executionStatisticsListener.recordLatency(catsRequest.getHttpMethod(), data.getRelativePath(),
+                Optional.ofNullable(fuzzer).orElse(CatsUtil.FUZZER_KEY_DEFAULT), response.getResponseTimeInNanos());
+        Optional.ofNullable(response.getTimings()).ifPresent(timings -> executionStatisticsListener.recordPhaseTimings(catsRequest.getHttpMethod(), data.getRelativePath(), timings));
+        return response;
+    }
+
+    private boolean isDeduplicated(ServiceData data) {
+        return apiArguments.isDeduplicateRequests() && data.isDeduplicate();
+    }
+
+    private CatsResponse awaitRecordedResponse(CompletableFuture<CatsResponse> recordedResponse) throws IOException {
+        try {
+            return recordedResponse.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response of an identical request");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * Two requests are identical if they have the same HTTP method, URL, headers and payload.
+     *
+     * @param catsRequest the request to be sent to the service
+     * @return a SHA-256 fingerprint of the request
+     */
+    String fingerprint(CatsRequest catsRequest) {
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(catsRequest.getHttpMethod(), StandardCharsets.UTF_8).putChar('\n')
+                .putString(catsRequest.getUrl(), StandardCharsets.UTF_8).putChar('\n');
+        for (CatsRequest.Header header : catsRequest.getHeaders()) {
+            hasher.putString(header.getName(), StandardCharsets.UTF_8).putChar(':').putString(String.valueOf(header.getValue()), StandardCharsets.UTF_8).putChar('\n');
+        }
+        return hasher.putString(String.valueOf(catsRequest.getPayload()), StandardCharsets.UTF_8).hash().toString();
+    }
+
+    private void restoreContext(Map<String, String> previousContext) {
+        if (previousContext == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(previousContext);
+        }
+    }
+
+    private CatsRequest createCatsRequest(ServiceData data) {
         LOGGER.note("Proxy configuration to be used: {}", authArguments.getProxy());
-        rateLimiter.acquire();
         String processedPayload = this.replacePayloadWithRefData(data);
 
         List<CatsRequest.Header> headers = this.buildHeaders(data);
@@ -183,26 +443,18 @@ public class ServiceCaller {
         catsRequest.setPayload(processedPayload);
         catsRequest.setHttpMethod(data.getHttpMethod().name());
 
-        try {
-            String url = this.getPathWithRefDataReplacedForHttpEntityRequests(data, apiArguments.getServer() + data.getRelativePath());
+        String url = this.getPathWithRefDataReplacedForHttpEntityRequests(data, apiArguments.getServer() + data.getRelativePath());
 
-            if (!HttpMethod.requiresBody(data.getHttpMethod())) {
-                url = this.getPathWithRefDataReplacedForNonHttpEntityRequests(data, apiArguments.getServer() + data.getRelativePath());
-                url = this.addUriParams(processedPayload, data, url);
-            }
-            catsRequest.setUrl(url);
-
-            LOGGER.note("Final list of request headers: {}", headers);
-            LOGGER.note("Final payload: {}", processedPayload);
+        if (!HttpMethod.requiresBody(data.getHttpMethod())) {
+            url = this.getPathWithRefDataReplacedForNonHttpEntityRequests(data, apiArguments.getServer() + data.getRelativePath());
+            url = this.addUriParams(this.expandLargeValues(processedPayload), data, url);
+        }
+        catsRequest.setUrl(url);
 
-            CatsResponse response = this.callService(catsRequest, data.getFuzzedFields());
+        LOGGER.note("Final list of request headers: {}", headers);
+        LOGGER.note("Final payload: {}", processedPayload);
 
-            this.recordRequestAndResponse(catsRequest, response, data);
-            return response;
-        } catch (IOException e) {
-            this.recordRequestAndResponse(catsRequest, CatsResponse.empty(), data);
-            throw new CatsIOException(e);
-        }
+        return catsRequest;
     }
 
     Map<String, String> getPathParamFromCorrespondingPostIfDelete(ServiceData data) {
@@ -308,32 +560,105 @@ public class ServiceCaller {
     }
 
     public CatsResponse callService(CatsRequest catsRequest, Set<String> fuzzedFields) throws IOException {
-        long startTime = System.currentTimeMillis();
+        HttpCallTimer timer = new HttpCallTimer();
+        try (Response response = okHttpClient.newCall(this.buildRequest(catsRequest, timer)).execute()) {
+            return this.toCatsResponse(response, catsRequest, timer, fuzzedFields);
+        }
+    }
+
+    /**
+     * Enqueues the request without blocking the calling thread. The returned future is completed by the HTTP client's threads.
+     * The response time doesn't include the time the request waits in the dispatcher queue.
+     *
+     * @param catsRequest  the request to be sent to the service
+     * @param fuzzedFields the fields being fuzzed by the current test
+     * @return a future which completes with the service response or exceptionally with the {@code IOException} received while calling the service
+     */
+    public CompletableFuture<CatsResponse> callServiceAsync(CatsRequest catsRequest, Set<String> fuzzedFields) {
+        CompletableFuture<CatsResponse> result = new CompletableFuture<>();
+        HttpCallTimer timer = new HttpCallTimer();
+
+        okHttpClient.newCall(this.buildRequest(catsRequest, timer)).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    result.complete(toCatsResponse(response, catsRequest, timer, fuzzedFields));
+                } catch (IOException | RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+
+        return result;
+    }
+
+    private Request buildRequest(CatsRequest catsRequest, HttpCallTimer timer) {
         RequestBody requestBody = null;
         Headers.Builder headers = new Headers.Builder();
         catsRequest.getHeaders().forEach(header -> headers.addUnsafeNonAscii(header.getName(), header.getValue()));
 
         if (HttpMethod.requiresBody(catsRequest.getHttpMethod())) {
-            requestBody = RequestBody.create(catsRequest.getPayload().getBytes(StandardCharsets.UTF_8));
+            requestBody = this.createRequestBody(catsRequest.getPayload());
         }
-        Response response = okHttpClient.newCall(new Request.Builder()
+        return new Request.Builder()
                 .url(catsRequest.getUrl())
                 .headers(headers.build())
                 .method(catsRequest.getHttpMethod(), requestBody)
-                .build()).execute();
-        long endTime = System.currentTimeMillis();
+                .tag(HttpCallTimer.class, timer)
+                .build();
+    }
 
+    /**
+     * Payloads containing large values are streamed to the service, without building the full payload in memory.
+     *
+     * @param payload the request payload
+     * @return a request body for the given payload
+     */
+    private RequestBody createRequestBody(String payload) {
+        if (LargeValue.containsLargeValues(payload)) {
+            return new StreamingRequestBody(payload);
+        }
+        return RequestBody.create(payload.getBytes(StandardCharsets.UTF_8));
+    }
 
+    /**
+     * Path and query parameters cannot be streamed, so large values are fully built when sent through the URL.
+     *
+     * @param payload the request payload
+     * @return the payload having all large values expanded
+     */
+    private String expandLargeValues(String payload) {
+        if (!LargeValue.containsLargeValues(payload)) {
+            return payload;
+        }
+        Buffer buffer = new Buffer();
+        try {
+            new StreamingRequestBody(payload).writeTo(buffer);
+        } catch (IOException e) {
+            throw new CatsIOException(e);
+        }
+        return buffer.readUtf8();
+    }
+
+    private CatsResponse toCatsResponse(Response response, CatsRequest catsRequest, HttpCallTimer timer, Set<String> fuzzedFields) throws IOException {
+        long responseTimeInNanos = timer.getElapsedNanos();
+        long responseTimeInMs = TimeUnit.NANOSECONDS.toMillis(responseTimeInNanos);
         LOGGER.complete("Protocol: {}, Method: {}, ReasonPhrase: {}, ResponseCode: {}, ResponseTimeInMs: {}", response.protocol(),
-                catsRequest.getHttpMethod(), response.message(), response.code(), endTime - startTime);
+                catsRequest.getHttpMethod(), response.message(), response.code(), responseTimeInMs);
 
-        String responseBody = this.getAsJson(response);
+        ResponseBodyReader responseBody = ResponseBodyReader.read(response.body(), apiArguments.getMaxResponseSize());
         List<CatsHeader> responseHeaders = response.headers()
                 .toMultimap()
                 .entrySet().stream()
                 .map(header -> CatsHeader.builder().name(header.getKey()).value(header.getValue().get(0)).build()).collect(Collectors.toList());
 
-        return CatsResponse.from(response.code(), responseBody, catsRequest.getHttpMethod(), endTime - startTime, responseHeaders, fuzzedFields);
+        return CatsResponse.from(response.code(), responseBody.getBody(), responseBody.getJsonBody(), catsRequest.getHttpMethod(), responseTimeInNanos, responseHeaders, fuzzedFields)
+                .withTimings(timer.toTimings(responseBody.isFullyRead()));
     }
 
     private void addBasicAuth(List<CatsRequest.Header> headers) {
@@ -358,7 +683,7 @@ public class ServiceCaller {
                 if (child.getValue().isJsonNull()) {
                     processedPath = processedPath.replaceAll("\\{" + child.getKey() + "}", "");
                 } else {
-                    processedPath = processedPath.replaceAll("\\{" + child.getKey() + "}", getEncodedUrl(child.getValue().getAsString()));
+                    processedPath = processedPath.replaceAll("\\{" + child.getKey() + "}", getEncodedUrl(this.expandLargeValues(child.getValue().getAsString())));
                 }
                 data.getPathParams().add(child.getKey());
             }
@@ -401,24 +726,9 @@ public class ServiceCaller {
         return queryParams;
     }
 
-    public String getAsJson(Response response) throws IOException {
-        String responseAsString = null;
-        ResponseBody responseBody = response.body();
-
-        if (responseBody != null) {
-            responseAsString = responseBody.string();
-        }
-
-        if (StringUtils.isBlank(responseAsString)) {
-            return "";
-        } else if (JsonUtils.isValidJson(responseAsString)) {
-            return responseAsString;
-        }
-        return "{\"exception\":\"Received response is not a JSON\"}";
-    }
-
     private void recordRequestAndResponse(CatsRequest catsRequest, CatsResponse catsResponse, ServiceData serviceData) {
         testCaseListener.addPath(serviceData.getRelativePath());
+        catsRequest.replaceLargeValuesWithPreview();
         testCaseListener.addRequest(catsRequest);
         testCaseListener.addResponse(catsResponse);
         testCaseListener.addFullRequestPath(HtmlEscapers.htmlEscaper().escape(catsRequest.getUrl()));
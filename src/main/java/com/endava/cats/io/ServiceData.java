@@ -22,6 +22,8 @@ public class ServiceData {
     @Builder.Default
     private final boolean addUserHeaders = true;
     @Builder.Default
+    private final boolean deduplicate = true;
+    @Builder.Default
     private final Set<String> skippedHeaders = new HashSet<>();
     @Singular
     private final Set<String> fuzzedFields;
@@ -0,0 +1,95 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.LargeValue;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A request body for JSON payloads containing {@link LargeValue} placeholders. Placeholders are expanded while the body is written,
+ * in chunks of at most {@link #CHUNK_SIZE} bytes, so the full payload is never kept in memory.
+ * Placeholders are expected to be inside JSON strings, so the expanded values are JSON escaped.
+ */
+public class StreamingRequestBody extends RequestBody {
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final long contentLength;
+
+    public StreamingRequestBody(String payload) {
+        long length = 0;
+        for (Object part : LargeValue.split(payload)) {
+            Segment segment = part instanceof LargeValue ? Segment.of((LargeValue) part) : new Segment(((String) part).getBytes(StandardCharsets.UTF_8), new byte[0], 0, new byte[0]);
+            segments.add(segment);
+            length += segment.length();
+        }
+        this.contentLength = length;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return null;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        for (Segment segment : segments) {
+            sink.write(segment.prefix);
+            writeRepeated(sink, segment.unit, segment.times);
+            sink.write(segment.suffix);
+        }
+    }
+
+    private static void writeRepeated(BufferedSink sink, byte[] unit, long times) throws IOException {
+        if (times == 0 || unit.length == 0) {
+            return;
+        }
+        int unitsPerChunk = (int) Math.min(times, Math.max(1, CHUNK_SIZE / unit.length));
+        byte[] chunk = new byte[unitsPerChunk * unit.length];
+        for (int i = 0; i < unitsPerChunk; i++) {
+            System.arraycopy(unit, 0, chunk, i * unit.length, unit.length);
+        }
+        long remaining = times;
+        while (remaining >= unitsPerChunk) {
+            sink.write(chunk);
+            remaining -= unitsPerChunk;
+        }
+        sink.write(chunk, 0, (int) remaining * unit.length);
+    }
+
+    private static class Segment {
+        private final byte[] prefix;
+        private final byte[] unit;
+        private final long times;
+        private final byte[] suffix;
+
+        Segment(byte[] prefix, byte[] unit, long times, byte[] suffix) {
+            this.prefix = prefix;
+            this.unit = unit;
+            this.times = times;
+            this.suffix = suffix;
+        }
+
+        static Segment of(LargeValue largeValue) {
+            return new Segment(escaped(largeValue.getPrefix()), escaped(largeValue.getUnit()), largeValue.getTimes(), escaped(largeValue.getSuffix()));
+        }
+
+        private static byte[] escaped(String value) {
+            return LargeValue.escapeJson(value).getBytes(StandardCharsets.UTF_8);
+        }
+
+        long length() {
+            return prefix.length + unit.length * times + suffix.length;
+        }
+    }
+}
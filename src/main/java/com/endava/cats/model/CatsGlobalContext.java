@@ -5,17 +5,22 @@ import lombok.Getter;
 
 import javax.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Data shared between all the paths of the contract. The fuzzing data for all paths is built in parallel,
+ * so all the collections can be safely populated concurrently.
+ */
 @Singleton
 @Getter
 public class CatsGlobalContext {
-    private final Map<String, Schema> schemaMap = new HashMap<>();
-    private final Map<String, Schema> requestDataTypes = new HashMap<>();
-    private final List<String> additionalProperties = new ArrayList<>();
-    private final List<String> discriminators = new ArrayList<>();
-    private final Map<String, Deque<String>> postSuccessfulResponses = new HashMap<>();
+    private final Map<String, Schema> schemaMap = new ConcurrentHashMap<>();
+    private final Map<String, Schema> requestDataTypes = new ConcurrentHashMap<>();
+    private final List<String> additionalProperties = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> discriminators = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, Deque<String>> postSuccessfulResponses = new ConcurrentHashMap<>();
 }
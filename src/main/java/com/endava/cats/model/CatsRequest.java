@@ -10,6 +10,8 @@ import java.util.List;
 public class CatsRequest {
     List<Header> headers;
     String payload;
+    /*when the payload contains large values, the report shows a preview of them and this keeps the original placeholders for replaying the request*/
+    String largeValuesPayload;
     String httpMethod;
     String url;
 
@@ -26,6 +28,27 @@ public class CatsRequest {
         this.payload = payload;
     }
 
+    /**
+     * Replaces the large values from the payload with their preview, so that they can be included in the report.
+     * The original payload is kept in {@code largeValuesPayload}.
+     */
+    public void replaceLargeValuesWithPreview() {
+        if (LargeValue.containsLargeValues(payload)) {
+            this.largeValuesPayload = payload;
+            this.payload = LargeValue.replaceWithPreview(payload);
+        }
+    }
+
+    /**
+     * Restores the large values placeholders replaced by {@link #replaceLargeValuesWithPreview()}, so that the request is sent with the original values.
+     */
+    public void restoreLargeValues() {
+        if (largeValuesPayload != null) {
+            this.payload = largeValuesPayload;
+            this.largeValuesPayload = null;
+        }
+    }
+
     public void setUrl(String url) {
         this.url = url;
     }
@@ -9,12 +9,13 @@ import lombok.Getter;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class CatsResponse {
     private final int responseCode;
-    private final JsonElement jsonBody;
+    private JsonElement jsonBody;
     private final String httpMethod;
     @Exclude
     private final String body;
@@ -22,23 +23,74 @@ public class CatsResponse {
     private final String fuzzedField;
     private final long responseTimeInMs;
     @Exclude
+    private final long responseTimeInNanos;
+    @Exclude
     private final List<CatsHeader> headers;
+    private final HttpPhaseTimings timings;
 
     public static CatsResponse from(int code, String body, String methodType, long ms, List<CatsHeader> responseHeaders, Set<String> fuzzedFields) {
+        return from(code, body, JsonParser.parseString(body), methodType, TimeUnit.MILLISECONDS.toNanos(ms), responseHeaders, fuzzedFields);
+    }
+
+    /**
+     * Creates a response using an already parsed body, so that the body is not parsed again.
+     *
+     * @param code            the response code
+     * @param body            the response body
+     * @param jsonBody        the parsed response body
+     * @param methodType      the HTTP method
+     * @param nanos           the response time in nanoseconds
+     * @param responseHeaders the response headers
+     * @param fuzzedFields    the fields fuzzed by the current test
+     * @return a new CatsResponse
+     */
+    public static CatsResponse from(int code, String body, JsonElement jsonBody, String methodType, long nanos, List<CatsHeader> responseHeaders, Set<String> fuzzedFields) {
         return CatsResponse.builder().responseCode(code).body(body).httpMethod(methodType)
-                .jsonBody(JsonParser.parseString(body)).responseTimeInMs(ms).headers(responseHeaders)
+                .jsonBody(jsonBody).responseTimeInMs(TimeUnit.NANOSECONDS.toMillis(nanos)).responseTimeInNanos(nanos).headers(responseHeaders)
                 .fuzzedField(fuzzedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null)).build();
     }
 
     public static CatsResponse from(int code, String body, String methodType, long ms) {
         return CatsResponse.builder().responseCode(code).body(body).httpMethod(methodType)
-                .jsonBody(JsonParser.parseString(body)).headers(Collections.emptyList()).responseTimeInMs(ms).build();
+                .jsonBody(JsonParser.parseString(body)).headers(Collections.emptyList()).responseTimeInMs(ms).responseTimeInNanos(TimeUnit.MILLISECONDS.toNanos(ms)).build();
     }
 
     public static CatsResponse empty() {
         return CatsResponse.from(99, "{}", "", 0);
     }
 
+    /**
+     * Returns the parsed response body. Responses built without a parsed body will parse it on first access.
+     *
+     * @return the response body as a JsonElement
+     */
+    public JsonElement getJsonBody() {
+        if (jsonBody == null && body != null) {
+            jsonBody = JsonParser.parseString(body);
+        }
+        return jsonBody;
+    }
+
+    /**
+     * Creates a copy of this response for another test which sent the same request. Only the fuzzed field is specific to each test.
+     *
+     * @param fuzzedFields the fields fuzzed by the other test
+     * @return a new CatsResponse
+     */
+    public CatsResponse withFuzzedFields(Set<String> fuzzedFields) {
+        return CatsResponse.from(responseCode, body, jsonBody, httpMethod, responseTimeInNanos, headers, fuzzedFields);
+    }
+
+    /**
+     * Creates a copy of this response having the duration of each phase of the HTTP call.
+     *
+     * @param timings the duration of each phase of the call
+     * @return a new CatsResponse
+     */
+    public CatsResponse withTimings(HttpPhaseTimings timings) {
+        return this.toBuilder().timings(timings).build();
+    }
+
     public String responseCodeAsString() {
         return String.valueOf(this.responseCode);
     }
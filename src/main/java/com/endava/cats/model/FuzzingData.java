@@ -1,6 +1,8 @@
 package com.endava.cats.model;
 
 import com.endava.cats.http.HttpMethod;
+import com.endava.cats.model.util.FieldPathIndex;
+import com.endava.cats.model.util.JsonDocument;
 import com.endava.cats.model.util.JsonUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -12,13 +14,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Builder
@@ -42,17 +44,18 @@ public class FuzzingData {
     private final List<String> tags;
     private final String reqSchemaName;
 
-    /*these are cached after the first computation*/
+    /*these are cached after the first computation; tests might run in parallel so the lazy getters are synchronized*/
     private Set<String> allFields;
-    private Set<Set<String>> allFieldsSetOfSets;
     private List<String> allRequiredFields;
     private Set<CatsField> allFieldsAsCatsFields;
     private Set<String> allReadOnlyFields;
     private Set<String> allWriteOnlyFields;
     private String processedPayload;
+    private JsonDocument payloadDocument;
+    private FieldPathIndex fieldPathIndex;
 
 
-    public String getPayload() {
+    public synchronized String getPayload() {
         if (processedPayload == null) {
             processedPayload = this.removeReadWrite();
         }
@@ -60,6 +63,32 @@ public class FuzzingData {
         return processedPayload;
     }
 
+    /**
+     * The payload, parsed only once and shared by all fuzzers. Fuzzers must not change it, but create changed copies.
+     *
+     * @return the parsed payload
+     */
+    public synchronized JsonDocument getPayloadDocument() {
+        if (payloadDocument == null) {
+            payloadDocument = JsonDocument.parse(this.getPayload(), this.getFieldPathIndex());
+        }
+
+        return payloadDocument;
+    }
+
+    /**
+     * Compiled paths for all the request fields. Fuzzers can use them to read or change fields without compiling JsonPath expressions.
+     *
+     * @return the index of compiled field paths
+     */
+    public synchronized FieldPathIndex getFieldPathIndex() {
+        if (fieldPathIndex == null) {
+            fieldPathIndex = new FieldPathIndex(this.getAllFields());
+        }
+
+        return fieldPathIndex;
+    }
+
     private String removeReadWrite() {
         if (HttpMethod.requiresBody(method)) {
             return this.removeReadOnlyFields(this.getAllReadOnlyFields());
@@ -109,28 +138,28 @@ public class FuzzingData {
         return ref.substring(ref.lastIndexOf('/') + 1);
     }
 
-    public Set<String> getAllReadOnlyFields() {
+    public synchronized Set<String> getAllReadOnlyFields() {
         if (allReadOnlyFields == null) {
             allReadOnlyFields = this.getAllFieldsAsCatsFields().stream().filter(CatsField::isReadOnly).map(CatsField::getName).collect(Collectors.toSet());
         }
         return allReadOnlyFields;
     }
 
-    public Set<String> getAllWriteOnlyFields() {
+    public synchronized Set<String> getAllWriteOnlyFields() {
         if (allWriteOnlyFields == null) {
             allWriteOnlyFields = this.getAllFieldsAsCatsFields().stream().filter(CatsField::isWriteOnly).map(CatsField::getName).collect(Collectors.toSet());
         }
         return allWriteOnlyFields;
     }
 
-    public List<String> getAllRequiredFields() {
+    public synchronized List<String> getAllRequiredFields() {
         if (allRequiredFields == null) {
             allRequiredFields = this.getAllFieldsAsCatsFields().stream().filter(CatsField::isRequired).map(CatsField::getName).collect(Collectors.toList());
         }
         return allRequiredFields;
     }
 
-    public Set<CatsField> getAllFieldsAsCatsFields() {
+    public synchronized Set<CatsField> getAllFieldsAsCatsFields() {
         if (allFieldsAsCatsFields == null) {
             allFieldsAsCatsFields = this.getFields(reqSchema, "");
         }
@@ -146,7 +175,7 @@ public class FuzzingData {
         return getAllFields().stream().filter(field -> !this.getAllWriteOnlyFields().contains(field)).collect(Collectors.toSet());
     }
 
-    private Set<String> getAllFields() {
+    private synchronized Set<String> getAllFields() {
         if (allFields == null) {
             allFields = this.getAllFieldsAsCatsFields().stream().map(CatsField::getName).collect(Collectors.toSet());
         }
@@ -154,24 +183,24 @@ public class FuzzingData {
         return allFields;
     }
 
-    public Set<Set<String>> getAllFields(SetFuzzingStrategy setFuzzingStrategy, int maxFieldsToRemove) {
-        if (allFieldsSetOfSets == null) {
-
-            Set<Set<String>> sets;
-            switch (setFuzzingStrategy) {
-                case POWERSET:
-                    sets = SetFuzzingStrategy.powerSet(this.getAllFields());
-                    break;
-                case SIZE:
-                    sets = SetFuzzingStrategy.getAllSetsWithMinSize(this.getAllFields(), maxFieldsToRemove);
-                    break;
-                default:
-                    sets = SetFuzzingStrategy.removeOneByOne(this.getAllFields());
-            }
-            sets.remove(Collections.emptySet());
-            allFieldsSetOfSets = sets;
+    /**
+     * Returns all the fields combinations according to the given strategy. The combinations are computed lazily while iterating.
+     * Fields are sorted so that the order of the combinations is the same between runs.
+     *
+     * @param setFuzzingStrategy the strategy used to combine fields
+     * @param maxFieldsToRemove  the maximum number of fields in a combination when using the {@code SIZE} strategy
+     * @return a lazy iterable over the fields combinations
+     */
+    public SetCombinations<String> getAllFields(SetFuzzingStrategy setFuzzingStrategy, int maxFieldsToRemove) {
+        Set<String> sortedFields = new TreeSet<>(this.getAllFields());
+        switch (setFuzzingStrategy) {
+            case POWERSET:
+                return SetCombinations.ofSizes(sortedFields, 1, sortedFields.size());
+            case SIZE:
+                return SetFuzzingStrategy.getAllSetsWithMinSize(sortedFields, maxFieldsToRemove);
+            default:
+                return SetFuzzingStrategy.removeOneByOne(sortedFields);
         }
-        return allFieldsSetOfSets;
     }
 
 
@@ -181,74 +210,25 @@ public class FuzzingData {
         private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(SetFuzzingStrategy.class);
 
         /**
-         * Returns all possible subsets of the given set
-         *
-         * @param originalSet
-         * @param <T>
-         * @return
-         */
-        public static <T> Set<Set<T>> powerSet(Set<T> originalSet) {
-            Set<Set<T>> sets = new HashSet<>();
-            if (originalSet.isEmpty()) {
-                sets.add(new HashSet<>());
-                return sets;
-            }
-            List<T> list = new ArrayList<>(originalSet);
-            T head = list.get(0);
-            Set<T> rest = new HashSet<>(list.subList(1, list.size()));
-            for (Set<T> set : powerSet(rest)) {
-                Set<T> newSet = new HashSet<>();
-                newSet.add(head);
-                newSet.addAll(set);
-                sets.add(newSet);
-                sets.add(set);
-            }
-            return sets;
-        }
-
-
-        /**
-         * Returns all possible subsets of size K of the given list
+         * Returns all possible subsets of the given set, including the empty set and the set itself.
          *
-         * @param elements
-         * @param k
-         * @return
+         * @param originalSet a given Set
+         * @param <T>         the type of the elements
+         * @return a lazy iterable over all subsets
          */
-        private static Set<Set<String>> getAllSubsetsOfSize(List<String> elements, int k) {
-            List<List<String>> result = new ArrayList<>();
-            backtrack(elements, k, 0, result, new ArrayList<>());
-            return result.stream().map(HashSet::new).collect(Collectors.toSet());
-        }
-
-        private static void backtrack(List<String> elements, int k, int startIndex, List<List<String>> result,
-                                      List<String> partialList) {
-            if (k == partialList.size()) {
-                result.add(new ArrayList<>(partialList));
-                return;
-            }
-            for (int i = startIndex; i < elements.size(); i++) {
-                partialList.add(elements.get(i));
-                backtrack(elements, k, i + 1, result, partialList);
-                partialList.remove(partialList.size() - 1);
-            }
+        public static <T> SetCombinations<T> powerSet(Set<T> originalSet) {
+            return SetCombinations.ofSizes(originalSet, 0, originalSet.size());
         }
 
-
         /**
          * Returns a Set of sets with possibilities of removing one field at a time form the original set.
          *
          * @param elements a given Set
          * @param <T>      the type of the elements
-         * @return a Set of incremental Sets obtained by removing one element at a time from the original Set
+         * @return a lazy iterable over single element Sets
          */
-        public static <T> Set<Set<T>> removeOneByOne(Set<T> elements) {
-            Set<Set<T>> result = new HashSet<>();
-            for (T t : elements) {
-                Set<T> subset = new HashSet<>();
-                subset.add(t);
-                result.add(subset);
-            }
-            return result;
+        public static <T> SetCombinations<T> removeOneByOne(Set<T> elements) {
+            return SetCombinations.ofSizes(elements, 1, 1);
         }
 
         /**
@@ -256,20 +236,16 @@ public class FuzzingData {
          *
          * @param allFields         all fields from the request, including fully qualified fields
          * @param maxFieldsToRemove number of max fields to remove
-         * @return a Set of Sets with all fields combinations
+         * @return a lazy iterable with all fields combinations
          */
-        public static Set<Set<String>> getAllSetsWithMinSize(Set<String> allFields, int maxFieldsToRemove) {
-            Set<Set<String>> sets = new HashSet<>();
+        public static SetCombinations<String> getAllSetsWithMinSize(Set<String> allFields, int maxFieldsToRemove) {
             if (maxFieldsToRemove == 0) {
                 LOGGER.info("fieldsSubsetMinSize is ZERO, the value will be changed to {}", allFields.size() / 2);
                 maxFieldsToRemove = allFields.size() / 2;
             } else if (allFields.size() < maxFieldsToRemove) {
                 LOGGER.info("fieldsSubsetMinSize is bigger than the number of fields, the value will be changed to {}", allFields.size());
             }
-            for (int i = maxFieldsToRemove; i >= 1; i--) {
-                sets.addAll(getAllSubsetsOfSize(new ArrayList<>(allFields), i));
-            }
-            return sets;
+            return SetCombinations.ofSizes(allFields, 1, maxFieldsToRemove);
         }
 
     }
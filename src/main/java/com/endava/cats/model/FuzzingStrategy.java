@@ -112,7 +112,7 @@ public abstract class FuzzingStrategy {
     }
 
     public static boolean isLargeString(String data) {
-        return data.startsWith("ca") && data.endsWith("ts");
+        return LargeValue.isLargeValue(data) || (data.startsWith("ca") && data.endsWith("ts"));
     }
 
     public FuzzingStrategy withData(String inner) {
@@ -139,7 +139,9 @@ public abstract class FuzzingStrategy {
     public String truncatedValue() {
         if (data != null) {
             String toPrint = data;
-            if (data.length() > 30) {
+            if (LargeValue.isLargeValue(data)) {
+                toPrint = LargeValue.fromPlaceholder(data).map(LargeValue::preview).orElse(data);
+            } else if (data.length() > 30) {
                 toPrint = data.substring(0, 30) + "...";
             }
             return this.name() + " with " + formatValue(toPrint);
@@ -0,0 +1,51 @@
+package com.endava.cats.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * How long each phase of an HTTP call took, in milliseconds. DNS lookup, connect and TLS handshake are zero when a pooled connection was reused.
+ * The connect time doesn't include the TLS handshake. The server time is the time between finishing writing the request and starting
+ * to receive the response headers. The download time is unknown, and so {@code null}, when the response body was not fully read,
+ * like for binary responses or responses larger than {@code --maxResponseSize}.
+ */
+@Getter
+@Builder
+public class HttpPhaseTimings {
+    public static final String DNS = "dns";
+    public static final String CONNECT = "connect";
+    public static final String TLS = "tls";
+    public static final String REQUEST_WRITE = "requestWrite";
+    public static final String SERVER = "server";
+    public static final String DOWNLOAD = "download";
+    public static final List<String> PHASES = List.of(DNS, CONNECT, TLS, REQUEST_WRITE, SERVER, DOWNLOAD);
+
+    private final double dns;
+    private final double connect;
+    private final double tls;
+    private final double requestWrite;
+    private final double server;
+    private final Double download;
+
+    /**
+     * Returns all the known phases in the order in which they happen.
+     *
+     * @return the duration of each phase in milliseconds
+     */
+    public Map<String, Double> asMap() {
+        Map<String, Double> phases = new LinkedHashMap<>();
+        phases.put(DNS, dns);
+        phases.put(CONNECT, connect);
+        phases.put(TLS, tls);
+        phases.put(REQUEST_WRITE, requestWrite);
+        phases.put(SERVER, server);
+        if (download != null) {
+            phases.put(DOWNLOAD, download);
+        }
+        return phases;
+    }
+}
@@ -0,0 +1,165 @@
+package com.endava.cats.model;
+
+import com.endava.cats.model.util.JsonUtils;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A string value made of a {@code prefix}, followed by a {@code unit} repeated a number of times and a {@code suffix}.
+ * Values longer than {@link #MAX_IN_MEMORY_LENGTH} are not built in memory. They are represented inside payloads by a small placeholder,
+ * which is expanded only while the request body is written to the socket. This allows fuzzers to send values of any length in constant memory.
+ * Reports will only contain a preview of the value, along with its logical length.
+ */
+@Getter
+public final class LargeValue {
+    public static final int MAX_IN_MEMORY_LENGTH = 1 << 20;
+    private static final int PREVIEW_LENGTH = 30;
+    private static final Pattern PLACEHOLDER = Pattern.compile("cats_large_value\\((\\d+):([\\w-]*):([\\w-]*):([\\w-]*)\\)");
+
+    private final String prefix;
+    private final String unit;
+    private final long times;
+    private final String suffix;
+
+    private LargeValue(String prefix, String unit, long times, String suffix) {
+        this.prefix = prefix;
+        this.unit = unit;
+        this.times = times;
+        this.suffix = suffix;
+    }
+
+    /**
+     * Repeats the given unit. If the result is longer than {@link #MAX_IN_MEMORY_LENGTH}, a placeholder is returned.
+     *
+     * @param unit  the string to repeat
+     * @param times the number of times to repeat the unit
+     * @return the repeated string or a placeholder for it
+     */
+    public static String repeat(String unit, long times) {
+        return of("", unit, times, "");
+    }
+
+    /**
+     * Creates a value by repeating the given unit between the prefix and the suffix. If the result is longer than {@link #MAX_IN_MEMORY_LENGTH},
+     * a placeholder is returned.
+     *
+     * @param prefix the string at the beginning of the value
+     * @param unit   the string to repeat
+     * @param times  the number of times to repeat the unit
+     * @param suffix the string at the end of the value
+     * @return the value or a placeholder for it
+     */
+    public static String of(String prefix, String unit, long times, String suffix) {
+        LargeValue largeValue = new LargeValue(prefix, unit, times, suffix);
+        if (largeValue.length() <= MAX_IN_MEMORY_LENGTH) {
+            return prefix + StringUtils.repeat(unit, (int) times) + suffix;
+        }
+        return largeValue.toPlaceholder();
+    }
+
+    public static boolean isLargeValue(String value) {
+        return value != null && PLACEHOLDER.matcher(value).matches();
+    }
+
+    public static boolean containsLargeValues(String payload) {
+        return payload != null && PLACEHOLDER.matcher(payload).find();
+    }
+
+    public static Optional<LargeValue> fromPlaceholder(String value) {
+        if (!isLargeValue(value)) {
+            return Optional.empty();
+        }
+        Matcher matcher = PLACEHOLDER.matcher(value);
+        matcher.matches();
+        return Optional.of(fromMatch(matcher));
+    }
+
+    /**
+     * Splits the given payload into plain strings and large values, in the order in which they appear.
+     *
+     * @param payload a payload which might contain large values placeholders
+     * @return a list with {@code String} and {@code LargeValue} elements
+     */
+    public static List<Object> split(String payload) {
+        List<Object> segments = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(payload);
+        int start = 0;
+        while (matcher.find()) {
+            segments.add(payload.substring(start, matcher.start()));
+            segments.add(fromMatch(matcher));
+            start = matcher.end();
+        }
+        segments.add(payload.substring(start));
+        return segments;
+    }
+
+    /**
+     * Replaces all large values placeholders from the given JSON payload with their preview.
+     *
+     * @param payload a JSON payload which might contain large values placeholders
+     * @return the payload having all placeholders replaced with a preview
+     */
+    public static String replaceWithPreview(String payload) {
+        if (!containsLargeValues(payload)) {
+            return payload;
+        }
+        return PLACEHOLDER.matcher(payload).replaceAll(match -> Matcher.quoteReplacement(escapeJson(fromMatch(match).preview())));
+    }
+
+    /**
+     * Escapes the given string so that it can be written inside a JSON string literal.
+     *
+     * @param value the value to escape
+     * @return the escaped value, without the surrounding quotes
+     */
+    public static String escapeJson(String value) {
+        String json = JsonUtils.GSON_NO_PRETTY_PRINTING.toJson(value);
+        return json.substring(1, json.length() - 1);
+    }
+
+    private static LargeValue fromMatch(Matcher matcher) {
+        return new LargeValue(decode(matcher.group(2)), decode(matcher.group(3)), Long.parseLong(matcher.group(1)), decode(matcher.group(4)));
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    private String toPlaceholder() {
+        return "cats_large_value(" + times + ":" + encode(prefix) + ":" + encode(unit) + ":" + encode(suffix) + ")";
+    }
+
+    /**
+     * The logical length of the value.
+     *
+     * @return number of chars of the value
+     */
+    public long length() {
+        return prefix.length() + unit.length() * times + suffix.length();
+    }
+
+    /**
+     * The first chars of the value, followed by its logical length.
+     *
+     * @return a short description of the value
+     */
+    public String preview() {
+        StringBuilder start = new StringBuilder(prefix);
+        for (long i = 0; i < times && start.length() < PREVIEW_LENGTH; i++) {
+            start.append(unit);
+        }
+        return StringUtils.substring(start.toString(), 0, PREVIEW_LENGTH) + "... [" + this.length() + " chars]";
+    }
+}
@@ -0,0 +1,117 @@
+package com.endava.cats.model;
+
+import com.google.common.math.LongMath;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Lazily enumerates all the subsets of a collection having a size within a given range.
+ * Subsets are generated in increasing order of their size, and in lexicographic order of the element indexes for the same size.
+ * Only the subset currently returned by the iterator is kept in memory, no matter how many elements the collection has.
+ *
+ * @param <T> the type of the elements
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class SetCombinations<T> implements Iterable<Set<T>> {
+    private final List<T> elements;
+    private final int minSize;
+    private final int maxSize;
+
+    private SetCombinations(Collection<T> elements, int minSize, int maxSize) {
+        this.elements = new ArrayList<>(elements);
+        this.minSize = Math.max(0, minSize);
+        this.maxSize = Math.min(maxSize, this.elements.size());
+    }
+
+    /**
+     * Creates all the subsets having a size between {@code minSize} and {@code maxSize}, inclusive.
+     *
+     * @param elements the elements used to create the subsets
+     * @param minSize  the minimum size of a subset
+     * @param maxSize  the maximum size of a subset; if greater than the number of elements, the number of elements will be used
+     * @param <T>      the type of the elements
+     * @return a lazy iterable over the subsets
+     */
+    public static <T> SetCombinations<T> ofSizes(Collection<T> elements, int minSize, int maxSize) {
+        return new SetCombinations<>(elements, minSize, maxSize);
+    }
+
+    /**
+     * Returns the number of subsets. If the number doesn't fit into a long, {@code Long.MAX_VALUE} is returned.
+     *
+     * @return the number of subsets
+     */
+    public long size() {
+        long size = 0;
+        for (int k = minSize; k <= maxSize; k++) {
+            size = LongMath.saturatedAdd(size, LongMath.binomial(elements.size(), k));
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<Set<T>> iterator() {
+        return new CombinationsIterator();
+    }
+
+    private class CombinationsIterator implements Iterator<Set<T>> {
+        private int[] indexes;
+
+        CombinationsIterator() {
+            if (minSize <= maxSize) {
+                indexes = firstCombination(minSize);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return indexes != null;
+        }
+
+        @Override
+        public Set<T> next() {
+            if (indexes == null) {
+                throw new NoSuchElementException();
+            }
+            Set<T> subset = new LinkedHashSet<>();
+            for (int index : indexes) {
+                subset.add(elements.get(index));
+            }
+            this.advance();
+            return subset;
+        }
+
+        private void advance() {
+            int k = indexes.length;
+            int n = elements.size();
+            int i = k - 1;
+            while (i >= 0 && indexes[i] == n - k + i) {
+                i--;
+            }
+            if (i >= 0) {
+                indexes[i]++;
+                for (int j = i + 1; j < k; j++) {
+                    indexes[j] = indexes[j - 1] + 1;
+                }
+            } else if (k < maxSize) {
+                indexes = firstCombination(k + 1);
+            } else {
+                indexes = null;
+            }
+        }
+
+        private int[] firstCombination(int size) {
+            int[] first = new int[size];
+            for (int i = 0; i < size; i++) {
+                first[i] = i;
+            }
+            return first;
+        }
+    }
+}
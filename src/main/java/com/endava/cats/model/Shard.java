@@ -0,0 +1,94 @@
+package com.endava.cats.model;
+
+import lombok.Getter;
+import picocli.CommandLine;
+
+/**
+ * One slice of a run split across multiple machines, supplied as {@code index/total}. The index starts from 1.
+ * Tests are numbered so that the ids are unique across all shards: the {@code n}-th test of shard {@code index} gets
+ * the number {@code (n - 1) * total + index}. When not sharding, this is the usual {@code n}.
+ */
+@Getter
+public final class Shard {
+    public static final Shard NONE = new Shard(1, 1);
+
+    private final int index;
+    private final int total;
+
+    public Shard(int index, int total) {
+        if (total < 1 || index < 1 || index > total) {
+            throw new IllegalArgumentException("Shard index must be between 1 and " + total + ", while total must be at least 1. Found: " + index + "/" + total);
+        }
+        this.index = index;
+        this.total = total;
+    }
+
+    /**
+     * Parses a shard supplied as {@code index/total}.
+     *
+     * @param value the shard, like 2/4
+     * @return a new shard
+     * @throws IllegalArgumentException if the value is not a valid shard
+     */
+    public static Shard parse(String value) {
+        String[] parts = String.valueOf(value).trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Shard must be supplied as index/total, like 2/4. Found: " + value);
+        }
+        try {
+            return new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Shard must be supplied as index/total, like 2/4. Found: " + value, e);
+        }
+    }
+
+    public boolean isSharded() {
+        return total > 1;
+    }
+
+    /**
+     * Computes the global number of a test from its number within this shard.
+     *
+     * @param localNumber the number of the test within this shard, starting from 1
+     * @return the number of the test across all shards
+     */
+    public long testNumber(long localNumber) {
+        return (localNumber - 1) * total + index;
+    }
+
+    /**
+     * Computes the number of a test within this shard from its global number. This is the inverse of {@link #testNumber(long)}.
+     *
+     * @param testNumber the number of the test across all shards
+     * @return the number of the test within this shard
+     */
+    public long localNumber(long testNumber) {
+        return (testNumber - index) / total + 1;
+    }
+
+    /**
+     * Checks if the test with the given global number was created by this shard.
+     *
+     * @param testNumber the number of the test across all shards
+     * @return true if the test belongs to this shard, false otherwise
+     */
+    public boolean owns(long testNumber) {
+        return testNumber >= index && (testNumber - index) % total == 0;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + total;
+    }
+
+    public static class Converter implements CommandLine.ITypeConverter<Shard> {
+        @Override
+        public Shard convert(String value) {
+            try {
+                return Shard.parse(value);
+            } catch (IllegalArgumentException e) {
+                throw new CommandLine.TypeConversionException(e.getMessage());
+            }
+        }
+    }
+}
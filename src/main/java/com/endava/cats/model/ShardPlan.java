@@ -0,0 +1,71 @@
+package com.endava.cats.model;
+
+import com.endava.cats.http.HttpMethod;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Splits the work of a run between shards. The unit of work is a path, HTTP method and Fuzzer combination.
+ * Units are assigned using the longest processing time first rule: units are sorted descending by their estimated number of tests
+ * and each unit is assigned to the shard with the lowest load so far. Ties are broken by the unit key and the shard index,
+ * so all shards compute the same assignment when started with the same contract and arguments.
+ */
+@Getter
+public final class ShardPlan {
+    private final Shard shard;
+    private final Set<String> assignedUnits;
+    private final long estimatedTests;
+    private final long totalEstimatedTests;
+
+    private ShardPlan(Shard shard, Set<String> assignedUnits, long estimatedTests, long totalEstimatedTests) {
+        this.shard = shard;
+        this.assignedUnits = Collections.unmodifiableSet(assignedUnits);
+        this.estimatedTests = estimatedTests;
+        this.totalEstimatedTests = totalEstimatedTests;
+    }
+
+    /**
+     * Assigns the given units to shards and keeps the ones assigned to the given shard.
+     *
+     * @param shard                the current shard
+     * @param estimatedTestsByUnit the estimated number of tests for each unit of work, keyed by {@link #unitKey(String, HttpMethod, String)}
+     * @return the plan for the given shard
+     */
+    public static ShardPlan create(Shard shard, Map<String, Long> estimatedTestsByUnit) {
+        List<Map.Entry<String, Long>> units = new ArrayList<>(estimatedTestsByUnit.entrySet());
+        units.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()));
+
+        long[] loads = new long[shard.getTotal()];
+        Set<String> assignedUnits = new TreeSet<>();
+        long totalEstimatedTests = 0;
+        for (Map.Entry<String, Long> unit : units) {
+            int leastLoaded = 0;
+            for (int i = 1; i < loads.length; i++) {
+                if (loads[i] < loads[leastLoaded]) {
+                    leastLoaded = i;
+                }
+            }
+            loads[leastLoaded] += unit.getValue();
+            totalEstimatedTests += unit.getValue();
+            if (leastLoaded == shard.getIndex() - 1) {
+                assignedUnits.add(unit.getKey());
+            }
+        }
+        return new ShardPlan(shard, assignedUnits, loads[shard.getIndex() - 1], totalEstimatedTests);
+    }
+
+    public static String unitKey(String path, HttpMethod httpMethod, String fuzzer) {
+        return path + " " + httpMethod + " " + fuzzer;
+    }
+
+    public boolean isAssigned(String path, HttpMethod httpMethod, String fuzzer) {
+        return !shard.isSharded() || assignedUnits.contains(unitKey(path, httpMethod, fuzzer));
+    }
+}
@@ -0,0 +1,52 @@
+package com.endava.cats.model.generator;
+
+import com.endava.cats.model.CatsGlobalContext;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The entries added by a {@link PayloadGenerator} to the {@link CatsGlobalContext} while generating examples.
+ * They are recorded so that they can be added again when a cached example is reused, in the same way as if the example was generated again.
+ */
+public class GlobalContextUpdates {
+    private final Map<String, Schema> requestDataTypes = new LinkedHashMap<>();
+    private final List<String> discriminators = new ArrayList<>();
+    private final List<String> additionalProperties = new ArrayList<>();
+
+    void addRequestDataType(String property, Schema schema) {
+        requestDataTypes.put(property, schema);
+    }
+
+    void addDiscriminator(String discriminator) {
+        discriminators.add(discriminator);
+    }
+
+    void addAdditionalProperty(String property) {
+        additionalProperties.add(property);
+    }
+
+    /**
+     * The data types of the fields walked by the generator, keyed by field name.
+     *
+     * @return the recorded request data types
+     */
+    public Map<String, Schema> getRequestDataTypes() {
+        return Collections.unmodifiableMap(requestDataTypes);
+    }
+
+    /**
+     * Adds all the recorded entries to the given context.
+     *
+     * @param globalContext the context to update
+     */
+    public void applyTo(CatsGlobalContext globalContext) {
+        globalContext.getRequestDataTypes().putAll(requestDataTypes);
+        globalContext.getDiscriminators().addAll(discriminators);
+        globalContext.getAdditionalProperties().addAll(additionalProperties);
+    }
+}
@@ -35,19 +35,20 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
 import java.util.UUID;
 
 /**
  * A modified version of @code{io.swagger.codegen.examples.ExampleGenerator} that takes into consideration several other request
  * setups including complex objects and array of objects.
  * <p>
- * This is a stateful object. Don't use it through dependency injection.
+ * This is a stateful object. Don't use it through dependency injection and don't share it between threads.
+ * All the entries added to the {@link CatsGlobalContext} are also recorded in {@link #getContextUpdates()}. The examples generated for object schemas
+ * are kept by each generator rather than set on the schemas, as the schemas are shared by all the paths, which are generated in parallel.
  */
 public class PayloadGenerator {
 
@@ -59,11 +60,12 @@ public class PayloadGenerator {
     private static final String URL = "url";
     private static final String URI = "uri";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private final Set<Schema<?>> catsGeneratedExamples = new HashSet<>();
+    private final Map<Schema<?>, Object> catsGeneratedExamples = new IdentityHashMap<>();
     private final Random random;
     private final DecimalFormat df = new DecimalFormat("#.00");
     private final boolean useExamples;
     private final CatsGlobalContext globalContext;
+    private final GlobalContextUpdates contextUpdates = new GlobalContextUpdates();
     private String currentProperty = "";
 
     public PayloadGenerator(CatsGlobalContext catsGlobalContext, boolean useExamplesArgument) {
@@ -122,9 +124,9 @@ public class PayloadGenerator {
 
     private <T> Object resolvePropertyToExample(String propertyName, String mediaType, Schema<T> property) {
         LOGGER.trace("Resolving example for property {}...", property);
-        if (property.getExample() != null && canUseExamples(property)) {
-            LOGGER.trace("Example set in swagger spec, returning example: '{}'", property.getExample());
-            return property.getExample();
+        if (this.getExample(property) != null && canUseExamples(property)) {
+            LOGGER.trace("Example set in swagger spec, returning example: '{}'", this.getExample(property));
+            return this.getExample(property);
         } else if (property instanceof StringSchema) {
             return this.getExampleFromStringSchema(propertyName, (StringSchema) property);
         } else if (property instanceof BooleanSchema) {
@@ -152,11 +154,18 @@ public class PayloadGenerator {
             return this.getExampleForByteArraySchema(property);
         }
 
-        return property.getExample();
+        return this.getExample(property);
     }
 
     private <T> boolean canUseExamples(Schema<T> property) {
-        return useExamples || catsGeneratedExamples.contains(property);
+        return useExamples || catsGeneratedExamples.containsKey(property);
+    }
+
+    /**
+     * The example generated by this generator takes precedence over the one from the contract.
+     */
+    private <T> Object getExample(Schema<T> property) {
+        return catsGeneratedExamples.containsKey(property) ? catsGeneratedExamples.get(property) : property.getExample();
     }
 
     private <T> Object getExampleForByteArraySchema(Schema<T> property) {
@@ -165,7 +174,7 @@ public class PayloadGenerator {
     }
 
     private <T> Object getExampleForObjectSchema(Schema<T> property) {
-        return property.getExample() != null ? property.getExample() : "{\"cats\":\"cats\"}";
+        return this.getExample(property) != null ? this.getExample(property) : "{\"cats\":\"cats\"}";
     }
 
     private Object getExampleFromStringSchema(String propertyName, Schema<String> property) {
@@ -210,7 +219,7 @@ public class PayloadGenerator {
 
     Map<String, Object> getExampleFromAdditionalPropertiesSchema(String propertyName, String mediaType, Schema property) {
         Map<String, Object> mp = new HashMap<>();
-        globalContext.getAdditionalProperties().add(propertyName);
+        this.addAdditionalProperty(propertyName);
         if (property.getName() != null) {
             mp.put(property.getName(), resolvePropertyToExample(propertyName, mediaType, (Schema) property.getAdditionalProperties()));
         } else if (((Schema) property.getAdditionalProperties()).get$ref() != null) {
@@ -300,7 +309,7 @@ public class PayloadGenerator {
         if (schema instanceof ComposedSchema) {
             this.populateWithComposedSchema(mediaType, values, name, (ComposedSchema) schema);
         } else {
-            globalContext.getRequestDataTypes().put(currentProperty, schema);
+            this.addRequestDataType(currentProperty, schema);
             return this.resolvePropertyToExample(name, mediaType, schema);
         }
         return values;
@@ -309,7 +318,7 @@ public class PayloadGenerator {
     private void processSchemaProperties(String name, String mediaType, Schema schema, Map<String, Object> values) {
         LOGGER.trace("Creating example from model values");
         if (schema.getDiscriminator() != null) {
-            globalContext.getDiscriminators().add(currentProperty + "#" + schema.getDiscriminator().getPropertyName());
+            this.addDiscriminator(currentProperty + "#" + schema.getDiscriminator().getPropertyName());
         }
         String previousPropertyValue = currentProperty;
         for (Object propertyName : schema.getProperties().keySet()) {
@@ -323,8 +332,7 @@ public class PayloadGenerator {
             }
         }
         currentProperty = previousPropertyValue;
-        schema.setExample(values);
-        catsGeneratedExamples.add(schema);
+        catsGeneratedExamples.put(schema, values);
     }
 
     private void parseFromInnerSchema(String name, String mediaType, Schema schema, Map<String, Object> values, Object propertyName) {
@@ -336,11 +344,11 @@ public class PayloadGenerator {
             this.populateWithComposedSchema(mediaType, values, propertyName.toString(), (ComposedSchema) innerSchema);
         } else if (schema.getDiscriminator() != null && schema.getDiscriminator().getPropertyName().equalsIgnoreCase(propertyName.toString())) {
             values.put(propertyName.toString(), innerSchema.getEnum().stream().filter(value -> name.contains(value.toString())).findFirst().orElse(""));
-            globalContext.getRequestDataTypes().put(currentProperty, innerSchema);
+            this.addRequestDataType(currentProperty, innerSchema);
         } else {
             Object example = this.resolvePropertyToExample(propertyName.toString(), mediaType, innerSchema);
             values.put(propertyName.toString(), example);
-            globalContext.getRequestDataTypes().put(currentProperty, innerSchema);
+            this.addRequestDataType(currentProperty, innerSchema);
         }
     }
 
@@ -398,4 +406,31 @@ public class PayloadGenerator {
             values.put(propertyName + of + fullSchemaRef, resolveModelToExample(propertyKey, mediaType, schemaToExample));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * The entries added to the global context by this generator since it was created.
+     *
+     * @return the recorded global context entries
+     */
+    public GlobalContextUpdates getContextUpdates() {
+        return contextUpdates;
+    }
+
+    private void addRequestDataType(String property, Schema schema) {
+        if (schema == null) {
+            return;
+        }
+        globalContext.getRequestDataTypes().put(property, schema);
+        contextUpdates.addRequestDataType(property, schema);
+    }
+
+    private void addDiscriminator(String discriminator) {
+        globalContext.getDiscriminators().add(discriminator);
+        contextUpdates.addDiscriminator(discriminator);
+    }
+
+    private void addAdditionalProperty(String property) {
+        globalContext.getAdditionalProperties().add(property);
+        contextUpdates.addAdditionalProperty(property);
+    }
+}
@@ -3,6 +3,10 @@ package com.endava.cats.model.report;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+/**
+ * Compact version of a {@link CatsTestCase} kept in memory for the whole run, after the full test case is written to disk.
+ * Transient fields are only used to compute execution statistics and are not part of the summary report.
+ */
 @EqualsAndHashCode
 @Getter
 public class CatsTestCaseSummary implements Comparable<CatsTestCaseSummary> {
@@ -12,6 +16,9 @@ public class CatsTestCaseSummary implements Comparable<CatsTestCaseSummary> {
     private String id;
     private String fuzzer;
     private String path;
+    private transient String httpMethod;
+    private transient long timeToExecuteInMs;
+    private transient boolean ignoredForExecutionStatistics;
 
     public static CatsTestCaseSummary fromCatsTestCase(String id, CatsTestCase testCase) {
         CatsTestCaseSummary summary = new CatsTestCaseSummary();
@@ -21,6 +28,11 @@ public class CatsTestCaseSummary implements Comparable<CatsTestCaseSummary> {
         summary.fuzzer = testCase.getFuzzer();
         summary.path = testCase.getPath();
         summary.resultReason = testCase.getResultReason();
+        summary.ignoredForExecutionStatistics = testCase.getResponse() == null || !testCase.notIgnoredForExecutionStatistics();
+        if (testCase.getResponse() != null) {
+            summary.httpMethod = testCase.getResponse().getHttpMethod();
+            summary.timeToExecuteInMs = testCase.getResponse().getResponseTimeInMs();
+        }
 
         return summary;
     }
@@ -41,6 +53,10 @@ public class CatsTestCaseSummary implements Comparable<CatsTestCaseSummary> {
         return num.isEmpty() ? 0 : Integer.parseInt(num);
     }
 
+    public String executionTimeString() {
+        return id + " - " + timeToExecuteInMs + "ms";
+    }
+
     public String getKey() {
         return id.replace(" ", "");
     }
@@ -13,8 +13,10 @@ public class CatsTestReport {
     private final int success;
     private final int warnings;
     private final int errors;
+    private final int skipped;
     private final long executionTime;
     private final String timestamp;
     private final String catsVersion;
+    private final int deduplicatedCalls;
 
 }
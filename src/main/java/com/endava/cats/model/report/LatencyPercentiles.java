@@ -0,0 +1,44 @@
+package com.endava.cats.model.report;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The latency distribution of a group of responses. All values are in milliseconds.
+ */
+@Getter
+@Builder
+@ToString
+public class LatencyPercentiles {
+    private static final double NANOS_IN_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long count;
+    private final double mean;
+    private final double p50;
+    private final double p90;
+    private final double p95;
+    private final double p99;
+    private final double p999;
+    private final double max;
+
+    public static LatencyPercentiles from(Histogram histogram) {
+        return LatencyPercentiles.builder()
+                .count(histogram.getTotalCount())
+                .mean(toMs(histogram.getMean()))
+                .p50(toMs(histogram.getValueAtPercentile(50)))
+                .p90(toMs(histogram.getValueAtPercentile(90)))
+                .p95(toMs(histogram.getValueAtPercentile(95)))
+                .p99(toMs(histogram.getValueAtPercentile(99)))
+                .p999(toMs(histogram.getValueAtPercentile(99.9)))
+                .max(toMs(histogram.getMaxValue()))
+                .build();
+    }
+
+    private static double toMs(double nanos) {
+        return Math.round(nanos / NANOS_IN_MS * 100) / 100.0;
+    }
+}
@@ -0,0 +1,20 @@
+package com.endava.cats.model.report;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A latency percentile which is significantly slower than the same percentile of a baseline run. Latencies are in milliseconds.
+ */
+@Getter
+@Builder
+@ToString
+public class LatencyRegression {
+    private final String group;
+    private final String key;
+    private final String percentile;
+    private final double baseline;
+    private final double current;
+    private final double changePercent;
+}
@@ -0,0 +1,21 @@
+package com.endava.cats.model.report;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The latency percentiles of a run, grouped by path and HTTP method and by Fuzzer.
+ * The percentiles of each phase of the HTTP calls are grouped by path and HTTP method and then by phase.
+ * When a baseline report is supplied, the percentiles which are significantly slower than the baseline ones are listed as regressions.
+ */
+@Getter
+@Builder
+public class LatencyReport {
+    private final Map<String, LatencyPercentiles> operations;
+    private final Map<String, LatencyPercentiles> fuzzers;
+    private final Map<String, Map<String, LatencyPercentiles>> phases;
+    private final List<LatencyRegression> regressions;
+}
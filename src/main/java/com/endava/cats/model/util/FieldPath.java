@@ -0,0 +1,245 @@
+package com.endava.cats.model.util;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+import net.minidev.json.JSONArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A precompiled accessor for a {@code #} separated field name like {@code address#street} or {@code items[*]#name}.
+ * Reads and changes are done by walking the parsed JSON tree, without converting the field name to a JsonPath expression.
+ * The walk follows the JsonPath semantics: missing properties fail with {@link PathNotFoundException} for definite paths
+ * and are ignored after a wildcard. Field names which cannot be walked directly, like names containing dots or filters,
+ * are evaluated using a compiled JsonPath.
+ * <p>
+ * Each field path also has variants used when the payload is a JSON array: {@link #firstElement()} for reads and {@link #allElements()} for changes.
+ */
+public final class FieldPath {
+    private static final Configuration CONFIGURATION = Configuration.defaultConfiguration();
+    private static final Pattern NAME_WITH_INDEXES = Pattern.compile("([\\w-]+)((?:\\[(?:\\*|\\d+)])*)");
+    private static final Pattern INDEX = Pattern.compile("\\[(\\*|\\d+)]");
+    private static final Object WILDCARD = new Object();
+
+    private final String jsonPath;
+    private final Object[] tokens;
+    private final boolean definite;
+    private FieldPath firstElement;
+    private FieldPath allElements;
+    private JsonPath compiledJsonPath;
+
+    private FieldPath(String jsonPath, Object[] tokens) {
+        this.jsonPath = jsonPath;
+        this.tokens = tokens;
+        this.definite = tokens == null || !List.of(tokens).contains(WILDCARD);
+    }
+
+    /**
+     * Compiles the given field name.
+     *
+     * @param field the {@code #} separated field name
+     * @return the compiled field path
+     */
+    public static FieldPath compile(String field) {
+        FieldPath fieldPath = create("", field);
+        fieldPath.firstElement = create(JsonUtils.FIRST_ELEMENT_FROM_ROOT_ARRAY, field);
+        fieldPath.allElements = create(JsonUtils.ALL_ELEMENTS_ROOT_ARRAY, field);
+        return fieldPath;
+    }
+
+    private static FieldPath create(String rootPrefix, String field) {
+        List<Object> tokens = new ArrayList<>();
+        if (JsonUtils.FIRST_ELEMENT_FROM_ROOT_ARRAY.equals(rootPrefix)) {
+            tokens.add(0);
+        } else if (JsonUtils.ALL_ELEMENTS_ROOT_ARRAY.equals(rootPrefix)) {
+            tokens.add(WILDCARD);
+        }
+        for (String segment : field.split("#", -1)) {
+            Matcher matcher = NAME_WITH_INDEXES.matcher(segment);
+            if (!matcher.matches()) {
+                return new FieldPath(JsonUtils.sanitizeToJsonPath(rootPrefix + field), null);
+            }
+            tokens.add(matcher.group(1));
+            Matcher indexMatcher = INDEX.matcher(matcher.group(2));
+            while (indexMatcher.find()) {
+                tokens.add("*".equals(indexMatcher.group(1)) ? WILDCARD : (Object) Integer.parseInt(indexMatcher.group(1)));
+            }
+        }
+        return new FieldPath(JsonUtils.sanitizeToJsonPath(rootPrefix + field), tokens.toArray());
+    }
+
+    /**
+     * The variant used to read fields when the payload is a JSON array: {@code $[0]#field}.
+     *
+     * @return the field path applied to the first element of a root array
+     */
+    public FieldPath firstElement() {
+        return firstElement;
+    }
+
+    /**
+     * The variant used to change fields when the payload is a JSON array: {@code $[*]#field}.
+     *
+     * @return the field path applied to all the elements of a root array
+     */
+    public FieldPath allElements() {
+        return allElements;
+    }
+
+    /**
+     * Reads the value of the field. For paths containing wildcards, a list with all the matching values is returned.
+     *
+     * @param json the parsed JSON
+     * @return the value of the field
+     * @throws PathNotFoundException if the path is definite and the field does not exist
+     */
+    public Object read(Object json) {
+        if (tokens == null) {
+            return this.getCompiledJsonPath().read(json, CONFIGURATION);
+        }
+        List<Reference> references = this.evaluate(json);
+        if (definite) {
+            if (references.isEmpty()) {
+                throw new PathNotFoundException("No results for path: " + jsonPath);
+            }
+            return references.get(0).get();
+        }
+        JSONArray values = new JSONArray();
+        references.forEach(reference -> values.add(reference.get()));
+        return values;
+    }
+
+    /**
+     * Sets the value of all the existing fields matching this path. Missing fields are not created.
+     *
+     * @param json  the parsed JSON which will be changed
+     * @param value the new value
+     */
+    public void set(Object json, Object value) {
+        if (tokens == null) {
+            this.getCompiledJsonPath().set(json, value, CONFIGURATION);
+            return;
+        }
+        this.evaluate(json).forEach(reference -> reference.set(value));
+    }
+
+    /**
+     * Deletes all the fields matching this path.
+     *
+     * @param json the parsed JSON which will be changed
+     */
+    public void delete(Object json) {
+        if (tokens == null) {
+            this.getCompiledJsonPath().delete(json, CONFIGURATION);
+            return;
+        }
+        List<Reference> references = this.evaluate(json);
+        for (int i = references.size() - 1; i >= 0; i--) {
+            references.get(i).delete();
+        }
+    }
+
+    private synchronized JsonPath getCompiledJsonPath() {
+        if (compiledJsonPath == null) {
+            compiledJsonPath = JsonPath.compile(jsonPath);
+        }
+        return compiledJsonPath;
+    }
+
+    private List<Reference> evaluate(Object json) {
+        List<Reference> references = new ArrayList<>();
+        this.walk(json, 0, true, references);
+        return references;
+    }
+
+    private void walk(Object node, int position, boolean upstreamDefinite, List<Reference> references) {
+        Object token = tokens[position];
+        boolean leaf = position == tokens.length - 1;
+
+        if (token == WILDCARD) {
+            if (node instanceof List) {
+                List<?> list = (List<?>) node;
+                for (int i = 0; i < list.size(); i++) {
+                    this.visit(new Reference(list, i), leaf, position, false, references);
+                }
+            } else if (node instanceof Map) {
+                for (Object key : ((Map<?, ?>) node).keySet()) {
+                    this.visit(new Reference(node, key), leaf, position, false, references);
+                }
+            }
+        } else if (token instanceof Integer) {
+            if (!(node instanceof List)) {
+                this.failIfDefinite(upstreamDefinite, "Expected to find an array with index " + token + " in path " + jsonPath);
+            } else if ((Integer) token < ((List<?>) node).size()) {
+                this.visit(new Reference(node, token), leaf, position, upstreamDefinite, references);
+            }
+        } else if (!(node instanceof Map)) {
+            this.failIfDefinite(upstreamDefinite, "Expected to find an object with property " + token + " in path " + jsonPath);
+        } else if (((Map<?, ?>) node).containsKey(token)) {
+            this.visit(new Reference(node, token), leaf, position, upstreamDefinite, references);
+        } else if (!leaf) {
+            this.failIfDefinite(upstreamDefinite, "Missing property in path " + jsonPath);
+        }
+    }
+
+    private void visit(Reference reference, boolean leaf, int position, boolean upstreamDefinite, List<Reference> references) {
+        if (leaf) {
+            references.add(reference);
+        } else {
+            this.walk(reference.get(), position + 1, upstreamDefinite, references);
+        }
+    }
+
+    private void failIfDefinite(boolean upstreamDefinite, String message) {
+        if (upstreamDefinite) {
+            throw new PathNotFoundException(message);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return jsonPath;
+    }
+
+    /**
+     * A reference to a property of an object or to an element of an array.
+     */
+    private static class Reference {
+        private final Object parent;
+        private final Object key;
+
+        Reference(Object parent, Object key) {
+            this.parent = parent;
+            this.key = key;
+        }
+
+        Object get() {
+            if (parent instanceof List) {
+                return ((List<?>) parent).get((Integer) key);
+            }
+            return ((Map<?, ?>) parent).get(key);
+        }
+
+        @SuppressWarnings("unchecked")
+        void set(Object value) {
+            if (parent instanceof List) {
+                ((List<Object>) parent).set((Integer) key, value);
+            } else {
+                ((Map<Object, Object>) parent).put(key, value);
+            }
+        }
+
+        void delete() {
+            if (parent instanceof List) {
+                ((List<?>) parent).remove((int) (Integer) key);
+            } else {
+                ((Map<?, ?>) parent).remove(key);
+            }
+        }
+    }
+}
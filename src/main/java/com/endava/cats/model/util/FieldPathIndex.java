@@ -0,0 +1,26 @@
+package com.endava.cats.model.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of compiled {@link FieldPath}s, keyed by field name. Field names not known when the index is created
+ * are compiled on first use and kept in the index.
+ */
+public final class FieldPathIndex {
+    private final Map<String, FieldPath> fieldPaths = new ConcurrentHashMap<>();
+
+    public FieldPathIndex(Collection<String> fields) {
+        fields.forEach(this::get);
+    }
+
+    public static FieldPathIndex empty() {
+        return new FieldPathIndex(Collections.emptySet());
+    }
+
+    public FieldPath get(String field) {
+        return fieldPaths.computeIfAbsent(field, FieldPath::compile);
+    }
+}
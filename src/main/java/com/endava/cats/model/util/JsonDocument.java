@@ -0,0 +1,180 @@
+package com.endava.cats.model.util;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.PathNotFoundException;
+import net.minidev.json.JSONArray;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A JSON payload which is parsed only once, on first access. Reads are done directly on the parsed tree.
+ * Changes are copy-on-write: each change returns a new document built from a deep copy of the tree, so the original
+ * document can be safely shared between fuzzers running in parallel. The resulting payload is serialized only once, when calling {@link #jsonString()}.
+ * <p>
+ * Field names are the {@code #} separated names used by the fuzzers. They are resolved using a {@link FieldPathIndex}, which is
+ * shared with all the documents derived from this one. When the payload is a JSON array, reads are done on the first element
+ * and changes are applied to all the elements of the array.
+ */
+public final class JsonDocument {
+    private static final Configuration CONFIGURATION = Configuration.defaultConfiguration();
+
+    private final String source;
+    private final FieldPathIndex fieldPathIndex;
+    private Object json;
+    private String jsonString;
+
+    private JsonDocument(String source, Object json, FieldPathIndex fieldPathIndex) {
+        this.source = source;
+        this.json = json;
+        this.fieldPathIndex = fieldPathIndex;
+    }
+
+    /**
+     * Creates a document from the given payload. The payload is not parsed until the document is first accessed.
+     *
+     * @param payload the JSON payload
+     * @return a new document
+     */
+    public static JsonDocument parse(String payload) {
+        return parse(payload, FieldPathIndex.empty());
+    }
+
+    /**
+     * Creates a document from the given payload, resolving field names using the given index.
+     * The payload is not parsed until the document is first accessed.
+     *
+     * @param payload        the JSON payload
+     * @param fieldPathIndex the index used to resolve field names
+     * @return a new document
+     */
+    public static JsonDocument parse(String payload, FieldPathIndex fieldPathIndex) {
+        return new JsonDocument(payload, null, fieldPathIndex);
+    }
+
+    public boolean isBlank() {
+        return json == null && StringUtils.isBlank(source);
+    }
+
+    public boolean isArray() {
+        return this.getJson() instanceof JSONArray;
+    }
+
+    /**
+     * Checks if the given field is a JSON primitive: string, number, boolean or null.
+     *
+     * @param field the name of the field
+     * @return true if the field is a primitive, false if the field is an object, an array or it does not exist
+     */
+    public boolean isPrimitive(String field) {
+        try {
+            Object value = this.readField(field);
+            return !(value instanceof Map || value instanceof List);
+        } catch (PathNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the value of the given field.
+     *
+     * @param field the name of the field
+     * @return the value of the field
+     * @throws PathNotFoundException if the field does not exist
+     */
+    public Object readField(String field) {
+        FieldPath fieldPath = fieldPathIndex.get(field);
+        return (this.isArray() ? fieldPath.firstElement() : fieldPath).read(this.getJson());
+    }
+
+    /**
+     * Returns a new document having the given field set to the given value. The current document is not changed.
+     *
+     * @param field the name of the field
+     * @param value the new value
+     * @return a new document with the field changed
+     */
+    public JsonDocument withField(String field, Object value) {
+        Object copy = this.copyOfJson();
+        this.pathForChange(field).set(copy, value);
+        return new JsonDocument(null, copy, fieldPathIndex);
+    }
+
+    /**
+     * Returns a new document having all the given fields removed. Fields which don't exist are ignored. The current document is not changed.
+     *
+     * @param fields the names of the fields to remove
+     * @return a new document without the given fields
+     */
+    public JsonDocument withoutFields(Collection<String> fields) {
+        Object copy = this.copyOfJson();
+        for (String field : fields) {
+            try {
+                this.pathForChange(field).delete(copy);
+            } catch (PathNotFoundException e) {
+                //field does not exist in this payload
+            }
+        }
+        return new JsonDocument(null, copy, fieldPathIndex);
+    }
+
+    /**
+     * Checks if the two documents have the same content, regardless of the way they are formatted.
+     *
+     * @param other the document to compare with
+     * @return true if the two documents have the same content, false otherwise
+     */
+    public boolean hasSameContentAs(JsonDocument other) {
+        return Objects.equals(this.getJson(), other.getJson());
+    }
+
+    /**
+     * Returns the payload as a string. Documents which were not changed return the original payload, as it was supplied.
+     *
+     * @return the JSON payload
+     */
+    public synchronized String jsonString() {
+        if (source != null) {
+            return source;
+        }
+        if (jsonString == null) {
+            jsonString = CONFIGURATION.jsonProvider().toJson(json);
+        }
+        return jsonString;
+    }
+
+    private FieldPath pathForChange(String field) {
+        FieldPath fieldPath = fieldPathIndex.get(field);
+        return this.isArray() ? fieldPath.allElements() : fieldPath;
+    }
+
+    private synchronized Object getJson() {
+        if (json == null) {
+            json = CONFIGURATION.jsonProvider().parse(source);
+        }
+        return json;
+    }
+
+    private Object copyOfJson() {
+        return deepCopy(this.getJson());
+    }
+
+    private static Object deepCopy(Object node) {
+        if (node instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) node;
+            Map<Object, Object> copy = new LinkedHashMap<>(map.size());
+            map.forEach((key, value) -> copy.put(key, deepCopy(value)));
+            return copy;
+        }
+        if (node instanceof List) {
+            JSONArray copy = new JSONArray();
+            ((List<?>) node).forEach(value -> copy.add(deepCopy(value)));
+            return copy;
+        }
+        return node;
+    }
+}
@@ -2,6 +2,7 @@ package com.endava.cats.model.util;
 
 import com.endava.cats.generator.simple.StringGenerator;
 import com.endava.cats.model.FuzzingStrategy;
+import com.endava.cats.model.LargeValue;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Arrays;
@@ -84,4 +85,20 @@ public abstract class PayloadUtils {
         return Collections.singletonList(FuzzingStrategy.replace().withData(markLargeString(StringUtils.repeat(generatedValue, payloadSize + 1))));
     }
 
+    /**
+     * Same as {@link #getLargeValuesStrategy(int)}, but values which don't fit in memory are returned as {@link LargeValue} placeholders.
+     * This must only be used for values sent inside the request payload.
+     *
+     * @param largeStringsSize the size of the large values
+     * @return a replace strategy with a large unicode value
+     */
+    public static List<FuzzingStrategy> getLargeValuesInPayloadStrategy(int largeStringsSize) {
+        String generatedValue = StringGenerator.generateRandomUnicode();
+        int payloadSize = largeStringsSize / generatedValue.length();
+        if (payloadSize == 0) {
+            return getLargeValuesStrategy(largeStringsSize);
+        }
+        return Collections.singletonList(FuzzingStrategy.replace().withData(LargeValue.of("ca", generatedValue, payloadSize + 1L, "ts")));
+    }
+
 }
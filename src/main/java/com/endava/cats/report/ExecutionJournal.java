@@ -0,0 +1,194 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.report.CatsTestCaseSummary;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A durable record of the progress of a run, written next to the report as JSON lines. It contains an entry for each test written to the report
+ * and a checkpoint each time a path is fully executed. A checkpoint has the path, HTTP method and Fuzzer combinations completed so far and the number
+ * of the last test created by them. When resuming an interrupted run, completed combinations are skipped and the summaries of the tests up to the
+ * last checkpoint are added to the final report. Tests created after the last checkpoint belong to combinations that will be executed again, so they
+ * are dropped: the journal is rewritten with the tests up to the last checkpoint and a single checkpoint merging all the previous ones, before new
+ * entries are appended. This way, resuming several times never counts a test twice.
+ * <p>
+ * A run killed while writing an entry can leave an incomplete last line. Lines which can't be parsed are ignored when loading the journal.
+ */
+public final class ExecutionJournal {
+    public static final String JOURNAL = "cats-journal.jsonl";
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(ExecutionJournal.class);
+    private static final String TEST = "test";
+    private static final String CHECKPOINT = "checkpoint";
+    private static final String UNITS = "units";
+    private static final String LAST_TEST = "lastTest";
+    /*the summary fields used for the execution statistics are transient, so they need to be explicitly included*/
+    private static final Gson JOURNAL_GSON = new GsonBuilder().excludeFieldsWithModifiers(Modifier.STATIC).disableHtmlEscaping().create();
+
+    private final Set<String> completedUnits = new HashSet<>();
+    private final List<CatsTestCaseSummary> previousTests = new ArrayList<>();
+    private final List<CatsTestCaseSummary> testsAfterCheckpoint = new ArrayList<>();
+    private long lastCheckpointTest;
+    private final BufferedWriter writer;
+
+    private ExecutionJournal(Path file, boolean resume) throws IOException {
+        if (resume && Files.isRegularFile(file)) {
+            this.load(file);
+            this.compact(file);
+        }
+        StandardOpenOption mode = resume ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode);
+    }
+
+    /**
+     * Opens the journal from the given report folder.
+     *
+     * @param reportingPath the report folder
+     * @param resume        if true, the existing journal is loaded, truncated to its last checkpoint and new entries are appended to it; otherwise the journal is started from scratch
+     * @return the journal
+     * @throws IOException if the journal can't be read or created
+     */
+    static ExecutionJournal open(Path reportingPath, boolean resume) throws IOException {
+        return new ExecutionJournal(reportingPath.resolve(JOURNAL), resume);
+    }
+
+    private void load(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                this.loadEntry(line);
+            }
+        }
+        LOGGER.note("Loaded {} previous tests and {} completed path, HTTP method and Fuzzer combinations from {}. Discarded {} tests created after the last checkpoint",
+                previousTests.size(), completedUnits.size(), file, testsAfterCheckpoint.size());
+    }
+
+    /**
+     * Tests are only kept once a later checkpoint is found, as all the tests are written to the journal before each checkpoint.
+     */
+    private void loadEntry(String line) {
+        JsonObject entry = this.parseEntry(line);
+        if (entry.has(TEST)) {
+            testsAfterCheckpoint.add(JOURNAL_GSON.fromJson(entry.get(TEST), CatsTestCaseSummary.class));
+        } else if (entry.has(CHECKPOINT)) {
+            JsonObject checkpoint = entry.getAsJsonObject(CHECKPOINT);
+            checkpoint.getAsJsonArray(UNITS).forEach(unit -> completedUnits.add(unit.getAsString()));
+            lastCheckpointTest = Math.max(lastCheckpointTest, checkpoint.get(LAST_TEST).getAsLong());
+            previousTests.addAll(testsAfterCheckpoint);
+            testsAfterCheckpoint.clear();
+        }
+    }
+
+    /**
+     * Rewrites the journal with only the tests up to the last checkpoint, followed by a single checkpoint. The new content is written to a temporary
+     * file which then replaces the journal, so that a run killed while compacting still leaves a valid journal.
+     */
+    private void compact(Path file) throws IOException {
+        Path compacted = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter compactedWriter = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+            for (CatsTestCaseSummary previousTest : previousTests) {
+                this.write(compactedWriter, this.testEntry(previousTest));
+            }
+            if (!completedUnits.isEmpty()) {
+                this.write(compactedWriter, this.checkpointEntry(completedUnits, lastCheckpointTest));
+            }
+        }
+        Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private JsonObject parseEntry(String line) {
+        try {
+            JsonElement entry = JsonParser.parseString(line);
+            if (entry.isJsonObject()) {
+                return entry.getAsJsonObject();
+            }
+        } catch (JsonParseException e) {
+            LOGGER.debug("Ignoring incomplete journal entry: {}", line);
+        }
+        return new JsonObject();
+    }
+
+    synchronized void recordTest(CatsTestCaseSummary summary) {
+        this.write(this.testEntry(summary));
+    }
+
+    /**
+     * Records a checkpoint. The journal is flushed immediately, so that the entry survives the process being killed.
+     *
+     * @param units    the path, HTTP method and Fuzzer combinations completed since the previous checkpoint
+     * @param lastTest the number of the last test created by the current shard
+     */
+    synchronized void recordCheckpoint(Collection<String> units, long lastTest) {
+        this.write(this.checkpointEntry(units, lastTest));
+        this.flush();
+    }
+
+    private JsonObject testEntry(CatsTestCaseSummary summary) {
+        JsonObject entry = new JsonObject();
+        entry.add(TEST, JOURNAL_GSON.toJsonTree(summary));
+        return entry;
+    }
+
+    private JsonObject checkpointEntry(Collection<String> units, long lastTest) {
+        JsonObject checkpoint = new JsonObject();
+        checkpoint.add(UNITS, JOURNAL_GSON.toJsonTree(units));
+        checkpoint.addProperty(LAST_TEST, lastTest);
+        JsonObject entry = new JsonObject();
+        entry.add(CHECKPOINT, checkpoint);
+        return entry;
+    }
+
+    synchronized void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            LOGGER.error("There was a problem writing the journal: {}", e.getMessage(), e);
+        }
+    }
+
+    private void write(JsonObject entry) {
+        try {
+            this.write(writer, entry);
+        } catch (IOException e) {
+            LOGGER.error("There was a problem writing the journal: {}", e.getMessage(), e);
+        }
+    }
+
+    private void write(BufferedWriter target, JsonObject entry) throws IOException {
+        target.write(JOURNAL_GSON.toJson(entry));
+        target.newLine();
+    }
+
+    public Set<String> getCompletedUnits() {
+        return Collections.unmodifiableSet(completedUnits);
+    }
+
+    public List<CatsTestCaseSummary> getPreviousTests() {
+        return Collections.unmodifiableList(previousTests);
+    }
+
+    public long getLastCheckpointTest() {
+        return lastCheckpointTest;
+    }
+}
@@ -1,38 +1,225 @@
 package com.endava.cats.report;
 
 import com.endava.cats.annotations.DryRun;
-import lombok.Getter;
+import com.endava.cats.model.HttpPhaseTimings;
+import lombok.Value;
 
 import javax.enterprise.context.ApplicationScoped;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 @ApplicationScoped
-@Getter
 @DryRun
 public class ExecutionStatisticsListener {
 
-    private int errors;
-    private int warns;
-    private int success;
-    private int skipped;
+    private static final double NANOS_IN_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicInteger errors = new AtomicInteger();
+    private final AtomicInteger warns = new AtomicInteger();
+    private final AtomicInteger success = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger connectionsOpened = new AtomicInteger();
+    private final AtomicInteger connectionsAcquired = new AtomicInteger();
+    private final AtomicInteger deduplicatedCalls = new AtomicInteger();
+    private final AtomicInteger latencyRegressions = new AtomicInteger();
+    private final LatencyHistograms operationLatencies = new LatencyHistograms();
+    private final LatencyHistograms fuzzerLatencies = new LatencyHistograms();
+    private final ConcurrentMap<String, LatencyHistograms> phaseLatencies = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final ConcurrentMap<ResultKey, LongAdder> results = new ConcurrentHashMap<>();
 
     public void increaseSkipped() {
-        this.skipped++;
+        this.skipped.incrementAndGet();
+    }
+
+    /**
+     * Adds tests skipped outside the current run, like the ones of merged reports. Skipped tests are not written in the reports,
+     * so they can only be counted using the summary of each report.
+     *
+     * @param skippedTests the number of skipped tests
+     */
+    public void increaseSkipped(int skippedTests) {
+        this.skipped.addAndGet(skippedTests);
     }
 
     public void increaseErrors() {
-        this.errors++;
+        this.errors.incrementAndGet();
     }
 
     public void increaseWarns() {
-        this.warns++;
+        this.warns.incrementAndGet();
     }
 
     public void increaseSuccess() {
-        this.success++;
+        this.success.incrementAndGet();
+    }
+
+    public void increaseConnectionsOpened() {
+        this.connectionsOpened.incrementAndGet();
+    }
+
+    public void increaseConnectionsAcquired() {
+        this.connectionsAcquired.incrementAndGet();
+    }
+
+    public void increaseDeduplicatedCalls() {
+        this.deduplicatedCalls.incrementAndGet();
+    }
+
+    /**
+     * Records the response time of a call actually sent to the service.
+     *
+     * @param httpMethod the HTTP method
+     * @param path       the contract path
+     * @param fuzzer     the Fuzzer which sent the call
+     * @param nanos      the response time in nanoseconds
+     */
+    public void recordLatency(String httpMethod, String path, String fuzzer, long nanos) {
+        this.operationLatencies.record(httpMethod + " " + path, nanos);
+        this.fuzzerLatencies.record(fuzzer, nanos);
+    }
+
+    /**
+     * Records the duration of each phase of a call actually sent to the service.
+     *
+     * @param httpMethod the HTTP method
+     * @param path       the contract path
+     * @param timings    the duration of each phase of the call
+     */
+    public void recordPhaseTimings(String httpMethod, String path, HttpPhaseTimings timings) {
+        timings.asMap().forEach((phase, ms) -> this.phaseLatencies.computeIfAbsent(phase, key -> new LatencyHistograms())
+                .record(httpMethod + " " + path, (long) (ms * NANOS_IN_MS)));
+    }
+
+    /**
+     * Returns the latency histograms of each phase of the HTTP calls, in the order in which phases happen.
+     *
+     * @return the latency histograms of each path and HTTP method, for each phase
+     */
+    public Map<String, LatencyHistograms> getPhaseLatencies() {
+        Map<String, LatencyHistograms> phases = new LinkedHashMap<>();
+        for (String phase : HttpPhaseTimings.PHASES) {
+            Optional.ofNullable(this.phaseLatencies.get(phase)).ifPresent(histograms -> phases.put(phase, histograms));
+        }
+        return phases;
+    }
+
+    /**
+     * Records the result of a finished test, so that results can be broken down by Fuzzer and path.
+     *
+     * @param fuzzer the Fuzzer which created the test
+     * @param path   the contract path
+     * @param result the result of the test
+     */
+    public void recordResult(String fuzzer, String path, String result) {
+        this.results.computeIfAbsent(new ResultKey(String.valueOf(fuzzer), String.valueOf(path), String.valueOf(result)), key -> new LongAdder()).increment();
+    }
+
+    public void increaseInFlightRequests() {
+        this.requests.incrementAndGet();
+        this.inFlightRequests.incrementAndGet();
+    }
+
+    public void decreaseInFlightRequests() {
+        this.inFlightRequests.decrementAndGet();
+    }
+
+    public long getRequests() {
+        return this.requests.get();
+    }
+
+    public int getInFlightRequests() {
+        return this.inFlightRequests.get();
+    }
+
+    public Map<ResultKey, Long> getResults() {
+        Map<ResultKey, Long> snapshot = new TreeMap<>();
+        this.results.forEach((key, count) -> snapshot.put(key, count.sum()));
+        return snapshot;
+    }
+
+    public LatencyHistograms getOperationLatencies() {
+        return this.operationLatencies;
+    }
+
+    public LatencyHistograms getFuzzerLatencies() {
+        return this.fuzzerLatencies;
+    }
+
+    public void recordLatencyRegressions(int regressions) {
+        this.latencyRegressions.set(regressions);
+    }
+
+    public int getLatencyRegressions() {
+        return this.latencyRegressions.get();
+    }
+
+    public int getErrors() {
+        return this.errors.get();
+    }
+
+    public int getWarns() {
+        return this.warns.get();
+    }
+
+    public int getSuccess() {
+        return this.success.get();
+    }
+
+    public int getSkipped() {
+        return this.skipped.get();
+    }
+
+    public int getConnectionsOpened() {
+        return this.connectionsOpened.get();
+    }
+
+    public int getConnectionsAcquired() {
+        return this.connectionsAcquired.get();
+    }
+
+    public int getDeduplicatedCalls() {
+        return this.deduplicatedCalls.get();
+    }
+
+    /**
+     * Each HTTP call acquires a connection, either a new one or one from the connection pool.
+     *
+     * @return the percentage of calls which reused an existing connection
+     */
+    public double getConnectionReuseRatio() {
+        int acquired = this.connectionsAcquired.get();
+        if (acquired == 0) {
+            return 0;
+        }
+        return 100.0 * Math.max(0, acquired - this.connectionsOpened.get()) / acquired;
     }
 
     public int getAll() {
-        return this.success + this.warns + this.errors;
+        return this.success.get() + this.warns.get() + this.errors.get();
     }
 
+    @Value
+    public static class ResultKey implements Comparable<ResultKey> {
+        private static final Comparator<ResultKey> ORDER = Comparator.comparing(ResultKey::getFuzzer).thenComparing(ResultKey::getPath).thenComparing(ResultKey::getResult);
+
+        String fuzzer;
+        String path;
+        String result;
+
+        @Override
+        public int compareTo(ResultKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
 }
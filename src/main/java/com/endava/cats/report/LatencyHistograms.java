@@ -0,0 +1,52 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.report.LatencyPercentiles;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Latency histograms grouped by a key, like the path and HTTP method or the Fuzzer. Each histogram uses a fixed amount of memory
+ * no matter how many responses are recorded, so that latency statistics don't require keeping all the tests in memory.
+ * Values are recorded in nanoseconds with 2 significant digits, which keeps the error of the percentiles under 1%.
+ */
+public class LatencyHistograms {
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Records a response time. Recording is wait-free and can be done from any thread.
+     *
+     * @param key   the group of the response
+     * @param nanos the response time in nanoseconds
+     */
+    public void record(String key, long nanos) {
+        histograms.computeIfAbsent(key, k -> new ConcurrentHistogram(SIGNIFICANT_DIGITS)).recordValue(Math.max(0, nanos));
+    }
+
+    /**
+     * Returns a snapshot of all histograms, sorted by key. Copies are returned so that recording can continue while reading them.
+     *
+     * @return the histograms of all the keys
+     */
+    public Map<String, Histogram> getHistograms() {
+        Map<String, Histogram> snapshot = new TreeMap<>();
+        histograms.forEach((key, histogram) -> snapshot.put(key, histogram.copy()));
+        return snapshot;
+    }
+
+    public Map<String, LatencyPercentiles> getPercentiles() {
+        Map<String, LatencyPercentiles> percentiles = new TreeMap<>();
+        this.getHistograms().forEach((key, histogram) -> percentiles.put(key, LatencyPercentiles.from(histogram)));
+        return percentiles;
+    }
+
+    public boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+}
@@ -0,0 +1,114 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.report.LatencyPercentiles;
+import com.endava.cats.model.report.LatencyRegression;
+import com.endava.cats.model.report.LatencyReport;
+import com.endava.cats.model.util.JsonUtils;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Detects latency regressions by comparing the latency percentiles of the current run with the ones of a baseline run.
+ * <p>
+ * A percentile is a regression when it is slower than the baseline by more than the given threshold and by at least {@link #MIN_DELTA_MS}, so that
+ * small absolute variations of fast endpoints are ignored. Percentiles are only compared when both runs have enough samples for them to be stable:
+ * at least {@link #MIN_TAIL_SAMPLES} responses must be slower than the percentile. This means p50 needs 20 responses, p90 needs 100, p95 needs 200
+ * and p99 needs 1000.
+ */
+public abstract class LatencyRegressions {
+    static final double MIN_DELTA_MS = 5;
+    static final int MIN_TAIL_SAMPLES = 10;
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(LatencyRegressions.class);
+    private static final String OPERATION = "operation";
+    private static final String FUZZER = "fuzzer";
+    private static final Map<String, ToDoubleFunction<LatencyPercentiles>> PERCENTILES = new LinkedHashMap<>();
+    /*for each percentile, 1 in how many responses is slower than it*/
+    private static final Map<String, Integer> TAIL_RATIOS = Map.of("p50", 2, "p90", 10, "p95", 20, "p99", 100);
+
+    static {
+        PERCENTILES.put("p50", LatencyPercentiles::getP50);
+        PERCENTILES.put("p90", LatencyPercentiles::getP90);
+        PERCENTILES.put("p95", LatencyPercentiles::getP95);
+        PERCENTILES.put("p99", LatencyPercentiles::getP99);
+    }
+
+    private LatencyRegressions() {
+        //ntd
+    }
+
+    /**
+     * Loads the latency percentiles of a baseline run.
+     *
+     * @param baselineReport the report folder of the baseline run
+     * @return the latency percentiles of the baseline run or empty if they are not available
+     */
+    public static Optional<LatencyReport> loadBaseline(Path baselineReport) {
+        Path latencyFile = baselineReport.resolve(TestCaseExporter.LATENCY_REPORT);
+        if (!Files.isRegularFile(latencyFile)) {
+            LOGGER.warning("No latency statistics found in the baseline report {}. Latency regressions will not be checked", baselineReport);
+            return Optional.empty();
+        }
+        try (Reader reader = Files.newBufferedReader(latencyFile, StandardCharsets.UTF_8)) {
+            return Optional.ofNullable(JsonUtils.GSON.fromJson(reader, LatencyReport.class));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Unable to read the baseline latency statistics {}: {}", latencyFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Compares the percentiles of each path and HTTP method and of each Fuzzer with the baseline.
+     *
+     * @param baseline         the latency percentiles of the baseline run
+     * @param current          the latency percentiles of the current run
+     * @param thresholdPercent how much slower, in percents, a percentile must be to be considered a regression
+     * @return all the regressions found
+     */
+    public static List<LatencyRegression> detect(LatencyReport baseline, LatencyReport current, double thresholdPercent) {
+        List<LatencyRegression> regressions = new ArrayList<>();
+        detect(OPERATION, baseline.getOperations(), current.getOperations(), thresholdPercent, regressions);
+        detect(FUZZER, baseline.getFuzzers(), current.getFuzzers(), thresholdPercent, regressions);
+        return regressions;
+    }
+
+    private static void detect(String group, Map<String, LatencyPercentiles> baseline, Map<String, LatencyPercentiles> current, double thresholdPercent,
+                               List<LatencyRegression> regressions) {
+        Map<String, LatencyPercentiles> baselinePercentiles = Optional.ofNullable(baseline).orElse(Collections.emptyMap());
+        Optional.ofNullable(current).orElse(Collections.emptyMap()).forEach((key, currentPercentiles) -> {
+            LatencyPercentiles baselineForKey = baselinePercentiles.get(key);
+            if (baselineForKey == null) {
+                return;
+            }
+            PERCENTILES.forEach((percentile, value) -> {
+                if (!hasEnoughSamples(baselineForKey, percentile) || !hasEnoughSamples(currentPercentiles, percentile)) {
+                    return;
+                }
+                double baselineValue = value.applyAsDouble(baselineForKey);
+                double currentValue = value.applyAsDouble(currentPercentiles);
+                if (currentValue - baselineValue >= MIN_DELTA_MS && currentValue > baselineValue * (1 + thresholdPercent / 100)) {
+                    regressions.add(LatencyRegression.builder().group(group).key(key).percentile(percentile)
+                            .baseline(baselineValue).current(currentValue)
+                            .changePercent(baselineValue > 0 ? Math.round((currentValue - baselineValue) * 10000 / baselineValue) / 100.0 : 100)
+                            .build());
+                }
+            });
+        });
+    }
+
+    private static boolean hasEnoughSamples(LatencyPercentiles percentiles, String percentile) {
+        return percentiles.getCount() >= (long) MIN_TAIL_SAMPLES * TAIL_RATIOS.get(percentile);
+    }
+}
@@ -0,0 +1,229 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import org.HdrHistogram.Histogram;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the progress of the run in the OpenMetrics text format, so that long runs can be watched, for example by a Prometheus sidecar.
+ * The metrics are periodically written to {@code --metricsFile} and/or served on the loopback interface at {@code --metricsPort}.
+ * The file is replaced atomically, so readers never see a partially written file.
+ * <p>
+ * Latency histograms use fixed buckets computed from the HdrHistogram of each path and HTTP method, so the exported buckets are cumulative counts as
+ * expected by Prometheus.
+ */
+@ApplicationScoped
+public class MetricsExporter {
+    static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(MetricsExporter.class);
+    private static final double[] LATENCY_BUCKETS_IN_SECONDS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+    private static final double NANOS_IN_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ExecutionStatisticsListener executionStatisticsListener;
+    private final ReportingArguments reportingArguments;
+    private ScheduledExecutorService scheduler;
+    private HttpServer server;
+    private long lastRequests;
+    private long lastSampleNanos;
+    private double requestRate;
+
+    @Inject
+    public MetricsExporter(ExecutionStatisticsListener executionStatisticsListener, ReportingArguments reportingArguments) {
+        this.executionStatisticsListener = executionStatisticsListener;
+        this.reportingArguments = reportingArguments;
+    }
+
+    /**
+     * Starts exporting the metrics if {@code --metricsFile} or {@code --metricsPort} are supplied.
+     *
+     * @throws IOException if the metrics port can't be bound
+     */
+    public synchronized void start() throws IOException {
+        if (!reportingArguments.isMetricsEnabled() || scheduler != null) {
+            return;
+        }
+        this.sampleRequestRate();
+        if (reportingArguments.getMetricsPort() > 0) {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), reportingArguments.getMetricsPort()), 0);
+            server.createContext("/metrics", this::serveMetrics);
+            server.start();
+            LOGGER.info("Serving OpenMetrics statistics at http://localhost:{}/metrics", server.getAddress().getPort());
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread exporter = new Thread(runnable, "cats-metrics");
+            exporter.setDaemon(true);
+            return exporter;
+        });
+        long interval = Math.max(1, reportingArguments.getMetricsInterval());
+        scheduler.scheduleAtFixedRate(this::exportMetrics, interval, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops exporting the metrics. The metrics file is written one last time, so that it has the final statistics of the run.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        this.exportMetrics();
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    private void exportMetrics() {
+        try {
+            this.sampleRequestRate();
+            if (reportingArguments.getMetricsFile() != null) {
+                this.writeMetricsFile(Paths.get(reportingArguments.getMetricsFile()));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("There was a problem exporting the metrics: {}", e.getMessage(), e);
+        }
+    }
+
+    private void writeMetricsFile(Path metricsFile) {
+        try {
+            Path parent = metricsFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tempFile = Files.createTempFile(parent, "cats-metrics", ".tmp");
+            Files.writeString(tempFile, this.render());
+            try {
+                Files.move(tempFile, metricsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, metricsFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOGGER.error("There was a problem writing the metrics file: {}", e.getMessage(), e);
+        }
+    }
+
+    private void serveMetrics(HttpExchange exchange) throws IOException {
+        byte[] metrics = this.render().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, metrics.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(metrics);
+        }
+    }
+
+    /**
+     * The request rate is the number of requests sent per second since the previous sample.
+     */
+    synchronized void sampleRequestRate() {
+        long now = System.nanoTime();
+        long requests = executionStatisticsListener.getRequests();
+        if (lastSampleNanos > 0 && now > lastSampleNanos) {
+            requestRate = (requests - lastRequests) * NANOS_IN_SECOND / (now - lastSampleNanos);
+        }
+        lastRequests = requests;
+        lastSampleNanos = now;
+    }
+
+    /**
+     * Renders all the metrics in the OpenMetrics text format.
+     *
+     * @return the current metrics
+     */
+    synchronized String render() {
+        StringBuilder metrics = new StringBuilder();
+        this.renderTests(metrics);
+        this.renderRequests(metrics);
+        this.renderLatencies(metrics);
+        this.renderJvm(metrics);
+        metrics.append("# EOF\n");
+        return metrics.toString();
+    }
+
+    private void renderTests(StringBuilder metrics) {
+        family(metrics, "cats_tests", "counter", "Tests executed by Fuzzer, path and result.");
+        for (Map.Entry<ExecutionStatisticsListener.ResultKey, Long> result : executionStatisticsListener.getResults().entrySet()) {
+            metrics.append("cats_tests_total{fuzzer=\"").append(escape(result.getKey().getFuzzer()))
+                    .append("\",path=\"").append(escape(result.getKey().getPath()))
+                    .append("\",result=\"").append(escape(result.getKey().getResult())).append("\"} ").append(result.getValue()).append('\n');
+        }
+    }
+
+    private void renderRequests(StringBuilder metrics) {
+        family(metrics, "cats_requests", "counter", "HTTP requests sent to the service.");
+        metrics.append("cats_requests_total ").append(executionStatisticsListener.getRequests()).append('\n');
+        family(metrics, "cats_requests_deduplicated", "counter", "Identical requests which reused a previous response instead of being sent.");
+        metrics.append("cats_requests_deduplicated_total ").append(executionStatisticsListener.getDeduplicatedCalls()).append('\n');
+        family(metrics, "cats_requests_in_flight", "gauge", "HTTP requests waiting for a response.");
+        metrics.append("cats_requests_in_flight ").append(executionStatisticsListener.getInFlightRequests()).append('\n');
+        family(metrics, "cats_request_rate", "gauge", "HTTP requests sent per second since the previous sample.");
+        metrics.append("cats_request_rate ").append(requestRate).append('\n');
+    }
+
+    private void renderLatencies(StringBuilder metrics) {
+        family(metrics, "cats_request_duration_seconds", "histogram", "Response times by path and HTTP method.");
+        for (Map.Entry<String, Histogram> latency : executionStatisticsListener.getOperationLatencies().getHistograms().entrySet()) {
+            String operation = latency.getKey();
+            int separator = operation.indexOf(' ');
+            String labels = "method=\"" + escape(operation.substring(0, separator)) + "\",path=\"" + escape(operation.substring(separator + 1)) + "\"";
+            Histogram histogram = latency.getValue();
+            for (double bucket : LATENCY_BUCKETS_IN_SECONDS) {
+                long count = histogram.getCountBetweenValues(0, (long) (bucket * NANOS_IN_SECOND));
+                metrics.append("cats_request_duration_seconds_bucket{").append(labels).append(",le=\"").append(bucket).append("\"} ").append(count).append('\n');
+            }
+            metrics.append("cats_request_duration_seconds_bucket{").append(labels).append(",le=\"+Inf\"} ").append(histogram.getTotalCount()).append('\n');
+            metrics.append("cats_request_duration_seconds_count{").append(labels).append("} ").append(histogram.getTotalCount()).append('\n');
+            metrics.append("cats_request_duration_seconds_sum{").append(labels).append("} ")
+                    .append(histogram.getMean() * histogram.getTotalCount() / NANOS_IN_SECOND).append('\n');
+        }
+    }
+
+    private void renderJvm(StringBuilder metrics) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        family(metrics, "cats_jvm_memory_heap_used_bytes", "gauge", "Used heap memory.");
+        metrics.append("cats_jvm_memory_heap_used_bytes ").append(heap.getUsed()).append('\n');
+        family(metrics, "cats_jvm_memory_heap_committed_bytes", "gauge", "Committed heap memory.");
+        metrics.append("cats_jvm_memory_heap_committed_bytes ").append(heap.getCommitted()).append('\n');
+        family(metrics, "cats_jvm_memory_heap_max_bytes", "gauge", "Maximum heap memory or -1 if not defined.");
+        metrics.append("cats_jvm_memory_heap_max_bytes ").append(heap.getMax()).append('\n');
+
+        family(metrics, "cats_jvm_gc_collections", "counter", "Garbage collections by collector.");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            metrics.append("cats_jvm_gc_collections_total{gc=\"").append(escape(gc.getName())).append("\"} ").append(Math.max(0, gc.getCollectionCount())).append('\n');
+        }
+        family(metrics, "cats_jvm_gc_collection_seconds", "counter", "Time spent in garbage collections by collector.");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            metrics.append("cats_jvm_gc_collection_seconds_total{gc=\"").append(escape(gc.getName())).append("\"} ").append(Math.max(0, gc.getCollectionTime()) / 1000.0).append('\n');
+        }
+    }
+
+    private static void family(StringBuilder metrics, String name, String type, String help) {
+        metrics.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        metrics.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
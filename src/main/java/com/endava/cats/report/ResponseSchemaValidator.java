@@ -0,0 +1,168 @@
+package com.endava.cats.report;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A documented response compiled for checking if received responses match it. The documented response is parsed only once
+ * and the type of each of its properties is indexed by the JSON path of the property, so that a received response can be checked in a single
+ * walk of its JSON tree.
+ * <p>
+ * Each property of a received response must be documented at the same path and its value must have the documented type. Numbers are also accepted
+ * for documented strings holding a number, as the examples generated for number schemas are formatted as strings. {@code null} values are
+ * always accepted. As for the legacy check done by {@link TestCaseListener}, only the first element of JSON arrays is checked, objects listed as
+ * additional properties are always matching and an empty documented response matches any object.
+ * <p>
+ * The documented responses are examples generated from the schemas, so this is not a full schema validation: formats, patterns, enums,
+ * lengths and required properties are not checked.
+ */
+final class ResponseSchemaValidator {
+    private static final String ROOT = "$";
+    private static final String ARRAY_ITEMS = "[]";
+
+    private final Map<String, Set<JsonType>> propertyTypes = new HashMap<>();
+    private final Set<String> numericStrings = new HashSet<>();
+    private final Set<String> objectsWithProperties = new HashSet<>();
+    private final boolean array;
+    private final boolean empty;
+
+    private ResponseSchemaValidator(String responseSchema) {
+        this.empty = responseSchema == null || responseSchema.isEmpty();
+        JsonElement schema = this.parse(responseSchema);
+        this.array = schema.isJsonArray();
+        if (array) {
+            schema.getAsJsonArray().forEach(item -> this.collectPropertyTypes(ROOT, item));
+        } else {
+            this.collectPropertyTypes(ROOT, schema);
+        }
+    }
+
+    /**
+     * Compiles the given documented response.
+     *
+     * @param responseSchema a response payload generated from the schema documented in the contract
+     * @return a reusable validator
+     */
+    static ResponseSchemaValidator compile(String responseSchema) {
+        return new ResponseSchemaValidator(responseSchema);
+    }
+
+    /**
+     * Checks if the given response matches the documented response.
+     *
+     * @param element              the response received from the service
+     * @param additionalProperties names of the objects which can have any properties
+     * @return true if the response is matching, false otherwise
+     */
+    boolean matches(JsonElement element, Collection<String> additionalProperties) {
+        JsonElement toCheck = element;
+        if (element.isJsonArray()) {
+            JsonArray jsonArray = element.getAsJsonArray();
+            if (jsonArray.size() == 0) {
+                return array;
+            }
+            toCheck = jsonArray.get(0);
+        }
+        if (empty) {
+            return toCheck.isJsonObject();
+        }
+        return this.matchesElement(toCheck, ROOT, ROOT, additionalProperties);
+    }
+
+    private boolean matchesElement(JsonElement element, String path, String name, Collection<String> additionalProperties) {
+        Set<JsonType> documentedTypes = propertyTypes.get(path);
+        if (documentedTypes == null) {
+            return false;
+        }
+        if (element.isJsonNull()) {
+            return true;
+        }
+        JsonType type = JsonType.of(element);
+        if (!documentedTypes.contains(type) && !(type == JsonType.NUMBER && numericStrings.contains(path))) {
+            return false;
+        }
+        if (element.isJsonArray()) {
+            JsonArray jsonArray = element.getAsJsonArray();
+            return jsonArray.size() == 0 || !propertyTypes.containsKey(path + ARRAY_ITEMS)
+                    || this.matchesElement(jsonArray.get(0), path + ARRAY_ITEMS, name, additionalProperties);
+        }
+        if (element.isJsonObject()) {
+            return this.matchesObject(element, path, name, additionalProperties);
+        }
+        return true;
+    }
+
+    /**
+     * Documented objects without any property, like free-form objects, match any object.
+     */
+    private boolean matchesObject(JsonElement element, String path, String name, Collection<String> additionalProperties) {
+        if (additionalProperties.contains(name) || !objectsWithProperties.contains(path)) {
+            return true;
+        }
+        for (Map.Entry<String, JsonElement> inner : element.getAsJsonObject().entrySet()) {
+            if (!this.matchesElement(inner.getValue(), path + "." + inner.getKey(), inner.getKey(), additionalProperties)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private JsonElement parse(String responseSchema) {
+        try {
+            return JsonParser.parseString(String.valueOf(responseSchema));
+        } catch (RuntimeException e) {
+            return JsonParser.parseString("{}");
+        }
+    }
+
+    private void collectPropertyTypes(String path, JsonElement element) {
+        if (element.isJsonNull()) {
+            propertyTypes.put(path, EnumSet.allOf(JsonType.class));
+            return;
+        }
+        propertyTypes.computeIfAbsent(path, key -> EnumSet.noneOf(JsonType.class)).add(JsonType.of(element));
+        if (element.isJsonObject()) {
+            if (element.getAsJsonObject().size() > 0) {
+                objectsWithProperties.add(path);
+            }
+            for (Map.Entry<String, JsonElement> inner : element.getAsJsonObject().entrySet()) {
+                this.collectPropertyTypes(path + "." + inner.getKey(), inner.getValue());
+            }
+        } else if (element.isJsonArray()) {
+            element.getAsJsonArray().forEach(item -> this.collectPropertyTypes(path + ARRAY_ITEMS, item));
+        } else if (isNumericString(element.getAsJsonPrimitive())) {
+            numericStrings.add(path);
+        }
+    }
+
+    private static boolean isNumericString(JsonPrimitive primitive) {
+        return primitive.isString() && primitive.getAsString().trim().replace(',', '.').matches("-?\\d*\\.?\\d+");
+    }
+
+    private enum JsonType {
+        OBJECT, ARRAY, STRING, NUMBER, BOOLEAN;
+
+        static JsonType of(JsonElement element) {
+            if (element.isJsonObject()) {
+                return OBJECT;
+            }
+            if (element.isJsonArray()) {
+                return ARRAY;
+            }
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isNumber()) {
+                return NUMBER;
+            }
+            return primitive.isBoolean() ? BOOLEAN : STRING;
+        }
+    }
+}
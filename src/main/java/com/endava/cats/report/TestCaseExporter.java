@@ -2,14 +2,18 @@ package com.endava.cats.report;
 
 import com.endava.cats.annotations.DryRun;
 import com.endava.cats.args.ReportingArguments;
-import com.endava.cats.model.TimeExecutionDetails;
+import com.endava.cats.model.ShardPlan;
 import com.endava.cats.model.report.CatsTestCase;
 import com.endava.cats.model.report.CatsTestCaseSummary;
 import com.endava.cats.model.report.CatsTestReport;
+import com.endava.cats.model.report.LatencyPercentiles;
+import com.endava.cats.model.report.LatencyRegression;
+import com.endava.cats.model.report.LatencyReport;
 import com.endava.cats.model.util.JsonUtils;
 import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheFactory;
+import com.google.common.util.concurrent.Uninterruptibles;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
@@ -24,13 +28,25 @@ import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.text.NumberFormat;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.LongPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.fusesource.jansi.Ansi.ansi;
@@ -43,12 +59,17 @@ public abstract class TestCaseExporter {
 
     private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(TestCaseExporter.class);
     private static final String REPORT_HTML = "index.html";
-    private static final String REPORT_JS = "cats-summary-report.js";
+    public static final String REPORT_JS = "cats-summary-report.js";
+    public static final String SHARD_DETAILS = "cats-shard.json";
+    public static final String LATENCY_REPORT = "cats-latency.json";
     private static final MustacheFactory mustacheFactory = new DefaultMustacheFactory();
     private static final String HTML = ".html";
     private static final String JSON = ".json";
+    private static final Pattern TEST_CASE_FILE = Pattern.compile("Test(\\d+)\\.(json|html)");
     private static final Mustache TEST_CASE_MUSTACHE = mustacheFactory.compile("test-case.mustache");
     private static final Mustache SUMMARY_MUSTACHE = mustacheFactory.compile("summary.mustache");
+    private static final int WRITE_QUEUE_CAPACITY = 1000;
+    private static final int WRITE_BATCH_SIZE = 100;
 
     @Inject
     ReportingArguments reportingArguments;
@@ -56,19 +77,31 @@ public abstract class TestCaseExporter {
     @ConfigProperty(name = "quarkus.application.version", defaultValue = "1.0.0")
     String version;
 
+    private final BlockingQueue<CatsTestCase> testCasesToWrite = new LinkedBlockingQueue<>(WRITE_QUEUE_CAPACITY);
+    private final Object writeMonitor = new Object();
+    private long submittedTestCases;
+    private long writtenTestCases;
+    private Thread testCaseWriter;
+
     private Path reportingPath;
+    private ExecutionJournal journal;
     private long t0;
+    private LatencyReport baselineLatencies;
 
     public void initPath() throws IOException {
+        /*the baseline must be loaded before cleaning up, as it might be the previous report from the same folder*/
+        baselineLatencies = Optional.ofNullable(reportingArguments.getBaselineReport())
+                .flatMap(baselineReport -> LatencyRegressions.loadBaseline(Paths.get(baselineReport))).orElse(null);
         String subFolder = reportingArguments.isTimestampReports() ? String.valueOf(System.currentTimeMillis()) : "";
         reportingPath = Paths.get(reportingArguments.getOutputReportFolder(), subFolder);
 
-        if (!reportingArguments.isTimestampReports() && reportingPath.toFile().exists()) {
+        if (!reportingArguments.isTimestampReports() && !reportingArguments.isResume() && reportingPath.toFile().exists()) {
             deleteFiles(reportingPath);
         }
         if (!reportingPath.toFile().exists()) {
             Files.createDirectories(reportingPath);
         }
+        journal = ExecutionJournal.open(reportingPath, reportingArguments.isResume());
 
         t0 = System.currentTimeMillis();
     }
@@ -86,47 +119,111 @@ public abstract class TestCaseExporter {
         LOGGER.complete("Cleanup complete!");
     }
 
-    public void writePerformanceReport(Map<String, CatsTestCase> testCaseMap) {
+    /**
+     * Writes the latency percentiles for each path and HTTP method and for each Fuzzer to {@link #LATENCY_REPORT} and, if {@code --printExecutionStatistics}
+     * is supplied, prints the ones of each path and HTTP method. If {@code --baselineReport} is supplied, the regressions found are also printed. Percentiles are computed from the latency histograms, so only the compact summaries
+     * are needed for the detailed statistics, as the full test cases are already written to disk.
+     *
+     * @param summaries                   the summaries of all the executed tests
+     * @param executionStatisticsListener the latencies recorded during the run
+     * @param latencyReport               the latency report created using {@link #createLatencyReport(ExecutionStatisticsListener)}
+     */
+    public void writePerformanceReport(Collection<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener, LatencyReport latencyReport) {
+        try {
+            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), LATENCY_REPORT), JsonUtils.GSON.toJson(latencyReport));
+        } catch (IOException e) {
+            LOGGER.error("There was an error writing the latency report: {}", e.getMessage(), e);
+        }
+        this.writeLatencyRegressions(latencyReport.getRegressions(), executionStatisticsListener);
+
         if (reportingArguments.isPrintExecutionStatistics()) {
-            Map<String, List<CatsTestCase>> executionDetails = extractExecutionDetails(testCaseMap);
+            Map<String, List<CatsTestCaseSummary>> executionDetails = reportingArguments.isPrintDetailedExecutionStatistics() ? extractExecutionDetails(summaries) : Collections.emptyMap();
 
             LOGGER.info(" ");
             LOGGER.info(" ---------------------------- Execution time details ---------------------------- ");
             LOGGER.info(" ");
-            executionDetails.forEach(this::writeExecutionTimesForPathAndHttpMethod);
+            latencyReport.getOperations().forEach((key, percentiles) -> this.writeExecutionTimesForPathAndHttpMethod(key, percentiles,
+                    latencyReport.getPhases().getOrDefault(key, Collections.emptyMap()), executionDetails.get(key)));
             LOGGER.info(" ");
         } else {
             LOGGER.skip("Skip printing time execution statistics. You can use --printExecutionStatistics to enable this feature!");
         }
     }
 
-    private Map<String, List<CatsTestCase>> extractExecutionDetails(Map<String, CatsTestCase> testCaseMap) {
-        Map<String, CatsTestCase> allRun = testCaseMap.entrySet().stream().filter(entry -> entry.getValue().isNotSkipped() && entry.getValue().notIgnoredForExecutionStatistics())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    /**
+     * Computes the latency percentiles of the current run and, if {@code --baselineReport} is supplied, compares them with the baseline ones.
+     * Computing the percentiles goes through all the latency histograms, so the report is created once and passed to both the summary and the
+     * performance report.
+     *
+     * @param executionStatisticsListener the latencies recorded during the run
+     * @return the latency percentiles of the current run and the regressions found
+     */
+    public LatencyReport createLatencyReport(ExecutionStatisticsListener executionStatisticsListener) {
+        LatencyReport latencyReport = LatencyReport.builder()
+                .operations(executionStatisticsListener.getOperationLatencies().getPercentiles())
+                .fuzzers(executionStatisticsListener.getFuzzerLatencies().getPercentiles())
+                .phases(this.getPhasePercentiles(executionStatisticsListener))
+                .build();
+        if (baselineLatencies == null) {
+            return latencyReport;
+        }
+        List<LatencyRegression> regressions = LatencyRegressions.detect(baselineLatencies, latencyReport, reportingArguments.getLatencyRegressionThreshold());
+        return LatencyReport.builder().operations(latencyReport.getOperations()).fuzzers(latencyReport.getFuzzers())
+                .phases(latencyReport.getPhases()).regressions(regressions).build();
+    }
 
-        return allRun.values().stream()
-                .collect(Collectors.groupingBy(testCase -> testCase.getResponse().getHttpMethod() + " " + testCase.getPath()))
-                .entrySet().stream().filter(entry -> entry.getValue().size() > 1).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    private void writeLatencyRegressions(List<LatencyRegression> regressions, ExecutionStatisticsListener executionStatisticsListener) {
+        if (regressions == null) {
+            return;
+        }
+        executionStatisticsListener.recordLatencyRegressions(regressions.size());
+        if (regressions.isEmpty()) {
+            LOGGER.success("No latency regressions found compared to the baseline report {}", reportingArguments.getBaselineReport());
+            return;
+        }
+        LOGGER.warning("{} latency regressions found compared to the baseline report {}", regressions.size(), reportingArguments.getBaselineReport());
+        regressions.forEach(regression -> LOGGER.warning("{} {} {}: {}ms -> {}ms (+{}%)", regression.getGroup(), regression.getKey(), regression.getPercentile(),
+                regression.getBaseline(), regression.getCurrent(), regression.getChangePercent()));
     }
 
-    private void writeExecutionTimesForPathAndHttpMethod(String key, List<CatsTestCase> value) {
-        double average = value.stream().mapToLong(testCase -> testCase.getResponse().getResponseTimeInMs()).average().orElse(0);
-        List<CatsTestCase> sortedRuns = value.stream().sorted(Comparator.comparingLong(testCase -> testCase.getResponse().getResponseTimeInMs())).collect(Collectors.toList());
-        CatsTestCase bestCase = sortedRuns.get(0);
-        CatsTestCase worstCase = sortedRuns.get(sortedRuns.size() - 1);
-        List<String> executions = sortedRuns.stream().map(CatsTestCase::executionTimeString).collect(Collectors.toList());
-        TimeExecutionDetails timeExecutionDetails = TimeExecutionDetails.builder().average(average).
-                path(key).bestCase(bestCase.executionTimeString()).worstCase(worstCase.executionTimeString()).
-                executions(executions).build();
+    /**
+     * Groups the percentiles of each phase of the HTTP calls by path and HTTP method, so that the phases of an endpoint can be compared.
+     *
+     * @param executionStatisticsListener the latencies recorded during the run
+     * @return the percentiles of each phase, for each path and HTTP method
+     */
+    private Map<String, Map<String, LatencyPercentiles>> getPhasePercentiles(ExecutionStatisticsListener executionStatisticsListener) {
+        Map<String, Map<String, LatencyPercentiles>> phases = new TreeMap<>();
+        executionStatisticsListener.getPhaseLatencies().forEach((phase, histograms) -> histograms.getPercentiles()
+                .forEach((operation, percentiles) -> phases.computeIfAbsent(operation, key -> new LinkedHashMap<>()).put(phase, percentiles)));
+        return phases;
+    }
 
+    private Map<String, List<CatsTestCaseSummary>> extractExecutionDetails(Collection<CatsTestCaseSummary> summaries) {
+        return summaries.stream()
+                .filter(summary -> !summary.isIgnoredForExecutionStatistics())
+                .collect(Collectors.groupingBy(summary -> summary.getHttpMethod() + " " + summary.getPath()));
+    }
 
-        LOGGER.info("Details for path {} ", ansi().fg(Ansi.Color.GREEN).a(timeExecutionDetails.getPath()).reset());
-        LOGGER.note(ansi().fgYellow().a("Average response time: {}ms").reset().toString(), ansi().bold().a(NumberFormat.getInstance().format(timeExecutionDetails.getAverage())));
-        LOGGER.note(ansi().fgRed().a("Worst case response time: {}").reset().toString(), ansi().bold().a(timeExecutionDetails.getWorstCase()));
-        LOGGER.note(ansi().fgGreen().a("Best case response time: {}").reset().toString(), ansi().bold().a(timeExecutionDetails.getBestCase()));
+    private void writeExecutionTimesForPathAndHttpMethod(String key, LatencyPercentiles percentiles, Map<String, LatencyPercentiles> phases, List<CatsTestCaseSummary> executions) {
+        NumberFormat format = NumberFormat.getInstance();
+        LOGGER.info("Details for path {} ", ansi().fg(Ansi.Color.GREEN).a(key).reset());
+        LOGGER.note(ansi().fgYellow().a("Average response time: {}ms, total requests: {}").reset().toString(), ansi().bold().a(format.format(percentiles.getMean())), percentiles.getCount());
+        LOGGER.note(ansi().fgGreen().a("Percentiles p50: {}ms, p90: {}ms, p95: {}ms").reset().toString(), ansi().bold().a(format.format(percentiles.getP50())),
+                ansi().bold().a(format.format(percentiles.getP90())), ansi().bold().a(format.format(percentiles.getP95())));
+        LOGGER.note(ansi().fgRed().a("Tail latency p99: {}ms, p99.9: {}ms, max: {}ms").reset().toString(), ansi().bold().a(format.format(percentiles.getP99())),
+                ansi().bold().a(format.format(percentiles.getP999())), ansi().bold().a(format.format(percentiles.getMax())));
+        if (!phases.isEmpty()) {
+            String phaseTimes = phases.entrySet().stream()
+                    .map(phase -> phase.getKey() + ": " + format.format(phase.getValue().getP50()) + "/" + format.format(phase.getValue().getP99()) + "ms")
+                    .collect(Collectors.joining(", "));
+            LOGGER.note(ansi().fgCyan().a("Call phases p50/p99: {}").reset().toString(), phaseTimes);
+        }
 
-        if (reportingArguments.isPrintDetailedExecutionStatistics()) {
-            LOGGER.note("{} executed tests (sorted by response time):  {}", timeExecutionDetails.getExecutions().size(), timeExecutionDetails.getExecutions());
+        if (executions != null) {
+            List<String> sortedExecutions = executions.stream().sorted(Comparator.comparingLong(CatsTestCaseSummary::getTimeToExecuteInMs))
+                    .map(CatsTestCaseSummary::executionTimeString).collect(Collectors.toList());
+            LOGGER.note("{} executed tests (sorted by response time):  {}", sortedExecutions.size(), sortedExecutions);
             LOGGER.info(" ");
         }
     }
@@ -141,11 +238,35 @@ public abstract class TestCaseExporter {
         String finalMessage = catsFinished + passed + warnings + errors + skipped + check;
 
         LOGGER.complete(finalMessage, (System.currentTimeMillis() - t0), executionStatisticsListener.getAll(), executionStatisticsListener.getSuccess(), executionStatisticsListener.getWarns(), executionStatisticsListener.getErrors(), executionStatisticsListener.getSkipped());
+
+        if (executionStatisticsListener.getConnectionsAcquired() > 0) {
+            LOGGER.note("HTTP connections opened {}, total requests {}, connection reuse ratio {}%", executionStatisticsListener.getConnectionsOpened(),
+                    executionStatisticsListener.getConnectionsAcquired(), NumberFormat.getInstance().format(executionStatisticsListener.getConnectionReuseRatio()));
+        }
+        if (executionStatisticsListener.getDeduplicatedCalls() > 0) {
+            LOGGER.note("Network calls saved by reusing the responses of identical requests {}", executionStatisticsListener.getDeduplicatedCalls());
+        }
     }
 
 
-    public void writeSummary(Map<String, CatsTestCase> testCaseMap, ExecutionStatisticsListener executionStatisticsListener) {
-        CatsTestReport report = this.createTestReport(testCaseMap, executionStatisticsListener);
+    public void writeSummary(Collection<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener) {
+        this.writeSummary(summaries, executionStatisticsListener, this.createLatencyReport(executionStatisticsListener));
+    }
+
+    public void writeSummary(Collection<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener, LatencyReport latencyReport) {
+        this.writeSummary(summaries, executionStatisticsListener, latencyReport, (System.currentTimeMillis() - t0) / 1000);
+    }
+
+    /**
+     * Writes the summary using the given execution time. This is used when the tests were not executed by the current run, like when merging reports.
+     *
+     * @param summaries                   the summaries of all the tests
+     * @param executionStatisticsListener the results of all the tests
+     * @param latencyReport               the latency report created using {@link #createLatencyReport(ExecutionStatisticsListener)}
+     * @param executionTimeInSeconds      the time it took to execute the tests
+     */
+    public void writeSummary(Collection<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener, LatencyReport latencyReport, long executionTimeInSeconds) {
+        CatsTestReport report = this.createTestReport(summaries, executionStatisticsListener, executionTimeInSeconds);
 
         Map<String, Object> context = new HashMap<>();
         context.put("WARNINGS", report.getWarnings());
@@ -156,6 +277,13 @@ public abstract class TestCaseExporter {
         context.put("TEST_CASES", report.getTestCases());
         context.put("EXECUTION", report.getExecutionTime());
         context.put("VERSION", report.getCatsVersion());
+        context.put("TEST_CASE_LINK_PREFIX", "");
+        context.put("TEST_CASE_LINK_SUFFIX", HTML);
+        List<LatencyRegression> regressions = Optional.ofNullable(latencyReport.getRegressions()).orElse(Collections.emptyList());
+        context.put("LATENCY", this.getLatencyRows(latencyReport.getOperations()));
+        context.put("HAS_LATENCY", !latencyReport.getOperations().isEmpty());
+        context.put("LATENCY_REGRESSIONS", this.getLatencyRegressionRows(regressions));
+        context.put("HAS_LATENCY_REGRESSIONS", !regressions.isEmpty());
         context.putAll(this.getSpecificContext(report));
         Writer writer = SUMMARY_MUSTACHE.execute(new StringWriter(), context);
 
@@ -168,23 +296,114 @@ public abstract class TestCaseExporter {
         }
     }
 
-    private CatsTestReport createTestReport(Map<String, CatsTestCase> testCaseMap, ExecutionStatisticsListener executionStatisticsListener) {
-        List<CatsTestCaseSummary> summaries = testCaseMap.entrySet().stream()
-                .filter(entry -> entry.getValue().isNotSkipped())
-                .map(testCase -> CatsTestCaseSummary.fromCatsTestCase(testCase.getKey(), testCase.getValue())).sorted()
-                .collect(Collectors.toList());
+    private List<Map<String, Object>> getLatencyRows(Map<String, LatencyPercentiles> operations) {
+        NumberFormat format = NumberFormat.getInstance();
+        List<Map<String, Object>> rows = new ArrayList<>();
+        operations.forEach((key, percentiles) -> {
+            Map<String, Object> row = new HashMap<>();
+            row.put("operation", key);
+            row.put("count", percentiles.getCount());
+            row.put("mean", format.format(percentiles.getMean()));
+            row.put("p50", format.format(percentiles.getP50()));
+            row.put("p90", format.format(percentiles.getP90()));
+            row.put("p95", format.format(percentiles.getP95()));
+            row.put("p99", format.format(percentiles.getP99()));
+            row.put("p999", format.format(percentiles.getP999()));
+            row.put("max", format.format(percentiles.getMax()));
+            rows.add(row);
+        });
+        return rows;
+    }
+
+    private List<Map<String, Object>> getLatencyRegressionRows(List<LatencyRegression> regressions) {
+        NumberFormat format = NumberFormat.getInstance();
+        return regressions.stream().map(regression -> {
+            Map<String, Object> row = new HashMap<>();
+            row.put("group", regression.getGroup());
+            row.put("key", regression.getKey());
+            row.put("percentile", regression.getPercentile());
+            row.put("baseline", format.format(regression.getBaseline()));
+            row.put("current", format.format(regression.getCurrent()));
+            row.put("change", format.format(regression.getChangePercent()));
+            return row;
+        }).collect(Collectors.toList());
+    }
+
+    private CatsTestReport createTestReport(Collection<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener, long executionTimeInSeconds) {
+        List<CatsTestCaseSummary> sortedSummaries = summaries.stream().sorted().collect(Collectors.toList());
 
-        return CatsTestReport.builder().testCases(summaries).errors(executionStatisticsListener.getErrors())
+        return CatsTestReport.builder().testCases(sortedSummaries).errors(executionStatisticsListener.getErrors())
                 .success(executionStatisticsListener.getSuccess()).totalTests(executionStatisticsListener.getAll())
-                .warnings(executionStatisticsListener.getWarns()).timestamp(OffsetDateTime.now().format(DateTimeFormatter.RFC_1123_DATE_TIME))
-                .executionTime(((System.currentTimeMillis() - t0) / 1000))
+                .warnings(executionStatisticsListener.getWarns()).skipped(executionStatisticsListener.getSkipped()).timestamp(OffsetDateTime.now().format(DateTimeFormatter.RFC_1123_DATE_TIME))
+                .executionTime(executionTimeInSeconds)
+                .deduplicatedCalls(executionStatisticsListener.getDeduplicatedCalls())
                 .catsVersion(this.version).build();
     }
 
+    /**
+     * Writes the details of the current shard, so that the partial report is self describing.
+     *
+     * @param shardPlan the work assigned to the current shard
+     */
+    public void writeShardDetails(ShardPlan shardPlan) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("shard", shardPlan.getShard().toString());
+        details.put("index", shardPlan.getShard().getIndex());
+        details.put("total", shardPlan.getShard().getTotal());
+        details.put("catsVersion", this.version);
+        details.put("timestamp", OffsetDateTime.now().format(DateTimeFormatter.RFC_1123_DATE_TIME));
+        details.put("estimatedTests", shardPlan.getEstimatedTests());
+        details.put("totalEstimatedTests", shardPlan.getTotalEstimatedTests());
+        details.put("units", shardPlan.getAssignedUnits());
+        try {
+            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), SHARD_DETAILS), JsonUtils.GSON.toJson(details));
+        } catch (IOException e) {
+            LOGGER.error("There was an error writing the shard details: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Records a checkpoint in the journal. All the test cases are written to disk before, so that the journal never has a completed
+     * combination with tests missing from the report.
+     *
+     * @param units    the path, HTTP method and Fuzzer combinations completed since the previous checkpoint
+     * @param lastTest the number of the last test created by the current shard
+     */
+    public void recordCheckpoint(Collection<String> units, long lastTest) {
+        this.flushTestCases();
+        journal.recordCheckpoint(units, lastTest);
+    }
+
+    public ExecutionJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Deletes the test case files left in the report folder by a previous, interrupted run for the tests matching the given filter.
+     *
+     * @param testNumberFilter selects the test numbers for which the files are deleted
+     */
+    public void deleteTestCases(LongPredicate testNumberFilter) {
+        File[] files = reportingPath.toFile().listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            Matcher matcher = TEST_CASE_FILE.matcher(file.getName());
+            if (matcher.matches() && testNumberFilter.test(Long.parseLong(matcher.group(1)))) {
+                try {
+                    Files.delete(file.toPath());
+                } catch (IOException e) {
+                    LOGGER.error("There was a problem deleting test case file {}: {}", file.getName(), e.getMessage(), e);
+                }
+            }
+        }
+    }
+
     public void writeHelperFiles() {
         for (String file : this.getSpecificHelperFiles()) {
             try (InputStream stream = this.getClass().getClassLoader().getResourceAsStream(file)) {
-                Files.copy(stream, Paths.get(reportingPath.toFile().getAbsolutePath(), file));
+                Files.copy(stream, Paths.get(reportingPath.toFile().getAbsolutePath(), file), StandardCopyOption.REPLACE_EXISTING);
             } catch (IOException e) {
                 LOGGER.error("Unable to write reporting files!", e);
             }
@@ -193,15 +412,99 @@ public abstract class TestCaseExporter {
 
     /**
      * We mark it as DryRun in order to avoid writing test cases when in dryRun mode.
+     * The test case is handed over to a background writer, so that the fuzzing threads don't wait for the template rendering and disk I/O.
+     * If the writer falls behind and the queue is full, this method blocks until there is room in the queue.
      *
      * @param testCase the current test case
      */
     @DryRun
     public void writeTestCase(CatsTestCase testCase) {
+        synchronized (writeMonitor) {
+            submittedTestCases++;
+        }
+        this.startTestCaseWriterIfNeeded();
+        Uninterruptibles.putUninterruptibly(testCasesToWrite, testCase);
+    }
+
+    /**
+     * Blocks until all test cases handed over to {@link #writeTestCase(CatsTestCase)} are written to disk.
+     */
+    public void flushTestCases() {
+        synchronized (writeMonitor) {
+            while (writtenTestCases < submittedTestCases) {
+                try {
+                    writeMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private synchronized void startTestCaseWriterIfNeeded() {
+        if (testCaseWriter == null) {
+            testCaseWriter = new Thread(this::writeTestCasesInBatches, "cats-report-writer");
+            testCaseWriter.setDaemon(true);
+            testCaseWriter.start();
+        }
+    }
+
+    private void writeTestCasesInBatches() {
+        List<CatsTestCase> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(testCasesToWrite.take());
+                testCasesToWrite.drainTo(batch, WRITE_BATCH_SIZE - 1);
+                batch.forEach(this::writeTestCaseSafely);
+                this.afterBatchWritten();
+                journal.flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.markAsWritten(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void markAsWritten(int count) {
+        synchronized (writeMonitor) {
+            writtenTestCases += count;
+            writeMonitor.notifyAll();
+        }
+    }
+
+    private void writeTestCaseSafely(CatsTestCase testCase) {
+        try {
+            this.writeTestCaseFiles(testCase);
+            journal.recordTest(CatsTestCaseSummary.fromCatsTestCase(testCase.getTestId(), testCase));
+        } catch (RuntimeException e) {
+            LOGGER.error("There was a problem writing test case {}: {}", testCase.getTestId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the given test case to disk. This is always called from the same background thread.
+     *
+     * @param testCase the test case to be written
+     */
+    protected void writeTestCaseFiles(CatsTestCase testCase) {
         writeHtmlTestCase(testCase);
         writeJsonTestCase(testCase);
     }
 
+    /**
+     * Called by the background writer after each batch of test cases is written.
+     */
+    protected void afterBatchWritten() {
+        //nothing to do by default as each test case is written in its own files
+    }
+
+    protected Path getReportingPath() {
+        return reportingPath;
+    }
+
     private void writeJsonTestCase(CatsTestCase testCase) {
         String testFileName = testCase.getTestId().replace(" ", "").concat(JSON);
         try {
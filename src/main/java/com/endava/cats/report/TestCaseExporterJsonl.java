@@ -0,0 +1,136 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.model.report.CatsTestCase;
+import com.endava.cats.model.report.CatsTestCaseSummary;
+import com.endava.cats.model.report.CatsTestReport;
+import com.endava.cats.model.util.JsonUtils;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Named;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes all test cases in a single append-only JSON Lines archive, instead of one HTML and one JSON file per test case.
+ * When {@code --compressReport} is supplied, each line is written as a separate gzip member. The result is still a valid gzip file,
+ * but each test case can also be decompressed on its own using the offsets from the index.
+ * The index is written as a Javascript file so that {@code cats-test-viewer.html} can load individual test cases lazily, even when the report is opened from disk.
+ */
+@ApplicationScoped
+@Named("jsonl")
+public class TestCaseExporterJsonl extends TestCaseExporter {
+    public static final String TESTS_ARCHIVE = "cats-tests.jsonl";
+    public static final String TESTS_ARCHIVE_COMPRESSED = TESTS_ARCHIVE + ".gz";
+    static final String TESTS_INDEX = "cats-tests-index.js";
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(TestCaseExporterJsonl.class);
+    private static final String TEST_VIEWER = "cats-test-viewer.html";
+
+    private final Map<String, long[]> index = new LinkedHashMap<>();
+    private OutputStream archive;
+    private long archiveSize;
+
+    @Override
+    protected void writeTestCaseFiles(CatsTestCase testCase) {
+        try {
+            byte[] line = this.toArchiveEntry(testCase);
+            this.getArchive().write(line);
+            index.put(testCase.getTestId().replace(" ", ""), new long[]{archiveSize, line.length});
+            archiveSize += line.length;
+        } catch (IOException e) {
+            LOGGER.error("There was a problem writing test case {}: {}", testCase.getTestId(), e.getMessage(), e);
+        }
+    }
+
+    private byte[] toArchiveEntry(CatsTestCase testCase) throws IOException {
+        byte[] line = (JsonUtils.GSON_NO_PRETTY_PRINTING.toJson(testCase) + "\n").getBytes(StandardCharsets.UTF_8);
+        if (!reportingArguments.isCompressReport()) {
+            return line;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(line);
+        }
+        return compressed.toByteArray();
+    }
+
+    private OutputStream getArchive() throws IOException {
+        if (archive == null) {
+            archive = new BufferedOutputStream(Files.newOutputStream(this.getReportingPath().resolve(this.getArchiveName())));
+            archiveSize = 0;
+            index.clear();
+        }
+        return archive;
+    }
+
+    private String getArchiveName() {
+        return reportingArguments.isCompressReport() ? TESTS_ARCHIVE_COMPRESSED : TESTS_ARCHIVE;
+    }
+
+    @Override
+    protected void afterBatchWritten() {
+        try {
+            if (archive != null) {
+                archive.flush();
+            }
+        } catch (IOException e) {
+            LOGGER.error("There was a problem writing the test cases archive: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Besides the static files, this will also close the archive and write the index. All test cases are already flushed at this point.
+     */
+    @Override
+    public void writeHelperFiles() {
+        super.writeHelperFiles();
+        try {
+            if (archive != null) {
+                archive.close();
+                archive = null;
+            }
+            Map<String, Object> indexContent = new HashMap<>();
+            indexContent.put("file", this.getArchiveName());
+            indexContent.put("compressed", reportingArguments.isCompressReport());
+            indexContent.put("tests", index);
+            Path indexPath = this.getReportingPath().resolve(TESTS_INDEX);
+            Files.writeString(indexPath, "var CATS_TESTS_INDEX = " + JsonUtils.GSON_NO_PRETTY_PRINTING.toJson(indexContent) + ";");
+        } catch (IOException e) {
+            LOGGER.error("There was a problem writing the test cases index: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String[] getSpecificHelperFiles() {
+        return new String[]{"cats.png", "styles.css", "script.js", "jquery.min.js", TEST_VIEWER};
+    }
+
+    @Override
+    public Map<String, Object> getSpecificContext(CatsTestReport report) {
+        Map<String, Object> context = new HashMap<>();
+        List<String> fuzzers = report.getTestCases().stream().map(CatsTestCaseSummary::getFuzzer).distinct().collect(Collectors.toList());
+        context.put("FUZZERS", fuzzers);
+        context.put("JS", true);
+        context.put("TEST_CASE_LINK_PREFIX", TEST_VIEWER + "#");
+        context.put("TEST_CASE_LINK_SUFFIX", "");
+        return context;
+    }
+
+    @Override
+    public ReportingArguments.ReportFormat reportFormat() {
+        return ReportingArguments.ReportFormat.JSONL;
+    }
+}
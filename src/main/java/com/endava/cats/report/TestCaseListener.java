@@ -2,6 +2,7 @@ package com.endava.cats.report;
 
 import com.endava.cats.Fuzzer;
 import com.endava.cats.annotations.DryRun;
+import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.IgnoreArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.http.HttpMethod;
@@ -10,8 +11,12 @@ import com.endava.cats.model.CatsGlobalContext;
 import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.Shard;
+import com.endava.cats.model.ShardPlan;
 import com.endava.cats.model.report.CatsResult;
 import com.endava.cats.model.report.CatsTestCase;
+import com.endava.cats.model.report.CatsTestCaseSummary;
+import com.endava.cats.model.report.LatencyReport;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.ConsoleUtils;
 import com.google.gson.JsonArray;
@@ -32,15 +37,28 @@ import javax.enterprise.inject.Instance;
 import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.Deque;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static org.fusesource.jansi.Ansi.ansi;
 
@@ -58,11 +76,19 @@ public class TestCaseListener {
     private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(TestCaseListener.class);
     private static final String SEPARATOR = StringUtils.repeat("-", 100);
     private static final List<String> NOT_NECESSARILY_DOCUMENTED = Arrays.asList("406", "415", "414");
-    protected final Map<String, CatsTestCase> testCaseMap = new HashMap<>();
+    protected final Map<String, CatsTestCase> testCaseMap = new ConcurrentHashMap<>();
+    protected final Queue<CatsTestCaseSummary> testCaseSummaryDetails = new ConcurrentLinkedQueue<>();
+    private final Map<String, List<ResponseSchemaValidator>> responseSchemaValidators = new ConcurrentHashMap<>();
     private final ExecutionStatisticsListener executionStatisticsListener;
     private final TestCaseExporter testCaseExporter;
     private final CatsGlobalContext globalContext;
     private final IgnoreArguments filterArguments;
+    private final int concurrency;
+    private final Semaphore inFlightTests;
+    private ExecutorService testExecutor;
+    private Shard shard = Shard.NONE;
+    private volatile boolean reportingInitialized;
+    private volatile boolean sessionEnded;
 
     @ConfigProperty(name = "quarkus.application.version", defaultValue = "1.0.0")
     String appVersion;
@@ -71,7 +97,8 @@ public class TestCaseListener {
     @ConfigProperty(name = "app.timestamp", defaultValue = "1-1-1")
     String appBuildTime;
 
-    public TestCaseListener(CatsGlobalContext catsGlobalContext, ExecutionStatisticsListener er, Instance<TestCaseExporter> exporters, IgnoreArguments filterArguments, ReportingArguments reportingArguments) {
+    public TestCaseListener(CatsGlobalContext catsGlobalContext, ExecutionStatisticsListener er, Instance<TestCaseExporter> exporters, IgnoreArguments filterArguments,
+                            ReportingArguments reportingArguments, ApiArguments apiArguments) {
         this.executionStatisticsListener = er;
         this.testCaseExporter = exporters.stream()
                 .filter(exporter -> exporter.reportFormat() == reportingArguments.getReportFormat())
@@ -79,6 +106,8 @@ public class TestCaseListener {
                 .orElseThrow();
         this.filterArguments = filterArguments;
         this.globalContext = catsGlobalContext;
+        this.concurrency = Math.max(1, apiArguments.getConcurrency());
+        this.inFlightTests = new Semaphore(this.getMaxInFlightTests());
     }
 
     private static String replaceBrackets(String message, Object... params) {
@@ -100,8 +129,93 @@ public class TestCaseListener {
         MDC.put(FUZZER_KEY, CatsUtil.FUZZER_KEY_DEFAULT);
     }
 
+    /**
+     * Creates a new test case and executes the supplied logic. The test id is always assigned on the calling thread,
+     * so ids are the same no matter if the test is executed sequentially or in parallel.
+     * When {@code --concurrency} is greater than 1, the test is submitted to a fixed pool of workers.
+     * Custom fuzzers are always executed on the calling thread as they rely on the order of execution.
+     *
+     * @param externalLogger the logger of the Fuzzer
+     * @param fuzzer         the current Fuzzer
+     * @param s              the test logic
+     */
     public void createAndExecuteTest(PrettyLogger externalLogger, Fuzzer fuzzer, Runnable s) {
-        String testId = "Test " + TEST.incrementAndGet();
+        String testId = this.nextTestId();
+        if (this.isConcurrentExecutionPossible(fuzzer)) {
+            this.submitTest(testId, externalLogger, fuzzer, s);
+        } else {
+            this.executeTest(testId, externalLogger, fuzzer, s);
+        }
+    }
+
+    private String nextTestId() {
+        return "Test " + shard.testNumber(TEST.incrementAndGet());
+    }
+
+    private void submitTest(String testId, PrettyLogger externalLogger, Fuzzer fuzzer, Runnable s) {
+        Map<String, String> parentContext = MDC.getCopyOfContextMap();
+        inFlightTests.acquireUninterruptibly();
+        try {
+            this.getTestExecutor().execute(() -> {
+                Optional.ofNullable(parentContext).ifPresent(MDC::setContextMap);
+                try {
+                    this.executeTest(testId, externalLogger, fuzzer, s);
+                } finally {
+                    MDC.clear();
+                    inFlightTests.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightTests.release();
+            this.executeTest(testId, externalLogger, fuzzer, s);
+        }
+    }
+
+    /**
+     * Creates a new test case for logic which completes asynchronously, typically by using {@code ServiceCaller#callAsync}.
+     * The test case is ended when the returned stage completes, without blocking the calling thread.
+     * The number of unfinished tests is bounded by the same limit used for parallel execution. Use this only when
+     * {@link #isConcurrentExecutionPossible(Fuzzer)}, so that tests stay sequential when running with the default {@code --concurrency}.
+     *
+     * @param externalLogger the logger of the Fuzzer
+     * @param fuzzer         the current Fuzzer
+     * @param s              the test logic returning a stage which completes when the test is finished
+     */
+    public void createAndExecuteAsyncTest(PrettyLogger externalLogger, Fuzzer fuzzer, Supplier<? extends CompletionStage<?>> s) {
+        String testId = this.nextTestId();
+        inFlightTests.acquireUninterruptibly();
+        MDC.put(ID, testId);
+        MDC.put(ID_ANSI, ConsoleUtils.centerWithAnsiColor(testId, 10, Ansi.Color.MAGENTA));
+        this.startTestCase();
+        Map<String, String> testContext = MDC.getCopyOfContextMap();
+
+        CompletionStage<?> testStage;
+        try {
+            testStage = s.get();
+        } catch (Exception e) {
+            testStage = CompletableFuture.failedFuture(e);
+        }
+        testStage.whenComplete((result, error) -> {
+            Map<String, String> previousContext = MDC.getCopyOfContextMap();
+            MDC.setContextMap(testContext);
+            try {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    this.reportError(externalLogger, CatsResult.EXCEPTION, fuzzer.getClass().getSimpleName(), cause.getMessage());
+                    externalLogger.error("Exception while processing!", cause);
+                }
+                this.endTestCase();
+                LOGGER.info("{} {}", SEPARATOR, "\n");
+            } finally {
+                Optional.ofNullable(previousContext).ifPresentOrElse(MDC::setContextMap, MDC::clear);
+                inFlightTests.release();
+            }
+        });
+        MDC.remove(ID);
+        MDC.put(ID_ANSI, CatsUtil.TEST_KEY_DEFAULT);
+    }
+
+    private void executeTest(String testId, PrettyLogger externalLogger, Fuzzer fuzzer, Runnable s) {
         MDC.put(ID, testId);
         MDC.put(ID_ANSI, ConsoleUtils.centerWithAnsiColor(testId, 10, Ansi.Color.MAGENTA));
         this.startTestCase();
@@ -115,7 +229,47 @@ public class TestCaseListener {
         LOGGER.info("{} {}", SEPARATOR, "\n");
         MDC.remove(ID);
         MDC.put(ID_ANSI, CatsUtil.TEST_KEY_DEFAULT);
+    }
+
+    /**
+     * Blocks until all the tests submitted for parallel or asynchronous execution are finished.
+     */
+    public void waitForPendingTests() {
+        inFlightTests.acquireUninterruptibly(this.getMaxInFlightTests());
+        inFlightTests.release(this.getMaxInFlightTests());
+    }
 
+    /**
+     * Checks if the tests of the given Fuzzer can be executed in parallel. This is only the case when {@code --concurrency} is greater than 1
+     * and the Fuzzer is concurrency safe.
+     *
+     * @param fuzzer the current Fuzzer
+     * @return true if the tests can be executed in parallel, false otherwise
+     */
+    public boolean isConcurrentExecutionPossible(Fuzzer fuzzer) {
+        return concurrency > 1 && fuzzer.isConcurrencySafe();
+    }
+
+    /**
+     * We allow a small backlog of tests on top of the ones being executed in order to keep the workers busy,
+     * while still keeping the memory usage bounded.
+     *
+     * @return the maximum number of tests submitted and not yet finished
+     */
+    private int getMaxInFlightTests() {
+        return concurrency * 2;
+    }
+
+    private synchronized ExecutorService getTestExecutor() {
+        if (testExecutor == null) {
+            AtomicInteger workerCounter = new AtomicInteger(0);
+            testExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+                Thread worker = new Thread(runnable, "cats-worker-" + workerCounter.incrementAndGet());
+                worker.setDaemon(true);
+                return worker;
+            });
+        }
+        return testExecutor;
     }
 
     private void startTestCase() {
@@ -153,10 +307,17 @@ public class TestCaseListener {
         testCaseMap.get(MDC.get(ID)).setFullRequestPath(fullRequestPath);
     }
 
+    /**
+     * Test cases are written to disk as soon as they finish and only a compact summary is kept in memory until the end of the session.
+     * This keeps memory usage low even for large runs or large payloads.
+     */
     private void endTestCase() {
-        testCaseMap.get(MDC.get(ID)).setFuzzer(MDC.get(FUZZER_KEY));
-        if (testCaseMap.get(MDC.get(ID)).isNotSkipped()) {
-            testCaseExporter.writeTestCase(testCaseMap.get(MDC.get(ID)));
+        CatsTestCase testCase = testCaseMap.remove(MDC.get(ID));
+        testCase.setFuzzer(MDC.get(FUZZER_KEY));
+        executionStatisticsListener.recordResult(testCase.getFuzzer(), testCase.getPath(), testCase.getResult());
+        if (testCase.isNotSkipped()) {
+            testCaseExporter.writeTestCase(testCase);
+            testCaseSummaryDetails.add(CatsTestCaseSummary.fromCatsTestCase(testCase.getTestId(), testCase));
         }
     }
 
@@ -171,13 +332,94 @@ public class TestCaseListener {
 
     public void initReportingPath() throws IOException {
         testCaseExporter.initPath();
+        reportingInitialized = true;
+    }
+
+    /**
+     * Adds the tests recorded in the journal by a previous, interrupted run to the current run. Only the tests up to the last checkpoint are kept,
+     * as the other ones will be created again. Their files are deleted, as the new tests might not reach the same numbers. Test numbering continues
+     * from the last checkpoint. The response times of the previous tests are recorded again, with millisecond precision, so that the latency
+     * percentiles cover the whole run. The phase timings are not part of the journal, so their percentiles only cover the tests of the current run.
+     *
+     * @return the path, HTTP method and Fuzzer combinations already completed by the previous run
+     */
+    public Set<String> restorePreviousProgress() {
+        ExecutionJournal journal = testCaseExporter.getJournal();
+        long lastCheckpointTest = journal.getLastCheckpointTest();
+        journal.getPreviousTests().forEach(previousTest -> {
+            testCaseSummaryDetails.add(previousTest);
+            this.increaseExecutionStatistics(previousTest.getResult());
+            executionStatisticsListener.recordResult(previousTest.getFuzzer(), previousTest.getPath(), previousTest.getResult());
+            if (previousTest.getHttpMethod() != null && !previousTest.isIgnoredForExecutionStatistics()) {
+                executionStatisticsListener.recordLatency(previousTest.getHttpMethod(), previousTest.getPath(), previousTest.getFuzzer(),
+                        TimeUnit.MILLISECONDS.toNanos(previousTest.getTimeToExecuteInMs()));
+            }
+        });
+        testCaseExporter.deleteTestCases(testNumber -> shard.owns(testNumber) && shard.localNumber(testNumber) > lastCheckpointTest);
+        TEST.set((int) lastCheckpointTest);
+        return journal.getCompletedUnits();
+    }
+
+    private void increaseExecutionStatistics(String result) {
+        if (Level.ERROR.toString().equalsIgnoreCase(result)) {
+            executionStatisticsListener.increaseErrors();
+        } else if (Level.WARN.toString().equalsIgnoreCase(result)) {
+            executionStatisticsListener.increaseWarns();
+        } else {
+            executionStatisticsListener.increaseSuccess();
+        }
+    }
+
+    /**
+     * Records the given path, HTTP method and Fuzzer combinations as completed, so that they are skipped when resuming the run.
+     * This must be called only when there are no pending tests.
+     *
+     * @param units the path, HTTP method and Fuzzer combinations completed since the previous checkpoint
+     */
+    public void recordCheckpoint(Collection<String> units) {
+        testCaseExporter.recordCheckpoint(units, TEST.get());
+    }
+
+    /**
+     * Writes the summary for the tests executed so far. This is used when the run is interrupted, so that the partial report can be inspected
+     * and the run resumed using {@code --resume}.
+     */
+    public void writePartialSummary() {
+        if (reportingInitialized && !sessionEnded) {
+            LOGGER.warning("Run was interrupted. Writing the report for the {} tests executed so far. Use --resume to continue the run", testCaseSummaryDetails.size());
+            testCaseExporter.flushTestCases();
+            testCaseExporter.writeSummary(testCaseSummaryDetails, executionStatisticsListener);
+            testCaseExporter.writeHelperFiles();
+        }
+    }
+
+    /**
+     * Sets the shard executed by this run. Test ids are computed so that they are unique across all shards.
+     *
+     * @param shard the current shard
+     */
+    public void setShard(Shard shard) {
+        this.shard = shard;
+    }
+
+    /**
+     * Writes the details of the current shard next to the report, so that partial reports can be identified and merged.
+     *
+     * @param shardPlan the work assigned to the current shard
+     */
+    public void writeShardDetails(ShardPlan shardPlan) {
+        testCaseExporter.writeShardDetails(shardPlan);
     }
 
     public void endSession() {
-        testCaseExporter.writeSummary(testCaseMap, executionStatisticsListener);
+        this.waitForPendingTests();
+        testCaseExporter.flushTestCases();
+        LatencyReport latencyReport = testCaseExporter.createLatencyReport(executionStatisticsListener);
+        testCaseExporter.writeSummary(testCaseSummaryDetails, executionStatisticsListener, latencyReport);
         testCaseExporter.writeHelperFiles();
-        testCaseExporter.writePerformanceReport(testCaseMap);
+        testCaseExporter.writePerformanceReport(testCaseSummaryDetails, executionStatisticsListener, latencyReport);
         testCaseExporter.printExecutionDetails(executionStatisticsListener);
+        sessionEnded = true;
     }
 
     /**
@@ -301,9 +543,7 @@ public class TestCaseListener {
     private void storeRequestOnPostOrRemoveOnDelete(FuzzingData data, CatsResponse response) {
         if (data.getMethod() == HttpMethod.POST && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             LOGGER.star("POST method for path {} returned successfully {}. Storing result for DELETE endpoints...", data.getPath(), response.responseCodeAsString());
-            Deque<String> existingPosts = globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath(), new ArrayDeque<>());
-            existingPosts.add(response.getBody());
-            globalContext.getPostSuccessfulResponses().put(data.getPath(), existingPosts);
+            globalContext.getPostSuccessfulResponses().computeIfAbsent(data.getPath(), path -> new ConcurrentLinkedDeque<>()).add(response.getBody());
         } else if (data.getMethod() == HttpMethod.DELETE && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             LOGGER.star("Removing top POST request from the store...");
             globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath().substring(0, data.getPath().lastIndexOf("/")), new ArrayDeque<>()).poll();
@@ -356,9 +596,9 @@ public class TestCaseListener {
     }
 
     private boolean matchesResponseSchema(CatsResponse response, FuzzingData data) {
-        JsonElement jsonElement = JsonParser.parseString(response.getBody());
+        JsonElement jsonElement = response.getJsonBody();
         List<String> responses = this.getExpectedResponsesByResponseCode(response, data);
-        return isActualResponseMatchingDocumentedResponses(response, jsonElement, responses)
+        return isActualResponseMatchingDocumentedResponses(response, jsonElement, responses, data)
                 || isResponseEmpty(response, responses)
                 || isNotTypicalDocumentedResponseCode(response);
     }
@@ -373,11 +613,20 @@ public class TestCaseListener {
         return responses;
     }
 
-    private boolean isActualResponseMatchingDocumentedResponses(CatsResponse response, JsonElement jsonElement, List<String> responses) {
-        return responses != null && responses.stream().anyMatch(responseSchema -> matchesElement(responseSchema, jsonElement))
+    private boolean isActualResponseMatchingDocumentedResponses(CatsResponse response, JsonElement jsonElement, List<String> responses, FuzzingData data) {
+        return responses != null && matchesAnyDocumentedResponse(response, jsonElement, responses, data)
                 && ((isErrorResponse(response) && isFuzzedFieldPresentInResponse(response)) || isNotErrorResponse(response));
     }
 
+    private boolean matchesAnyDocumentedResponse(CatsResponse response, JsonElement jsonElement, List<String> responses, FuzzingData data) {
+        if (filterArguments.getResponseBodyCheckStrategy() != IgnoreArguments.ResponseBodyCheckStrategy.COMPILED) {
+            return responses.stream().anyMatch(responseSchema -> matchesElement(responseSchema, jsonElement));
+        }
+        List<ResponseSchemaValidator> validators = responseSchemaValidators.computeIfAbsent(data.getMethod() + " " + data.getPath() + " " + response.responseCodeAsString(),
+                key -> responses.stream().map(ResponseSchemaValidator::compile).collect(Collectors.toList()));
+        return validators.stream().anyMatch(validator -> validator.matches(jsonElement, globalContext.getAdditionalProperties()));
+    }
+
     private boolean isErrorResponse(CatsResponse response) {
         return ResponseCodeFamily.FOURXX.allowedResponseCodes().contains(response.responseCodeAsString());
     }
@@ -3,7 +3,7 @@ package com.endava.cats.util;
 import com.endava.cats.dsl.CatsDSLParser;
 import com.endava.cats.model.FuzzingResult;
 import com.endava.cats.model.FuzzingStrategy;
-import com.endava.cats.model.util.JsonUtils;
+import com.endava.cats.model.util.JsonDocument;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
@@ -89,21 +89,30 @@ public class CatsUtil {
 
 
     public FuzzingResult replaceField(String payload, String jsonPropertyForReplacement, FuzzingStrategy fuzzingStrategyToApply, boolean mergeFuzzing) {
-        if (StringUtils.isNotBlank(payload)) {
-            String jsonPropToGetValue = jsonPropertyForReplacement;
-            if (JsonUtils.isJsonArray(payload)) {
-                jsonPropToGetValue = JsonUtils.FIRST_ELEMENT_FROM_ROOT_ARRAY + jsonPropertyForReplacement;
-                jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
-            }
-            DocumentContext context = JsonPath.parse(payload);
-            Object oldValue = context.read(JsonUtils.sanitizeToJsonPath(jsonPropToGetValue));
+        return this.replaceField(JsonDocument.parse(payload), jsonPropertyForReplacement, fuzzingStrategyToApply, mergeFuzzing);
+    }
+
+    public FuzzingResult replaceField(JsonDocument document, String jsonPropertyForReplacement, FuzzingStrategy fuzzingStrategyToApply) {
+        return this.replaceField(document, jsonPropertyForReplacement, fuzzingStrategyToApply, false);
+    }
+
+    /**
+     * Replaces the given field with the value produced by the fuzzing strategy. The supplied document is not changed.
+     *
+     * @param document                   the parsed payload
+     * @param jsonPropertyForReplacement the name of the field
+     * @param fuzzingStrategyToApply     the fuzzing strategy producing the new value
+     * @param mergeFuzzing               if the fuzzed value should be merged with the existing value
+     * @return the resulting payload and the fuzzed value
+     */
+    public FuzzingResult replaceField(JsonDocument document, String jsonPropertyForReplacement, FuzzingStrategy fuzzingStrategyToApply, boolean mergeFuzzing) {
+        if (!document.isBlank()) {
+            Object oldValue = document.readField(jsonPropertyForReplacement);
             String valueToSet = fuzzingStrategyToApply.process(oldValue);
             if (mergeFuzzing) {
                 valueToSet = FuzzingStrategy.mergeFuzzing(this.nullOrValueOf(oldValue), fuzzingStrategyToApply.getData());
             }
-            context.set(JsonUtils.sanitizeToJsonPath(jsonPropertyForReplacement), valueToSet);
-
-            return new FuzzingResult(context.jsonString(), valueToSet);
+            return new FuzzingResult(document.withField(jsonPropertyForReplacement, valueToSet).jsonString(), valueToSet);
         }
         return FuzzingResult.empty();
     }
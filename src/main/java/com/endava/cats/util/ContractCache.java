@@ -0,0 +1,185 @@
+package com.endava.cats.util;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An on-disk cache for parsed contracts. Resolving and flattening a large contract is slow, so the resulting model
+ * is stored as JSON and reused as long as the contract doesn't change. The cached JSON is parsed again rather than deserialized
+ * straight into the model, so that the schemas get the same types, like {@code ByteArraySchema} or {@code BinarySchema}, as when parsing
+ * the contract. Parsing it is fast, as it's a single file with no external references and already flattened.
+ * <p>
+ * Local contracts are identified by the SHA-256 of their content, along with the content of all the local files they reference through {@code $ref},
+ * directly or through other referenced files. Only the content is used, so the key stays the same on fresh checkouts and doesn't depend on
+ * other files from the same folder, like reports. Remote contracts are identified by their ETag or Last-Modified header.
+ * Remote contracts not sending any of these headers are not cached. The CATS version is also part of the key, so that models cached by other
+ * versions are not reused.
+ */
+final class ContractCache {
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(ContractCache.class);
+    /*the file part of a $ref, in both JSON and YAML; refs starting with # point inside the same file*/
+    private static final Pattern FILE_REF = Pattern.compile("\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]+)");
+    private static final int HEAD_TIMEOUT_MILLIS = 5000;
+
+    private final Path cacheDir;
+
+    ContractCache(Path cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * Computes the cache key for the given contract.
+     *
+     * @param location a local path or a http(s) URL
+     * @return the cache key or empty if the contract can't be cached
+     */
+    Optional<String> keyFor(String location) {
+        try {
+            Hasher hasher = Hashing.sha256().newHasher().putString(appVersion(), StandardCharsets.UTF_8);
+            boolean cacheable = location.startsWith("http") ? this.putRemoteVersion(hasher, location) : this.putLocalVersion(hasher, Path.of(location));
+            return cacheable ? Optional.of(hasher.hash().toString()) : Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Unable to compute contract cache key for {}: {}", location, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Loads and parses the model cached under the given key. Corrupted or incompatible entries are ignored.
+     *
+     * @param key the cache key
+     * @return the cached model or empty if there is no usable entry
+     */
+    Optional<OpenAPI> load(String key) {
+        Path entry = this.entryPath(key);
+        if (!Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(new OpenAPIV3Parser().readContents(Files.readString(entry), null, OpenApiUtils.resolveAndFlatten()).getOpenAPI());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Ignoring unreadable contract cache entry {}: {}", entry, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the given model. The entry is written to a temporary file first, so that concurrent runs never read partial entries.
+     * Failures are only logged, as the cache is just an optimization.
+     *
+     * @param key     the cache key
+     * @param openAPI the parsed contract
+     */
+    void store(String key, OpenAPI openAPI) {
+        Path entry = this.entryPath(key);
+        try {
+            Files.createDirectories(cacheDir);
+            Path tmp = Files.createTempFile(cacheDir, key, ".tmp");
+            Json.mapper().writeValue(tmp.toFile(), openAPI);
+            Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Unable to write contract cache entry {}: {}", entry, e.getMessage());
+        }
+    }
+
+    private Path entryPath(String key) {
+        return cacheDir.resolve(key + ".json");
+    }
+
+    /**
+     * Hashes the content of the contract and of all the local files referenced by it. Referenced files are visited in the order in which
+     * they are referenced, so the key only changes when the content of one of them changes. Missing referenced files are skipped,
+     * as their {@code $ref} is already part of the hashed content.
+     *
+     * @param hasher   the hasher
+     * @param contract the contract path
+     * @return always true, as local contracts can always be cached
+     * @throws IOException if the contract can't be read
+     */
+    private boolean putLocalVersion(Hasher hasher, Path contract) throws IOException {
+        Path root = contract.toAbsolutePath().normalize();
+        Path folder = Optional.ofNullable(root.getParent()).orElse(root);
+        Set<Path> visited = new HashSet<>();
+        Deque<Path> toVisit = new ArrayDeque<>(List.of(root));
+        while (!toVisit.isEmpty()) {
+            Path file = toVisit.poll();
+            if (!visited.add(file) || (file != root && !Files.isRegularFile(file))) {
+                continue;
+            }
+            byte[] content = Files.readAllBytes(file);
+            hasher.putString(folder.relativize(file).toString(), StandardCharsets.UTF_8).putInt(content.length).putBytes(content);
+            toVisit.addAll(referencedFiles(file, new String(content, StandardCharsets.UTF_8)));
+        }
+        return true;
+    }
+
+    private static List<Path> referencedFiles(Path file, String content) {
+        Path folder = Optional.ofNullable(file.getParent()).orElse(file);
+        List<Path> references = new ArrayList<>();
+        Matcher matcher = FILE_REF.matcher(content);
+        while (matcher.find()) {
+            String reference = matcher.group(1);
+            if (!reference.contains("://")) {
+                references.add(folder.resolve(reference).normalize());
+            }
+        }
+        return references;
+    }
+
+    private boolean putRemoteVersion(Hasher hasher, String location) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(location).openConnection();
+        try {
+            connection.setRequestMethod("HEAD");
+            connection.setConnectTimeout(HEAD_TIMEOUT_MILLIS);
+            connection.setReadTimeout(HEAD_TIMEOUT_MILLIS);
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                return false;
+            }
+            String eTag = connection.getHeaderField("ETag");
+            String lastModified = connection.getHeaderField("Last-Modified");
+            if (eTag == null && lastModified == null) {
+                return false;
+            }
+            hasher.putString(location, StandardCharsets.UTF_8)
+                    .putString(String.valueOf(eTag), StandardCharsets.UTF_8)
+                    .putString(String.valueOf(lastModified), StandardCharsets.UTF_8);
+            return true;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static String appVersion() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream stream = ContractCache.class.getClassLoader().getResourceAsStream("version.properties")) {
+            if (stream != null) {
+                properties.load(stream);
+            }
+        }
+        return properties.getProperty("app.version", "");
+    }
+}
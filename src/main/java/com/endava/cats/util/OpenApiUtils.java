@@ -28,9 +28,7 @@ public abstract class OpenApiUtils {
     }
 
     public static OpenAPI readOpenApi(String location) throws IOException {
-        ParseOptions options = new ParseOptions();
-        options.setResolve(true);
-        options.setFlatten(true);
+        ParseOptions options = resolveAndFlatten();
 
         OpenAPI openAPI = getOpenAPI(new OpenAPIV3Parser(), location, options);
 
@@ -40,6 +38,40 @@ public abstract class OpenApiUtils {
         return openAPI;
     }
 
+    /**
+     * Reads the contract using the given cache folder. If the contract didn't change since it was last cached, the cached model
+     * is returned without parsing the contract again.
+     *
+     * @param location the contract location
+     * @param cacheDir the cache folder; if null, the contract is always parsed
+     * @return the parsed contract
+     * @throws IOException if the contract can't be read
+     */
+    public static OpenAPI readOpenApi(String location, String cacheDir) throws IOException {
+        if (cacheDir == null) {
+            return readOpenApi(location);
+        }
+        ContractCache contractCache = new ContractCache(Paths.get(cacheDir));
+        Optional<String> key = contractCache.keyFor(location);
+        Optional<OpenAPI> cached = key.flatMap(contractCache::load);
+        if (cached.isPresent()) {
+            LOGGER.info("Using cached contract for {}", location);
+            return cached.get();
+        }
+        OpenAPI openAPI = readOpenApi(location);
+        if (openAPI != null) {
+            key.ifPresent(cacheKey -> contractCache.store(cacheKey, openAPI));
+        }
+        return openAPI;
+    }
+
+    static ParseOptions resolveAndFlatten() {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(true);
+        return options;
+    }
+
     public static OpenAPI getOpenAPI(SwaggerParserExtension parserExtension, String location, ParseOptions options) throws IOException {
         if (location.startsWith("http")) {
             return parserExtension.readLocation(location, null, options).getOpenAPI();
@@ -87,7 +119,9 @@ public abstract class OpenApiUtils {
         } else if (content != null) {
             LOGGER.warn("CATS only supports application/json as content-type. Found: {} for {}", content.keySet(), schemaName);
         }
-        schemas.put(schemaName, schemaToAdd);
+        if (schemaToAdd != null) {
+            schemas.put(schemaName, schemaToAdd);
+        }
     }
 
     public static boolean hasContentType(Content content, String contentType) {
@@ -0,0 +1,152 @@
+package com.endava.cats.util;
+
+import com.endava.cats.model.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.reflect.TypeToken;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Fingerprints of the contract operations, used to only fuzz the operations changed since a previous run.
+ * <p>
+ * The fingerprint of an operation is the SHA-256 of the operation, the parameters defined at path level and all the components referenced
+ * directly or indirectly through {@code $ref}. This way, changing a schema changes the fingerprint of all the operations using it.
+ * JSON objects are serialized with sorted keys, so simply reordering the contract doesn't change the fingerprints.
+ */
+public abstract class OperationFingerprints {
+    public static final String FINGERPRINTS = "cats-fingerprints.json";
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(OperationFingerprints.class);
+    private static final String COMPONENTS_PREFIX = "#/components";
+    private static final ObjectWriter CANONICAL_WRITER = Json.mapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private OperationFingerprints() {
+        //ntd
+    }
+
+    public static String operationKey(String path, String httpMethod) {
+        return path + " " + httpMethod;
+    }
+
+    /**
+     * Computes the fingerprints for all the operations of the given paths.
+     *
+     * @param openAPI the OpenAPI object parsed from the contract
+     * @param paths   the paths to fingerprint
+     * @return the fingerprints keyed by {@link #operationKey(String, String)}
+     */
+    public static Map<String, String> compute(OpenAPI openAPI, Collection<String> paths) {
+        JsonNode components = Json.mapper().valueToTree(Optional.ofNullable(openAPI.getComponents()).orElseGet(Components::new));
+        Map<String, String> fingerprints = new TreeMap<>();
+        for (String path : paths) {
+            PathItem pathItem = openAPI.getPaths().get(path);
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : pathItem.readOperationsMap().entrySet()) {
+                fingerprints.put(operationKey(path, operation.getKey().name()), fingerprint(pathItem, operation.getValue(), components));
+            }
+        }
+        return fingerprints;
+    }
+
+    private static String fingerprint(PathItem pathItem, Operation operation, JsonNode components) {
+        JsonNode pathParameters = Json.mapper().valueToTree(Optional.ofNullable(pathItem.getParameters()).orElse(Collections.emptyList()));
+        JsonNode operationNode = Json.mapper().valueToTree(operation);
+
+        Set<String> refs = new TreeSet<>();
+        Deque<JsonNode> toVisit = new ArrayDeque<>(List.of(pathParameters, operationNode));
+        while (!toVisit.isEmpty()) {
+            for (String ref : toVisit.poll().findValuesAsText("$ref")) {
+                if (refs.add(ref)) {
+                    toVisit.add(resolve(ref, components));
+                }
+            }
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(canonical(pathParameters), StandardCharsets.UTF_8)
+                .putString(canonical(operationNode), StandardCharsets.UTF_8);
+        for (String ref : refs) {
+            hasher.putString(ref, StandardCharsets.UTF_8).putString(canonical(resolve(ref, components)), StandardCharsets.UTF_8);
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * References outside the components can't be resolved, so only the reference itself is part of the fingerprint.
+     *
+     * @param ref        the reference
+     * @param components the components of the contract
+     * @return the referenced element or a missing node if the reference can't be resolved
+     */
+    private static JsonNode resolve(String ref, JsonNode components) {
+        if (!ref.startsWith(COMPONENTS_PREFIX)) {
+            return MissingNode.getInstance();
+        }
+        return components.at(ref.substring(COMPONENTS_PREFIX.length()));
+    }
+
+    private static String canonical(JsonNode node) {
+        if (node.isMissingNode()) {
+            return "";
+        }
+        try {
+            return CANONICAL_WRITER.writeValueAsString(Json.mapper().treeToValue(node, Object.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize contract element: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads the fingerprints stored by a previous run.
+     *
+     * @param file the fingerprints file
+     * @return the previous fingerprints or empty if there are no usable fingerprints
+     */
+    public static Map<String, String> load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, String> fingerprints = JsonUtils.GSON.fromJson(reader, new TypeToken<TreeMap<String, String>>() {
+            }.getType());
+            return Optional.ofNullable(fingerprints).orElse(Collections.emptyMap());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Ignoring unreadable operation fingerprints {}: {}", file, e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    public static void store(Path file, Map<String, String> fingerprints) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, JsonUtils.GSON.toJson(new TreeMap<>(fingerprints)));
+        } catch (IOException e) {
+            LOGGER.error("There was a problem writing the operation fingerprints: {}", e.getMessage(), e);
+        }
+    }
+}
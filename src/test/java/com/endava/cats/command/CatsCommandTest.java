@@ -6,6 +6,7 @@ import com.endava.cats.args.FilterArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.fuzzer.contract.PathTagsContractInfoFuzzer;
 import com.endava.cats.http.HttpMethod;
+import com.endava.cats.model.Shard;
 import com.endava.cats.factory.FuzzingDataFactory;
 import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
@@ -45,6 +46,7 @@ class CatsCommandTest {
         filterArguments = Mockito.mock(FilterArguments.class);
         ReflectionTestUtils.setField(catsMain, "filterArguments", filterArguments);
         Mockito.when(filterArguments.getHttpMethods()).thenReturn(HttpMethod.restMethods());
+        Mockito.when(filterArguments.getShard()).thenReturn(Shard.NONE);
     }
 
     @Test
@@ -126,6 +128,17 @@ class CatsCommandTest {
         Assertions.assertThat(catsMain.getExitCode()).isEqualTo(190);
     }
 
+    @Test
+    void shouldAddLatencyRegressionsToExitCodeWhenFailOnLatencyRegression() {
+        Mockito.when(executionStatisticsListener.getErrors()).thenReturn(2);
+        Mockito.when(executionStatisticsListener.getLatencyRegressions()).thenReturn(3);
+        Assertions.assertThat(catsMain.getExitCode()).isEqualTo(2);
+
+        ReflectionTestUtils.setField(reportingArguments, "failOnLatencyRegression", true);
+        Assertions.assertThat(catsMain.getExitCode()).isEqualTo(5);
+        ReflectionTestUtils.setField(reportingArguments, "failOnLatencyRegression", false);
+    }
+
     @Test
     void shouldThrowExceptionWhenNoContract() {
         CommandLine.Model.CommandSpec spec = Mockito.mock(CommandLine.Model.CommandSpec.class);
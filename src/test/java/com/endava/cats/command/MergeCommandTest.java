@@ -0,0 +1,139 @@
+package com.endava.cats.command;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.model.report.CatsTestCase;
+import com.endava.cats.model.util.JsonUtils;
+import com.endava.cats.report.ExecutionStatisticsListener;
+import com.endava.cats.report.TestCaseExporter;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.inject.Inject;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@QuarkusTest
+class MergeCommandTest {
+    private static final Path TEST_CASE = Path.of("src/test/resources/Test12.json");
+
+    @Inject
+    MergeCommand mergeCommand;
+    @Inject
+    ReportingArguments reportingArguments;
+    @Inject
+    ExecutionStatisticsListener executionStatisticsListener;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(reportingArguments, "outputReportFolder", "cats-report");
+    }
+
+    @Test
+    void shouldRenumberTestsWhenMergingReportsOfDifferentRuns() throws Exception {
+        Path first = this.reportWithTests("first", "Test1.json", "Test2.json");
+        Path second = this.reportWithArchive("second", 2);
+        Path output = tempDir.resolve("merged");
+        ReflectionTestUtils.setField(reportingArguments, "outputReportFolder", output.toString());
+        mergeCommand.reports = List.of(first, second);
+
+        mergeCommand.mergeReports();
+
+        for (int i = 1; i <= 4; i++) {
+            Path testCaseFile = output.resolve("Test" + i + ".json");
+            Assertions.assertThat(testCaseFile).exists();
+            Assertions.assertThat(JsonUtils.GSON.fromJson(Files.readString(testCaseFile), CatsTestCase.class).getTestId()).isEqualTo("Test " + i);
+        }
+        JsonObject summary = JsonParser.parseString(Files.readString(output.resolve(TestCaseExporter.REPORT_JS))).getAsJsonObject();
+        Assertions.assertThat(summary.get("testCases").getAsJsonArray()).hasSize(4);
+        Assertions.assertThat(mergeCommand.getExitCode()).isZero();
+    }
+
+    @Test
+    void shouldKeepTestIdsWhenMergingShardsOfTheSameRun() throws Exception {
+        Path first = this.reportWithTests("shard1", "Test1.json");
+        Path second = this.reportWithTests("shard2", "Test2.json");
+        Files.writeString(first.resolve(TestCaseExporter.SHARD_DETAILS), "{\"index\":1,\"total\":2}");
+        Files.writeString(second.resolve(TestCaseExporter.SHARD_DETAILS), "{\"index\":2,\"total\":2}");
+        Path output = tempDir.resolve("merged-shards");
+        ReflectionTestUtils.setField(reportingArguments, "outputReportFolder", output.toString());
+        mergeCommand.reports = List.of(second, first);
+
+        mergeCommand.mergeReports();
+
+        Assertions.assertThat(JsonUtils.GSON.fromJson(Files.readString(output.resolve("Test1.json")), CatsTestCase.class).getTestId()).isEqualTo("Test 1");
+        Assertions.assertThat(JsonUtils.GSON.fromJson(Files.readString(output.resolve("Test2.json")), CatsTestCase.class).getTestId()).isEqualTo("Test 2");
+    }
+
+    @Test
+    void shouldAddSkippedTestsOfEachShard() throws Exception {
+        Path first = this.reportWithTests("skipped1", "Test1.json");
+        Path second = this.reportWithTests("skipped2", "Test2.json");
+        Files.writeString(first.resolve(TestCaseExporter.REPORT_JS), "{\"executionTime\":10,\"skipped\":3}");
+        Files.writeString(second.resolve(TestCaseExporter.REPORT_JS), "{\"executionTime\":20,\"skipped\":2}");
+        Path output = tempDir.resolve("merged-skipped");
+        ReflectionTestUtils.setField(reportingArguments, "outputReportFolder", output.toString());
+        mergeCommand.reports = List.of(first, second);
+        int skippedBefore = executionStatisticsListener.getSkipped();
+
+        mergeCommand.mergeReports();
+
+        Assertions.assertThat(executionStatisticsListener.getSkipped() - skippedBefore).isEqualTo(5);
+        JsonObject summary = JsonParser.parseString(Files.readString(output.resolve(TestCaseExporter.REPORT_JS))).getAsJsonObject();
+        Assertions.assertThat(summary.get("skipped").getAsInt()).isEqualTo(executionStatisticsListener.getSkipped());
+        Assertions.assertThat(summary.get("executionTime").getAsLong()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldReadTestCasesInTestNumberOrder() throws Exception {
+        Path report = this.reportWithTests("ordered", "Test10.json", "Test9.json", "Test100.json");
+        List<String> testIds = new ArrayList<>();
+
+        mergeCommand.forEachTestCase(report, testCase -> testIds.add(testCase.getTestId()));
+
+        Assertions.assertThat(testIds).containsExactly("Test 9", "Test 10", "Test 100");
+    }
+
+    @Test
+    void shouldNotMergeIntoOneOfTheReports() throws Exception {
+        Path first = this.reportWithTests("first", "Test1.json");
+        Path second = this.reportWithTests("second", "Test1.json");
+        ReflectionTestUtils.setField(reportingArguments, "outputReportFolder", second.toString());
+        mergeCommand.reports = List.of(first, second);
+
+        Assertions.assertThatThrownBy(() -> mergeCommand.mergeReports()).hasMessageContaining("output folder must be different");
+        Assertions.assertThat(second.resolve("Test1.json")).exists();
+    }
+
+    private Path reportWithTests(String name, String... testCaseFiles) throws Exception {
+        Path report = Files.createDirectories(tempDir.resolve(name));
+        for (String testCaseFile : testCaseFiles) {
+            CatsTestCase testCase = JsonUtils.GSON.fromJson(Files.readString(TEST_CASE), CatsTestCase.class);
+            testCase.setTestId(testCaseFile.replace(".json", "").replace("Test", "Test "));
+            Files.writeString(report.resolve(testCaseFile), JsonUtils.GSON.toJson(testCase));
+        }
+        return report;
+    }
+
+    private Path reportWithArchive(String name, int tests) throws Exception {
+        Path report = Files.createDirectories(tempDir.resolve(name));
+        StringBuilder archive = new StringBuilder();
+        for (int i = 1; i <= tests; i++) {
+            CatsTestCase testCase = JsonUtils.GSON.fromJson(Files.readString(TEST_CASE), CatsTestCase.class);
+            testCase.setTestId("Test " + i);
+            archive.append(JsonUtils.GSON_NO_PRETTY_PRINTING.toJson(testCase)).append("\n");
+        }
+        Files.writeString(report.resolve("cats-tests.jsonl"), archive.toString());
+        return report;
+    }
+}
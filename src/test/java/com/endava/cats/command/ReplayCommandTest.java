@@ -1,14 +1,30 @@
 package com.endava.cats.command;
 
 import com.endava.cats.io.ServiceCaller;
+import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.LargeValue;
+import com.endava.cats.model.report.CatsTestCase;
+import com.endava.cats.model.util.JsonUtils;
+import com.google.gson.JsonParser;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectMock;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.zip.GZIPOutputStream;
 
 @QuarkusTest
 class ReplayCommandTest {
@@ -18,6 +34,9 @@ class ReplayCommandTest {
 
     private ReplayCommand replayCommand;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     public void setup() {
         replayCommand = new ReplayCommand(serviceCaller);
@@ -31,6 +50,26 @@ class ReplayCommandTest {
         Mockito.verifyNoInteractions(serviceCaller);
     }
 
+    @Test
+    void shouldNotExecuteIfTestCasesAreNull() {
+        replayCommand.tests = null;
+
+        replayCommand.run();
+        Assertions.assertThat(replayCommand.parseTestCases()).isEmpty();
+        Mockito.verifyNoInteractions(serviceCaller);
+    }
+
+    @Test
+    void shouldNotExecuteFromArchiveIfTestCasesAreNull() throws Exception {
+        Path archive = tempDir.resolve("cats-tests.jsonl");
+        Files.writeString(archive, JsonParser.parseString(Files.readString(Paths.get("src/test/resources/Test12.json"))).toString() + "\n");
+        replayCommand.archive = archive.toString();
+        replayCommand.tests = null;
+
+        replayCommand.run();
+        Mockito.verifyNoInteractions(serviceCaller);
+    }
+
     @Test
     void shouldExecuteIfTestCasesSupplied() throws Exception {
         replayCommand.tests = new String[]{"src/test/resources/Test12.json"};
@@ -39,6 +78,54 @@ class ReplayCommandTest {
         Mockito.verify(serviceCaller, Mockito.times(1)).callService(Mockito.any(), Mockito.eq(Collections.emptySet()));
     }
 
+    @ParameterizedTest
+    @CsvSource({"cats-tests.jsonl", "cats-tests.jsonl.gz"})
+    void shouldExecuteTestCasesFromArchive(String archiveName) throws Exception {
+        Path archive = tempDir.resolve(archiveName);
+        String testCase = JsonParser.parseString(Files.readString(Paths.get("src/test/resources/Test12.json"))).toString() + "\n";
+        try (OutputStream outputStream = archiveName.endsWith(".gz") ? new GZIPOutputStream(Files.newOutputStream(archive)) : Files.newOutputStream(archive)) {
+            outputStream.write(testCase.getBytes(StandardCharsets.UTF_8));
+        }
+        replayCommand.archive = archive.toString();
+        replayCommand.tests = new String[]{"Test 12", "Test13"};
+        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.anySet())).thenReturn(Mockito.mock(CatsResponse.class));
+
+        replayCommand.run();
+        Mockito.verify(serviceCaller, Mockito.times(1)).callService(Mockito.any(), Mockito.eq(Collections.emptySet()));
+    }
+
+    @Test
+    void shouldReplayLargeValuesInsteadOfTheirPreview() throws Exception {
+        String payload = "{\"name\":\"" + LargeValue.repeat("a", LargeValue.MAX_IN_MEMORY_LENGTH + 1L) + "\"}";
+        CatsRequest request = new CatsRequest();
+        request.setPayload(payload);
+        request.setHttpMethod("POST");
+        request.setUrl("http://localhost/pets");
+        request.replaceLargeValuesWithPreview();
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setRequest(request);
+        Path testCaseFile = tempDir.resolve("Test1.json");
+        Files.writeString(testCaseFile, JsonUtils.GSON.toJson(testCase));
+        replayCommand.tests = new String[]{testCaseFile.toString()};
+        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.anySet())).thenReturn(Mockito.mock(CatsResponse.class));
+
+        replayCommand.run();
+        ArgumentCaptor<CatsRequest> replayedRequest = ArgumentCaptor.forClass(CatsRequest.class);
+        Mockito.verify(serviceCaller).callService(replayedRequest.capture(), Mockito.eq(Collections.emptySet()));
+
+        Assertions.assertThat(request.getPayload()).contains("aaa... [1048577 chars]");
+        Assertions.assertThat(replayedRequest.getValue().getPayload()).isEqualTo(payload);
+    }
+
+    @Test
+    void shouldNotExecuteWhenArchiveMissing() {
+        replayCommand.archive = tempDir.resolve("missing.jsonl").toString();
+        replayCommand.tests = new String[]{"Test12"};
+        replayCommand.run();
+
+        Mockito.verifyNoInteractions(serviceCaller);
+    }
+
     @Test
     void shouldThrowExceptionWhenTestCasesInvalid() {
         replayCommand.tests = new String[]{"Test1212121212121"};
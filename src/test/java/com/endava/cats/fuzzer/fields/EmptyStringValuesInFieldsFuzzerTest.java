@@ -8,6 +8,7 @@ import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.model.FuzzingStrategy;
+import com.endava.cats.model.util.JsonDocument;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
 import com.google.common.collect.Sets;
@@ -49,7 +50,7 @@ class EmptyStringValuesInFieldsFuzzerTest {
         Assertions.assertThat(emptyStringValuesInFieldsFuzzer.skipForFields()).containsOnly("id");
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Sets.newHashSet("id"));
-        Mockito.when(data.getPayload()).thenReturn("{}");
+        Mockito.when(data.getPayloadDocument()).thenReturn(JsonDocument.parse("{}"));
         emptyStringValuesInFieldsFuzzer.fuzz(data);
 
         Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.any());
@@ -7,6 +7,7 @@ import com.endava.cats.http.HttpMethod;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.model.FuzzingStrategy;
+import com.endava.cats.model.util.JsonDocument;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
 import com.google.common.collect.Sets;
@@ -44,7 +45,7 @@ class NullValuesInFieldsFuzzerTest {
         Assertions.assertThat(nullValuesInFieldsFuzzer.skipForFields()).containsOnly("id");
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Sets.newHashSet("id"));
-        Mockito.when(data.getPayload()).thenReturn("{}");
+        Mockito.when(data.getPayloadDocument()).thenReturn(JsonDocument.parse("{}"));
         nullValuesInFieldsFuzzer.fuzz(data);
 
         Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.any());
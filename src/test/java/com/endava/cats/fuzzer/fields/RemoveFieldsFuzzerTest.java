@@ -7,6 +7,7 @@ import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.SetCombinations;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
 import io.quarkus.test.junit.QuarkusTest;
@@ -50,7 +51,7 @@ class RemoveFieldsFuzzerTest {
     void shouldSkipFuzzerIfSkippedTests() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Mockito.when(processingArguments.getFieldsFuzzingStrategy()).thenReturn(ProcessingArguments.SetFuzzingStrategy.ONEBYONE);
-        Mockito.when(data.getAllFields(Mockito.any(), Mockito.anyInt())).thenReturn(Collections.singleton(Collections.singleton("id")));
+        Mockito.when(data.getAllFields(Mockito.any(), Mockito.anyInt())).thenReturn(SetCombinations.ofSizes(Collections.singleton("id"), 1, 1));
         Mockito.when(ignoreArguments.getSkippedFields()).thenReturn(Collections.singletonList("id"));
         removeFieldsFuzzer.fuzz(data);
 
@@ -75,6 +76,16 @@ class RemoveFieldsFuzzerTest {
         Mockito.verify(testCaseListener, Mockito.times(2)).skipTest(Mockito.any(), Mockito.eq("Field is from a different ANY_OF or ONE_OF payload"));
     }
 
+    @Test
+    void shouldStopAfterMaxFieldsCombinations() {
+        setup("{\"field\":\"oldValue\"}");
+        Mockito.when(processingArguments.getMaxFieldsCombinations()).thenReturn(1);
+        removeFieldsFuzzer.fuzz(data);
+
+        Mockito.verify(testCaseListener, Mockito.never()).reportResult(Mockito.any(), Mockito.eq(data), Mockito.eq(catsResponse), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(1)).skipTest(Mockito.any(), Mockito.eq("Field is from a different ANY_OF or ONE_OF payload"));
+    }
+
     @Test
     void givenARemoveFieldsFuzzerInstance_whenCallingTheMethodInheritedFromTheBaseClass_thenTheMethodsAreProperlyOverridden() {
         Assertions.assertThat(removeFieldsFuzzer.description()).isNotNull();
@@ -3,6 +3,7 @@ package com.endava.cats.fuzzer.fields.base;
 import com.endava.cats.args.FilesArguments;
 import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.io.ServiceCaller;
+import com.endava.cats.model.util.JsonDocument;
 import com.endava.cats.model.util.JsonUtils;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.model.FuzzingData;
@@ -53,7 +54,7 @@ class BaseFieldsFuzzerTest {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Set<String> fields = Collections.singleton("field");
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(fields);
-        Mockito.when(data.getPayload()).thenReturn("{}");
+        Mockito.when(data.getPayloadDocument()).thenReturn(JsonDocument.parse("{}"));
 
         baseFieldsFuzzer.fuzz(data);
         Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.eq("Field could not be fuzzed. Possible reasons: field is not a primitive, is a discriminator or is not matching the Fuzzer schemas"));
@@ -88,10 +89,10 @@ class BaseFieldsFuzzerTest {
         schemaMap.put("field", new StringSchema());
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(fields);
         Mockito.when(data.getRequestPropertyTypes()).thenReturn(schemaMap);
-        Mockito.when(data.getPayload()).thenReturn("{\"field\": 2}");
+        Mockito.when(data.getPayloadDocument()).thenReturn(JsonDocument.parse("{\"field\": 2}"));
 
         CatsUtil mockCatsUtil = Mockito.mock(CatsUtil.class);
-        Mockito.when(mockCatsUtil.replaceField(Mockito.eq("{\"field\": 2}"), Mockito.eq("field"), Mockito.any())).thenReturn(fuzzingResult);
+        Mockito.when(mockCatsUtil.replaceField(Mockito.any(JsonDocument.class), Mockito.eq("field"), Mockito.any())).thenReturn(fuzzingResult);
         baseFieldsFuzzer = new MyBaseFieldsFuzzer(serviceCaller, testCaseListener, mockCatsUtil, filesArguments);
 
         Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any());
@@ -139,10 +140,10 @@ class BaseFieldsFuzzerTest {
         schemaMap.put("field", schema);
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(fields);
         Mockito.when(data.getRequestPropertyTypes()).thenReturn(schemaMap);
-        Mockito.when(data.getPayload()).thenReturn("{\"field\": 2}");
+        Mockito.when(data.getPayloadDocument()).thenReturn(JsonDocument.parse("{\"field\": 2}"));
 
         CatsUtil mockCatsUtil = Mockito.mock(CatsUtil.class);
-        Mockito.when(mockCatsUtil.replaceField(Mockito.eq("{\"field\": 2}"), Mockito.eq("field"), Mockito.any())).thenReturn(fuzzingResult);
+        Mockito.when(mockCatsUtil.replaceField(Mockito.any(JsonDocument.class), Mockito.eq("field"), Mockito.any())).thenReturn(fuzzingResult);
         baseFieldsFuzzer = new MyBaseFieldsFuzzer(serviceCaller, testCaseListener, mockCatsUtil, filesArguments);
         Mockito.doNothing().when(testCaseListener).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.any());
 
@@ -4,6 +4,7 @@ import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.report.CatsResult;
 import com.endava.cats.report.TestCaseListener;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
@@ -17,6 +18,7 @@ import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.inject.Inject;
+import java.util.concurrent.CompletableFuture;
 
 @QuarkusTest
 class NonRestHttpMethodsFuzzerTest {
@@ -38,7 +40,7 @@ class NonRestHttpMethodsFuzzerTest {
     void shouldCallServiceAndReportErrorWhenServiceRespondsWith200() {
         FuzzingData data = FuzzingData.builder().pathItem(new PathItem()).reqSchema(new StringSchema()).build();
         CatsResponse catsResponse = CatsResponse.builder().body("{}").responseCode(200).httpMethod("POST").build();
-        Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(catsResponse);
+        this.mockResponse(catsResponse);
 
         nonRestHttpMethodsFuzzer.fuzz(data);
         Mockito.verify(testCaseListener, Mockito.times(17)).reportError(Mockito.any(), Mockito.anyString(), AdditionalMatchers.aryEq(new Object[]{"POST", 405, 200}));
@@ -48,7 +50,7 @@ class NonRestHttpMethodsFuzzerTest {
     void shouldCallServiceAndReportInfoWhenServiceRespondsWith405() {
         FuzzingData data = FuzzingData.builder().pathItem(new PathItem()).reqSchema(new StringSchema()).build();
         CatsResponse catsResponse = CatsResponse.builder().body("{}").responseCode(405).httpMethod("POST").build();
-        Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(catsResponse);
+        this.mockResponse(catsResponse);
 
         nonRestHttpMethodsFuzzer.fuzz(data);
         Mockito.verify(testCaseListener, Mockito.times(17)).reportInfo(Mockito.any(), Mockito.anyString(), AdditionalMatchers.aryEq(new Object[]{"POST", 405}));
@@ -58,7 +60,7 @@ class NonRestHttpMethodsFuzzerTest {
     void shouldCallServiceAndReportWarnWhenServiceRespondsWith400() {
         FuzzingData data = FuzzingData.builder().pathItem(new PathItem()).reqSchema(new StringSchema()).build();
         CatsResponse catsResponse = CatsResponse.builder().body("{}").responseCode(400).httpMethod("POST").build();
-        Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(catsResponse);
+        this.mockResponse(catsResponse);
 
         nonRestHttpMethodsFuzzer.fuzz(data);
         Mockito.verify(testCaseListener, Mockito.times(17)).reportWarn(Mockito.any(), Mockito.anyString(), AdditionalMatchers.aryEq(new Object[]{"POST", 405, 400}));
@@ -68,7 +70,7 @@ class NonRestHttpMethodsFuzzerTest {
     void shouldRunOncePerPath() {
         FuzzingData data = FuzzingData.builder().pathItem(new PathItem()).reqSchema(new StringSchema()).path("/test").build();
         CatsResponse catsResponse = CatsResponse.builder().body("{}").responseCode(405).httpMethod("POST").build();
-        Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(catsResponse);
+        this.mockResponse(catsResponse);
 
         nonRestHttpMethodsFuzzer.fuzz(data);
         Mockito.verify(testCaseListener, Mockito.times(17)).reportInfo(Mockito.any(), Mockito.anyString(), AdditionalMatchers.aryEq(new Object[]{"POST", 405}));
@@ -77,10 +79,49 @@ class NonRestHttpMethodsFuzzerTest {
         Mockito.verifyNoMoreInteractions(testCaseListener);
     }
 
+    @Test
+    void shouldReportErrorWhenServiceCallFails() {
+        FuzzingData data = FuzzingData.builder().pathItem(new PathItem()).reqSchema(new StringSchema()).path("/failing").build();
+        Mockito.when(serviceCaller.call(Mockito.any())).thenThrow(new IllegalStateException("connection reset"));
+
+        nonRestHttpMethodsFuzzer.fuzz(data);
+        Mockito.verify(testCaseListener, Mockito.times(17)).reportError(Mockito.any(), Mockito.any(CatsResult.class), Mockito.any());
+    }
+
+    @Test
+    void shouldCallServiceAsynchronouslyWhenConcurrentExecutionIsPossible() {
+        FuzzingData data = FuzzingData.builder().pathItem(new PathItem()).reqSchema(new StringSchema()).path("/async").build();
+        CatsResponse catsResponse = CatsResponse.builder().body("{}").responseCode(405).httpMethod("POST").build();
+        this.mockResponse(catsResponse);
+        Mockito.doReturn(true).when(testCaseListener).isConcurrentExecutionPossible(nonRestHttpMethodsFuzzer);
+
+        nonRestHttpMethodsFuzzer.fuzz(data);
+        testCaseListener.waitForPendingTests();
+        Mockito.verify(serviceCaller, Mockito.times(17)).callAsync(Mockito.any());
+        Mockito.verify(serviceCaller, Mockito.never()).call(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(17)).reportInfo(Mockito.any(), Mockito.anyString(), AdditionalMatchers.aryEq(new Object[]{"POST", 405}));
+    }
+
+    @Test
+    void shouldCallServiceSynchronouslyWithDefaultConcurrency() {
+        FuzzingData data = FuzzingData.builder().pathItem(new PathItem()).reqSchema(new StringSchema()).path("/sync").build();
+        this.mockResponse(CatsResponse.builder().body("{}").responseCode(405).httpMethod("POST").build());
+
+        nonRestHttpMethodsFuzzer.fuzz(data);
+        Mockito.verify(serviceCaller, Mockito.times(17)).call(Mockito.any());
+        Mockito.verify(serviceCaller, Mockito.never()).callAsync(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.never()).createAndExecuteAsyncTest(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
     @Test
     void shouldOverrideMethods() {
         Assertions.assertThat(nonRestHttpMethodsFuzzer.description()).isNotNull();
         Assertions.assertThat(nonRestHttpMethodsFuzzer).hasToString(nonRestHttpMethodsFuzzer.getClass().getSimpleName());
         Assertions.assertThat(nonRestHttpMethodsFuzzer.skipForHttpMethods()).isEmpty();
     }
+
+    private void mockResponse(CatsResponse catsResponse) {
+        Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(catsResponse);
+        Mockito.when(serviceCaller.callAsync(Mockito.any())).thenReturn(CompletableFuture.completedFuture(catsResponse));
+    }
 }
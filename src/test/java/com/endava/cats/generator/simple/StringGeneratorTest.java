@@ -1,5 +1,6 @@
 package com.endava.cats.generator.simple;
 
+import com.endava.cats.model.LargeValue;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
@@ -51,6 +52,17 @@ class StringGeneratorTest {
         Assertions.assertThat(actual.length()).isGreaterThan(maxLength + 10 - 1);
     }
 
+    @Test
+    void givenASchemaWithLargeMaxLength_whenGeneratingARightBoundaryString_thenALargeValuePlaceholderIsReturned() {
+        Schema schema = new StringSchema();
+        schema.setMaxLength(Integer.MAX_VALUE - 20);
+
+        String actual = StringGenerator.generateRightBoundString(schema);
+
+        Assertions.assertThat(LargeValue.isLargeValue(actual)).isTrue();
+        Assertions.assertThat(LargeValue.fromPlaceholder(actual).orElseThrow().length()).isEqualTo(Integer.MAX_VALUE - 10L);
+    }
+
     @Test
     void givenASchemaWithoutMaxLength_whenGeneratingARightBoundaryString_thenTheGeneratedStringHasDefaultLength() {
         Schema schema = new StringSchema();
@@ -0,0 +1,107 @@
+package com.endava.cats.io;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class AdaptiveRateLimitingStrategyTest {
+    private static final String OPERATION = "POST /pets";
+
+    @Test
+    void shouldStartWithAFractionOfTheMaximumRate() {
+        AdaptiveRateLimitingStrategy strategy = new AdaptiveRateLimitingStrategy(100);
+
+        Assertions.assertThat(strategy.getCurrentRate()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldIncreaseRateWhenResponsesAreStable() {
+        AdaptiveRateLimitingStrategy strategy = new AdaptiveRateLimitingStrategy(100);
+        IntStream.range(0, AdaptiveRateLimitingStrategy.WINDOW_SIZE).forEach(i -> strategy.onResponse(OPERATION, 200, 100, null));
+
+        Assertions.assertThat(strategy.getCurrentRate()).isEqualTo(15);
+    }
+
+    @Test
+    void shouldNotIncreaseRateAboveMaximum() {
+        AdaptiveRateLimitingStrategy strategy = new AdaptiveRateLimitingStrategy(100);
+        IntStream.range(0, AdaptiveRateLimitingStrategy.WINDOW_SIZE * 30).forEach(i -> strategy.onResponse(OPERATION, 200, 100, null));
+
+        Assertions.assertThat(strategy.getCurrentRate()).isEqualTo(100);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"429", "503"})
+    void shouldDecreaseRateWhenServiceSignalsBackPressure(int responseCode) {
+        AdaptiveRateLimitingStrategy strategy = new AdaptiveRateLimitingStrategy(100);
+        strategy.onResponse(OPERATION, responseCode, 100, null);
+
+        Assertions.assertThat(strategy.getCurrentRate()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldNotDecreaseRateBelowMinimum() {
+        AdaptiveRateLimitingStrategy strategy = new AdaptiveRateLimitingStrategy(0.5);
+        strategy.onResponse(OPERATION, 429, 100, null);
+
+        Assertions.assertThat(strategy.getCurrentRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldDecreaseRateWhenLatencyIncreases() {
+        AdaptiveRateLimitingStrategy strategy = new AdaptiveRateLimitingStrategy(100);
+        IntStream.range(0, AdaptiveRateLimitingStrategy.WINDOW_SIZE).forEach(i -> strategy.onResponse(OPERATION, 200, 100, null));
+        IntStream.range(0, AdaptiveRateLimitingStrategy.WINDOW_SIZE).forEach(i -> strategy.onResponse(OPERATION, 200, 400, null));
+
+        Assertions.assertThat(strategy.getCurrentRate()).isEqualTo(7.5);
+    }
+
+    @Test
+    void shouldNotDecreaseRateWhenAlternatingFastAndSlowPaths() {
+        AdaptiveRateLimitingStrategy strategy = new AdaptiveRateLimitingStrategy(100);
+        for (int i = 0; i < 10; i++) {
+            IntStream.range(0, AdaptiveRateLimitingStrategy.WINDOW_SIZE).forEach(response -> strategy.onResponse("GET /pets", 200, 10, null));
+            IntStream.range(0, AdaptiveRateLimitingStrategy.WINDOW_SIZE).forEach(response -> strategy.onResponse("POST /reports", 200, 400, null));
+        }
+
+        Assertions.assertThat(strategy.getCurrentRate()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldNotDecreaseRateForSmallLatencyVariations() {
+        AdaptiveRateLimitingStrategy strategy = new AdaptiveRateLimitingStrategy(100);
+        IntStream.range(0, AdaptiveRateLimitingStrategy.WINDOW_SIZE).forEach(i -> strategy.onResponse(OPERATION, 200, 10, null));
+        IntStream.range(0, AdaptiveRateLimitingStrategy.WINDOW_SIZE).forEach(i -> strategy.onResponse(OPERATION, 200, 30, null));
+
+        Assertions.assertThat(strategy.getCurrentRate()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldPauseWhenRetryAfterReceived() {
+        AdaptiveRateLimitingStrategy strategy = new AdaptiveRateLimitingStrategy(100);
+        strategy.onResponse(OPERATION, 429, 100, "2");
+
+        Assertions.assertThat(strategy.getRemainingPauseInMs()).isBetween(1000L, 2000L);
+    }
+
+    @Test
+    void shouldParseRetryAfterAsHttpDate() {
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+
+        Assertions.assertThat(AdaptiveRateLimitingStrategy.parseRetryAfter(date)).isBetween(28L, 30L);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"null", "''", "invalid"}, nullValues = "null")
+    void shouldIgnoreInvalidRetryAfter(String retryAfter) {
+        Assertions.assertThat(AdaptiveRateLimitingStrategy.parseRetryAfter(retryAfter)).isZero();
+    }
+}
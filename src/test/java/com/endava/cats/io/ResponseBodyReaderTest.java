@@ -0,0 +1,71 @@
+package com.endava.cats.io;
+
+import io.quarkus.test.junit.QuarkusTest;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+@QuarkusTest
+class ResponseBodyReaderTest {
+
+    @Test
+    void shouldReadAndParseJsonBody() throws Exception {
+        ResponseBodyReader reader = ResponseBodyReader.read(ResponseBody.create("{\"id\":1}", MediaType.get("application/json")), 0);
+
+        Assertions.assertThat(reader.getBody()).isEqualTo("{\"id\":1}");
+        Assertions.assertThat(reader.getJsonBody().getAsJsonObject().get("id").getAsInt()).isEqualTo(1);
+        Assertions.assertThat(reader.isFullyRead()).isTrue();
+    }
+
+    @Test
+    void shouldReturnEmptyBodyForBlankResponses() throws Exception {
+        ResponseBodyReader reader = ResponseBodyReader.read(ResponseBody.create("  ", null), 0);
+
+        Assertions.assertThat(reader.getBody()).isEmpty();
+        Assertions.assertThat(reader.getJsonBody().isJsonNull()).isTrue();
+    }
+
+    @Test
+    void shouldReturnNotAJsonForInvalidJson() throws Exception {
+        ResponseBodyReader reader = ResponseBodyReader.read(ResponseBody.create("<html>error</html>", MediaType.get("text/html")), 0);
+
+        Assertions.assertThat(reader.getBody()).isEqualTo(ResponseBodyReader.NOT_A_JSON);
+        Assertions.assertThat(reader.getJsonBody().isJsonObject()).isTrue();
+    }
+
+    @Test
+    void shouldNotReadBinaryContentTypes() throws Exception {
+        ResponseBodyReader reader = ResponseBodyReader.read(ResponseBody.create(new byte[]{1, 2, 3}, MediaType.get("image/png")), 0);
+
+        Assertions.assertThat(reader.getBody()).isEqualTo(ResponseBodyReader.NOT_A_JSON);
+        Assertions.assertThat(reader.isFullyRead()).isFalse();
+    }
+
+    @Test
+    void shouldDetectBinaryContentWithoutContentType() throws Exception {
+        ResponseBodyReader reader = ResponseBodyReader.read(ResponseBody.create(new byte[]{'{', 0, '}'}, null), 0);
+
+        Assertions.assertThat(reader.getBody()).isEqualTo(ResponseBodyReader.NOT_A_JSON);
+    }
+
+    @Test
+    void shouldNotReadMoreThanMaxBytes() throws Exception {
+        ResponseBodyReader reader = ResponseBodyReader.read(ResponseBody.create("[1,2,3,4,5,6,7,8,9]", null), 10);
+
+        Assertions.assertThat(reader.getBody()).contains("larger than 10 bytes");
+        Assertions.assertThat(reader.isFullyRead()).isFalse();
+        Assertions.assertThat(reader.getJsonBody().isJsonObject()).isTrue();
+    }
+
+    @Test
+    void shouldReadBodyHavingExactlyMaxBytes() throws Exception {
+        ResponseBodyReader reader = ResponseBodyReader.read(ResponseBody.create("[1,2,3,4]", null), "[1,2,3,4]".getBytes(StandardCharsets.UTF_8).length);
+
+        Assertions.assertThat(reader.getBody()).isEqualTo("[1,2,3,4]");
+        Assertions.assertThat(reader.getJsonBody().getAsJsonArray()).hasSize(4);
+        Assertions.assertThat(reader.isFullyRead()).isTrue();
+    }
+}
@@ -10,22 +10,32 @@ import com.endava.cats.model.CatsGlobalContext;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.HttpPhaseTimings;
+import com.endava.cats.model.LargeValue;
+import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import io.quarkus.test.junit.QuarkusTest;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.slf4j.MDC;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.inject.Inject;
 import java.io.File;
+import java.io.IOException;
 import java.net.Proxy;
 import java.util.ArrayDeque;
 import java.util.Collections;
@@ -34,6 +44,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @QuarkusTest
@@ -54,6 +68,7 @@ class ServiceCallerTest {
     CatsGlobalContext catsGlobalContext;
 
     private ServiceCaller serviceCaller;
+    private ExecutionStatisticsListener executionStatisticsListener;
 
     @BeforeAll
     public static void setup() {
@@ -78,7 +93,8 @@ class ServiceCallerTest {
     public void setupEach() throws Exception {
         FilesArguments filesArguments = new FilesArguments(catsUtil);
         TestCaseListener testCaseListener = Mockito.mock(TestCaseListener.class);
-        serviceCaller = new ServiceCaller(catsGlobalContext, testCaseListener, catsUtil, filesArguments, catsDSLParser, authArguments, apiArguments, processingArguments);
+        executionStatisticsListener = Mockito.mock(ExecutionStatisticsListener.class);
+        serviceCaller = new ServiceCaller(catsGlobalContext, testCaseListener, catsUtil, filesArguments, catsDSLParser, authArguments, apiArguments, processingArguments, executionStatisticsListener);
 
         ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:" + wireMockServer.port());
         ReflectionTestUtils.setField(authArguments, "basicAuth", "user:password");
@@ -129,6 +145,157 @@ class ServiceCallerTest {
         Assertions.assertThat(t1 - t0).isLessThan(1000);
     }
 
+    @Test
+    void shouldRecordConnectionUsageWhenCallingTheService() {
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        serviceCaller.call(ServiceData.builder().relativePath("/pets").payload("{'field':'oldValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).build());
+        serviceCaller.call(ServiceData.builder().relativePath("/pets").payload("{'field':'oldValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).build());
+
+        Mockito.verify(executionStatisticsListener, Mockito.times(2)).increaseConnectionsAcquired();
+        Mockito.verify(executionStatisticsListener, Mockito.atLeastOnce()).increaseConnectionsOpened();
+    }
+
+    @Test
+    void shouldRecordCallPhaseTimings() {
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        CatsResponse response = serviceCaller.call(ServiceData.builder().relativePath("/pets").payload("{'field':'timedValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).build());
+
+        Assertions.assertThat(response.getTimings()).isNotNull();
+        Assertions.assertThat(response.getTimings().asMap()).containsOnlyKeys(HttpPhaseTimings.PHASES).allSatisfy((phase, ms) -> Assertions.assertThat(ms).isNotNegative());
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).recordPhaseTimings(Mockito.eq("POST"), Mockito.eq("/pets"), Mockito.eq(response.getTimings()));
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseInFlightRequests();
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).decreaseInFlightRequests();
+    }
+
+    @Test
+    void shouldNotRecordDownloadTimeWhenResponseBodyIsNotFullyRead() {
+        ReflectionTestUtils.setField(apiArguments, "maxResponseSize", 5L);
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        CatsResponse response = serviceCaller.call(ServiceData.builder().relativePath("/pets").payload("{'field':'largeValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).build());
+        ReflectionTestUtils.setField(apiArguments, "maxResponseSize", 0L);
+
+        Assertions.assertThat(response.getBody()).contains("larger than 5 bytes");
+        Assertions.assertThat(response.getTimings().getDownload()).isNull();
+        Assertions.assertThat(response.getTimings().asMap()).doesNotContainKey(HttpPhaseTimings.DOWNLOAD).containsKey(HttpPhaseTimings.SERVER);
+    }
+
+    @Test
+    void shouldReuseResponseForIdenticalRequestsWhenDeduplicating() {
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        CatsResponse first = serviceCaller.call(ServiceData.builder().relativePath("/pets").payload("{'field':'oldValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).fuzzedField("field").build());
+        CatsResponse second = serviceCaller.call(ServiceData.builder().relativePath("/pets").payload("{'field':'oldValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).fuzzedField("otherField").build());
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseConnectionsAcquired();
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseDeduplicatedCalls();
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).recordLatency(Mockito.eq("POST"), Mockito.eq("/pets"), Mockito.anyString(), Mockito.anyLong());
+        Assertions.assertThat(second.getResponseCode()).isEqualTo(first.getResponseCode());
+        Assertions.assertThat(second.getBody()).isEqualTo(first.getBody());
+        Assertions.assertThat(first.getFuzzedField()).isEqualTo("field");
+        Assertions.assertThat(second.getFuzzedField()).isEqualTo("otherField");
+    }
+
+    @Test
+    void shouldSendIdenticalAsyncRequestsOnlyOnceWhenDeduplicating() {
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        CompletableFuture<CatsResponse> first = serviceCaller.callAsync(ServiceData.builder().relativePath("/pets").payload("{'field':'asyncValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).build());
+        CompletableFuture<CatsResponse> second = serviceCaller.callAsync(ServiceData.builder().relativePath("/pets").payload("{'field':'asyncValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).build());
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+
+        Assertions.assertThat(second.join().getResponseCode()).isEqualTo(first.join().getResponseCode());
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseConnectionsAcquired();
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseDeduplicatedCalls();
+    }
+
+    @Test
+    void shouldSendIdenticalRequestAgainWhenTheRecordedOneFailedWhileDeduplicating() {
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+        AtomicInteger sentRequests = new AtomicInteger();
+        serviceCaller.okHttpClient = this.failingFirstRequestClient(sentRequests);
+        ServiceData data = ServiceData.builder().relativePath("/pets").payload("{'field':'failedValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.emptySet()).build();
+
+        Assertions.assertThatThrownBy(() -> serviceCaller.call(data)).isInstanceOf(CatsIOException.class);
+        CatsResponse response = serviceCaller.call(data);
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+
+        Assertions.assertThat(sentRequests.get()).isEqualTo(2);
+        Assertions.assertThat(response.getResponseCode()).isEqualTo(200);
+        Mockito.verify(executionStatisticsListener, Mockito.never()).increaseDeduplicatedCalls();
+    }
+
+    @Test
+    void shouldSendIdenticalAsyncRequestAgainWhenTheRecordedOneFailedWhileDeduplicating() {
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+        AtomicInteger sentRequests = new AtomicInteger();
+        serviceCaller.okHttpClient = this.failingFirstRequestClient(sentRequests);
+        ServiceData data = ServiceData.builder().relativePath("/pets").payload("{'field':'failedAsyncValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.emptySet()).build();
+
+        CompletableFuture<CatsResponse> failed = serviceCaller.callAsync(data);
+        Assertions.assertThatThrownBy(failed::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(CatsIOException.class);
+        CatsResponse response = serviceCaller.callAsync(data).join();
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+
+        Assertions.assertThat(sentRequests.get()).isEqualTo(2);
+        Assertions.assertThat(response.getResponseCode()).isEqualTo(200);
+        Mockito.verify(executionStatisticsListener, Mockito.never()).increaseDeduplicatedCalls();
+    }
+
+    @Test
+    void shouldSendIdenticalRequestsWhenDeduplicationIsNotAllowed() {
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        serviceCaller.call(ServiceData.builder().relativePath("/pets").payload("{'field':'oldValue'}").httpMethod(HttpMethod.POST).deduplicate(false)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).build());
+        serviceCaller.call(ServiceData.builder().relativePath("/pets").payload("{'field':'oldValue'}").httpMethod(HttpMethod.POST).deduplicate(false)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).build());
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+
+        Mockito.verify(executionStatisticsListener, Mockito.times(2)).increaseConnectionsAcquired();
+        Mockito.verify(executionStatisticsListener, Mockito.never()).increaseDeduplicatedCalls();
+    }
+
+    @Test
+    void shouldConfigureConnectionPoolAndDispatcherFromArguments() {
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerHost", 200);
+        ReflectionTestUtils.setField(apiArguments, "forceHttp2", true);
+        serviceCaller.initHttpClient();
+
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(200);
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().getMaxRequests()).isEqualTo(200);
+        Assertions.assertThat(serviceCaller.okHttpClient.protocols()).containsOnly(Protocol.H2_PRIOR_KNOWLEDGE);
+
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerHost", 64);
+        ReflectionTestUtils.setField(apiArguments, "forceHttp2", false);
+    }
+
     @Test
     void givenAServer_whenDoingADeleteCall_thenProperDetailsAreBeingReturned() {
         serviceCaller.initHttpClient();
@@ -216,6 +383,53 @@ class ServiceCallerTest {
         Assertions.assertThat(catsResponse.getBody()).isEqualTo("{'result':'OK'}");
     }
 
+    @Test
+    void shouldCallServiceAsyncAndRestoreContextWhenResponseReceived() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        MDC.put(TestCaseListener.ID, "Test 42");
+
+        CompletableFuture<CatsResponse> future = serviceCaller.callAsync(ServiceData.builder().relativePath("/pets").payload("{'field':'oldValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).build());
+        MDC.remove(TestCaseListener.ID);
+        String testIdWhenCompleted = future.thenApply(response -> MDC.get(TestCaseListener.ID)).join();
+
+        Assertions.assertThat(future.join().responseCodeAsString()).isEqualTo("200");
+        Assertions.assertThat(future.join().getBody()).isEqualTo("{'result':'OK'}");
+        Assertions.assertThat(testIdWhenCompleted).isEqualTo("Test 42");
+    }
+
+    @Test
+    void shouldNotCountDispatcherQueueTimeAsResponseTime() {
+        wireMockServer.stubFor(WireMock.get("/slow").willReturn(WireMock.ok("{}").withFixedDelay(500)));
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerHost", 1);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        CatsRequest catsRequest = new CatsRequest();
+        catsRequest.setUrl("http://localhost:" + wireMockServer.port() + "/slow");
+        catsRequest.setHttpMethod("GET");
+        catsRequest.setHeaders(Collections.emptyList());
+
+        CompletableFuture<CatsResponse> first = serviceCaller.callServiceAsync(catsRequest, Collections.emptySet());
+        CompletableFuture<CatsResponse> queued = serviceCaller.callServiceAsync(catsRequest, Collections.emptySet());
+
+        Assertions.assertThat(first.join().getResponseTimeInMs()).isGreaterThanOrEqualTo(500);
+        Assertions.assertThat(queued.join().getResponseTimeInMs()).isBetween(500L, 900L);
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerHost", 64);
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenCallServiceAsyncAndServerUnavailable() {
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:111");
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        CompletableFuture<CatsResponse> future = serviceCaller.callAsync(ServiceData.builder().relativePath("/pets").payload("{'field':'oldValue'}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).build());
+
+        Assertions.assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(CatsIOException.class);
+    }
+
     @Test
     void givenAServer_whenDoingAGetCall_thenProperDetailsAreBeingReturned() {
         serviceCaller.initHttpClient();
@@ -230,6 +444,39 @@ class ServiceCallerTest {
         Assertions.assertThat(catsResponse.getBody()).isEqualTo("{'pet':'pet'}");
     }
 
+    @Test
+    void shouldExpandLargeValuesInPathParams() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        AtomicReference<String> sentPath = new AtomicReference<>();
+        serviceCaller.okHttpClient = new OkHttpClient.Builder().addInterceptor(chain -> {
+            sentPath.set(chain.request().url().encodedPath());
+            return new Response.Builder().request(chain.request()).protocol(Protocol.HTTP_1_1).code(200).message("OK")
+                    .body(ResponseBody.create("{}", null)).build();
+        }).build();
+        String largeValue = LargeValue.repeat("a", LargeValue.MAX_IN_MEMORY_LENGTH + 1L);
+
+        serviceCaller.call(ServiceData.builder().relativePath("/pets/{petName}").payload("{'petName':'" + largeValue + "'}").httpMethod(HttpMethod.GET)
+                .headers(Collections.emptySet()).build());
+        TestCaseListener testCaseListener = (TestCaseListener) ReflectionTestUtils.getField(serviceCaller, "testCaseListener");
+        ArgumentCaptor<CatsRequest> recordedRequest = ArgumentCaptor.forClass(CatsRequest.class);
+        Mockito.verify(testCaseListener).addRequest(recordedRequest.capture());
+
+        Assertions.assertThat(sentPath.get()).hasSize(LargeValue.MAX_IN_MEMORY_LENGTH + 1 + "/pets/".length()).doesNotContain("cats_large_value");
+        Assertions.assertThat(recordedRequest.getValue().getPayload()).contains("aaa... [1048577 chars]");
+        Assertions.assertThat(recordedRequest.getValue().getLargeValuesPayload()).contains(largeValue);
+    }
+
+    private OkHttpClient failingFirstRequestClient(AtomicInteger sentRequests) {
+        return new OkHttpClient.Builder().addInterceptor(chain -> {
+            if (sentRequests.incrementAndGet() == 1) {
+                throw new IOException("Connection reset");
+            }
+            return new Response.Builder().request(chain.request()).protocol(Protocol.HTTP_1_1).code(200).message("OK")
+                    .body(ResponseBody.create("{}", null)).build();
+        }).build();
+    }
+
     @Test
     void shouldRemoveRefDataFieldsWhichAreMarkedForRemoval() {
         serviceCaller.initHttpClient();
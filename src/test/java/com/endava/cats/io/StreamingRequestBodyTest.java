@@ -0,0 +1,57 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.LargeValue;
+import io.quarkus.test.junit.QuarkusTest;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.Okio;
+import org.apache.commons.lang3.StringUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+@QuarkusTest
+class StreamingRequestBodyTest {
+
+    @Test
+    void shouldExpandLargeValuesWhenWriting() throws Exception {
+        long times = LargeValue.MAX_IN_MEMORY_LENGTH / 3 + 7;
+        String payload = "{\"name\":\"" + LargeValue.of("ca", "a\"é", times, "ts") + "\"}";
+        StreamingRequestBody body = new StreamingRequestBody(payload);
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+
+        String expected = "{\"name\":\"ca" + StringUtils.repeat("a\\\"é", (int) times) + "ts\"}";
+        Assertions.assertThat(buffer.readUtf8()).isEqualTo(expected);
+        Assertions.assertThat(body.contentLength()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+        Assertions.assertThat(body.contentType()).isNull();
+    }
+
+    @Test
+    void shouldStreamValuesLargerThanMaxArraySize() throws Exception {
+        StreamingRequestBody body = new StreamingRequestBody("[\"" + LargeValue.repeat("fuzz", Integer.MAX_VALUE / 4 + 1) + "\"]");
+        CountingOutputStream output = new CountingOutputStream();
+        try (BufferedSink sink = Okio.buffer(Okio.sink(output))) {
+            body.writeTo(sink);
+        }
+
+        Assertions.assertThat(body.contentLength()).isGreaterThan(Integer.MAX_VALUE);
+        Assertions.assertThat(output.count).isEqualTo(body.contentLength());
+    }
+
+    static class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.endava.cats.model;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@QuarkusTest
+class LargeValueTest {
+
+    @Test
+    void shouldBuildSmallValuesInMemory() {
+        String value = LargeValue.of("ca", "ab", 3, "ts");
+
+        Assertions.assertThat(value).isEqualTo("caabababts");
+        Assertions.assertThat(LargeValue.isLargeValue(value)).isFalse();
+    }
+
+    @Test
+    void shouldReturnPlaceholderForValuesWhichDontFitInMemory() {
+        String value = LargeValue.repeat("a", Integer.MAX_VALUE - 2L);
+
+        Assertions.assertThat(value).hasSizeLessThan(100);
+        Assertions.assertThat(LargeValue.isLargeValue(value)).isTrue();
+        LargeValue largeValue = LargeValue.fromPlaceholder(value).orElseThrow();
+        Assertions.assertThat(largeValue.length()).isEqualTo(Integer.MAX_VALUE - 2L);
+        Assertions.assertThat(largeValue.getUnit()).isEqualTo("a");
+    }
+
+    @Test
+    void shouldKeepPrefixAndSuffixForUnicodeValues() {
+        String value = LargeValue.of("ca", "퀜𓈛\"\\", LargeValue.MAX_IN_MEMORY_LENGTH, "ts");
+        LargeValue largeValue = LargeValue.fromPlaceholder(value).orElseThrow();
+
+        Assertions.assertThat(largeValue.getPrefix()).isEqualTo("ca");
+        Assertions.assertThat(largeValue.getUnit()).isEqualTo("퀜𓈛\"\\");
+        Assertions.assertThat(largeValue.getSuffix()).isEqualTo("ts");
+        Assertions.assertThat(largeValue.length()).isEqualTo(5L * LargeValue.MAX_IN_MEMORY_LENGTH + 4);
+    }
+
+    @Test
+    void shouldSplitPayloadIntoSegments() {
+        String value = LargeValue.repeat("fuzz", LargeValue.MAX_IN_MEMORY_LENGTH);
+        List<Object> segments = LargeValue.split("{\"name\":\"" + value + "\",\"id\":1}");
+
+        Assertions.assertThat(segments).hasSize(3);
+        Assertions.assertThat(segments.get(0)).isEqualTo("{\"name\":\"");
+        Assertions.assertThat(segments.get(1)).isInstanceOf(LargeValue.class);
+        Assertions.assertThat(segments.get(2)).isEqualTo("\",\"id\":1}");
+    }
+
+    @Test
+    void shouldReplacePlaceholdersWithPreview() {
+        String value = LargeValue.repeat("fuzz", LargeValue.MAX_IN_MEMORY_LENGTH);
+        String payload = LargeValue.replaceWithPreview("{\"name\":\"" + value + "\"}");
+
+        Assertions.assertThat(payload).isEqualTo("{\"name\":\"fuzzfuzzfuzzfuzzfuzzfuzzfuzzfu... [4194304 chars]\"}");
+        Assertions.assertThat(LargeValue.containsLargeValues(payload)).isFalse();
+    }
+
+    @Test
+    void shouldNotChangePayloadsWithoutPlaceholders() {
+        String payload = "{\"name\":\"cats\"}";
+
+        Assertions.assertThat(LargeValue.replaceWithPreview(payload)).isSameAs(payload);
+        Assertions.assertThat(LargeValue.fromPlaceholder("cats")).isEmpty();
+    }
+}
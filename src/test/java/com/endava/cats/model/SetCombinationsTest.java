@@ -0,0 +1,66 @@
+package com.endava.cats.model;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class SetCombinationsTest {
+
+    @Test
+    void shouldReturnSubsetsInIncreasingOrderOfSize() {
+        SetCombinations<String> combinations = SetCombinations.ofSizes(List.of("a", "b", "c"), 1, 3);
+        List<Set<String>> result = new ArrayList<>();
+        combinations.forEach(result::add);
+
+        Assertions.assertThat(result).containsExactly(Set.of("a"), Set.of("b"), Set.of("c"),
+                Set.of("a", "b"), Set.of("a", "c"), Set.of("b", "c"), Set.of("a", "b", "c"));
+        Assertions.assertThat(combinations.size()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldIncludeEmptySetWhenMinSizeIsZero() {
+        SetCombinations<String> combinations = SetCombinations.ofSizes(List.of("a", "b"), 0, 2);
+
+        Assertions.assertThat(combinations).hasSize(4).contains(Collections.emptySet());
+        Assertions.assertThat(combinations.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldLimitMaxSizeToNumberOfElements() {
+        SetCombinations<String> combinations = SetCombinations.ofSizes(List.of("a", "b"), 1, 5);
+
+        Assertions.assertThat(combinations).hasSize(3);
+        Assertions.assertThat(combinations.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReturnNoSubsetsWhenMinSizeIsBiggerThanElements() {
+        SetCombinations<String> combinations = SetCombinations.ofSizes(List.of("a", "b"), 3, 5);
+        Iterator<Set<String>> iterator = combinations.iterator();
+
+        Assertions.assertThat(iterator.hasNext()).isFalse();
+        Assertions.assertThat(combinations.size()).isZero();
+        Assertions.assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void shouldIterateLazilyForLargeNumberOfElements() {
+        List<Integer> elements = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        SetCombinations<Integer> combinations = SetCombinations.ofSizes(elements, 1, elements.size());
+        Iterator<Set<Integer>> iterator = combinations.iterator();
+
+        Assertions.assertThat(combinations.size()).isEqualTo(Long.MAX_VALUE);
+        Assertions.assertThat(iterator.next()).containsExactly(0);
+        Assertions.assertThat(iterator.hasNext()).isTrue();
+    }
+}
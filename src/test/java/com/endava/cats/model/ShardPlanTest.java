@@ -0,0 +1,102 @@
+package com.endava.cats.model;
+
+import com.endava.cats.http.HttpMethod;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@QuarkusTest
+class ShardPlanTest {
+
+    @ParameterizedTest
+    @CsvSource({"1/1,1,1", "2/4,2,4", " 3 / 3 ,3,3"})
+    void shouldParseShard(String value, int index, int total) {
+        Shard shard = Shard.parse(value);
+
+        Assertions.assertThat(shard.getIndex()).isEqualTo(index);
+        Assertions.assertThat(shard.getTotal()).isEqualTo(total);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0/2", "3/2", "1/0", "a/2", "2", "1/2/3"})
+    void shouldRejectInvalidShard(String value) {
+        Assertions.assertThatThrownBy(() -> Shard.parse(value)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldComputeUniqueTestNumbersAcrossShards() {
+        Set<Long> numbers = new HashSet<>();
+        for (int index = 1; index <= 3; index++) {
+            Shard shard = new Shard(index, 3);
+            for (long local = 1; local <= 10; local++) {
+                numbers.add(shard.testNumber(local));
+                Assertions.assertThat(shard.owns(shard.testNumber(local))).isTrue();
+                Assertions.assertThat(new Shard(index % 3 + 1, 3).owns(shard.testNumber(local))).isFalse();
+            }
+        }
+
+        Assertions.assertThat(numbers).hasSize(30);
+        Assertions.assertThat(Shard.NONE.testNumber(7)).isEqualTo(7);
+    }
+
+    @Test
+    void shouldAssignEachUnitToExactlyOneShard() {
+        Map<String, Long> units = this.units();
+        Set<String> allAssigned = new HashSet<>();
+        long totalEstimated = 0;
+
+        for (int index = 1; index <= 3; index++) {
+            ShardPlan plan = ShardPlan.create(new Shard(index, 3), units);
+            Assertions.assertThat(plan.getAssignedUnits()).doesNotContainAnyElementsOf(allAssigned);
+            allAssigned.addAll(plan.getAssignedUnits());
+            totalEstimated += plan.getEstimatedTests();
+            Assertions.assertThat(plan.getTotalEstimatedTests()).isEqualTo(units.values().stream().mapToLong(Long::longValue).sum());
+        }
+
+        Assertions.assertThat(allAssigned).containsExactlyInAnyOrderElementsOf(units.keySet());
+        Assertions.assertThat(totalEstimated).isEqualTo(units.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void shouldBalanceUsingEstimatedTests() {
+        Map<String, Long> units = new TreeMap<>(Map.of("a", 10L, "b", 6L, "c", 5L, "d", 4L, "e", 1L));
+
+        Assertions.assertThat(ShardPlan.create(new Shard(1, 2), units).getAssignedUnits()).containsExactly("a", "d");
+        Assertions.assertThat(ShardPlan.create(new Shard(1, 2), units).getEstimatedTests()).isEqualTo(14);
+        Assertions.assertThat(ShardPlan.create(new Shard(2, 2), units).getEstimatedTests()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldComputeTheSamePlanRegardlessOfUnitsOrder() {
+        Map<String, Long> units = this.units();
+
+        Assertions.assertThat(ShardPlan.create(new Shard(2, 3), units).getAssignedUnits())
+                .containsExactlyElementsOf(ShardPlan.create(new Shard(2, 3), new TreeMap<>(units).descendingMap()).getAssignedUnits());
+    }
+
+    @Test
+    void shouldAssignEverythingWhenNotSharded() {
+        ShardPlan plan = ShardPlan.create(Shard.NONE, Map.of());
+
+        Assertions.assertThat(plan.isAssigned("/pets", HttpMethod.POST, "AnyFuzzer")).isTrue();
+    }
+
+    private Map<String, Long> units() {
+        Map<String, Long> units = new TreeMap<>();
+        for (String path : new String[]{"/pets", "/pets/{id}", "/owners"}) {
+            for (HttpMethod method : new HttpMethod[]{HttpMethod.POST, HttpMethod.GET}) {
+                units.put(ShardPlan.unitKey(path, method, "FieldsFuzzer"), (long) path.length());
+                units.put(ShardPlan.unitKey(path, method, "HttpFuzzer"), 1L);
+            }
+        }
+        return units;
+    }
+}
@@ -65,6 +65,17 @@ class FuzzingDataFactoryTest {
         Assertions.assertThat(allFields).containsOnly("data#name", "data", "age");
     }
 
+    @Test
+    void shouldKeepRequestPropertyTypesAndSyntheticSchemasForEachPath() throws Exception {
+        FuzzingData owners = setupFuzzingData("/owners", "src/test/resources/petstore-same-field-names.yml").get(0);
+        FuzzingData pets = setupFuzzingData("/pets", "src/test/resources/petstore-same-field-names.yml").get(0);
+
+        Assertions.assertThat(owners.getRequestPropertyTypes().get("name").getMaxLength()).isEqualTo(5);
+        Assertions.assertThat(pets.getRequestPropertyTypes().get("name").getMaxLength()).isEqualTo(50);
+        Assertions.assertThat(owners.getPayload()).contains("limit").doesNotContain("offset");
+        Assertions.assertThat(pets.getPayload()).contains("offset").doesNotContain("limit");
+    }
+
     private List<FuzzingData> setupFuzzingData(String path, String contract) throws IOException {
         OpenAPIParser openAPIV3Parser = new OpenAPIParser();
         ParseOptions options = new ParseOptions();
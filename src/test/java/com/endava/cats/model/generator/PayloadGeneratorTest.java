@@ -138,6 +138,32 @@ class PayloadGeneratorTest {
         Assertions.assertThat(exampleJson).contains("color").contains("red").contains("green").contains("blue");
     }
 
+    @Test
+    void shouldRecordGlobalContextEntriesAddedWhileGenerating() throws Exception {
+        PayloadGenerator generator = setupPayloadGenerator();
+        generator.generate(null, "Pet");
+        CatsGlobalContext otherContext = new CatsGlobalContext();
+
+        generator.getContextUpdates().applyTo(otherContext);
+
+        Assertions.assertThat(otherContext.getRequestDataTypes()).isNotEmpty();
+        Assertions.assertThat(globalContext.getRequestDataTypes()).containsAllEntriesOf(otherContext.getRequestDataTypes());
+        Assertions.assertThat(globalContext.getDiscriminators()).containsAll(otherContext.getDiscriminators());
+    }
+
+    @Test
+    void shouldNotSetGeneratedExamplesOnTheSharedSchemas() throws Exception {
+        PayloadGenerator generator = setupPayloadGenerator();
+        Schema<?> miniPet = globalContext.getSchemaMap().get("MiniPet");
+        Schema<?> color = globalContext.getSchemaMap().get("Color");
+
+        String example = generator.generate(null, "MiniPet").get(0).get("example");
+
+        Assertions.assertThat(example).contains("color", "red");
+        Assertions.assertThat(miniPet.getExample()).isNull();
+        Assertions.assertThat(color.getExample()).isNull();
+    }
+
     private PayloadGenerator setupPayloadGenerator() throws IOException {
         OpenAPIParser openAPIV3Parser = new OpenAPIParser();
         ParseOptions options = new ParseOptions();
@@ -1,5 +1,6 @@
 package com.endava.cats.model.report;
 
+import com.endava.cats.model.CatsResponse;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -44,6 +45,26 @@ class CatsTestCaseSummaryTest {
         Assertions.assertThat(summary1).isNotEqualByComparingTo(summary2);
     }
 
+    @Test
+    void shouldKeepExecutionDetailsFromResponse() {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setPath("/pets");
+        testCase.setResponse(CatsResponse.builder().httpMethod("POST").responseCode(200).responseTimeInMs(120).build());
+        CatsTestCaseSummary summary = CatsTestCaseSummary.fromCatsTestCase("Test 1", testCase);
+
+        Assertions.assertThat(summary.getHttpMethod()).isEqualTo("POST");
+        Assertions.assertThat(summary.getTimeToExecuteInMs()).isEqualTo(120);
+        Assertions.assertThat(summary.isIgnoredForExecutionStatistics()).isFalse();
+        Assertions.assertThat(summary.executionTimeString()).isEqualTo("Test 1 - 120ms");
+    }
+
+    @Test
+    void shouldIgnoreForExecutionStatisticsWhenNoResponse() {
+        CatsTestCaseSummary summary = CatsTestCaseSummary.fromCatsTestCase("Test 1", new CatsTestCase());
+
+        Assertions.assertThat(summary.isIgnoredForExecutionStatistics()).isTrue();
+    }
+
     @Test
     void givenATestCase_whenGettingToString_thenTheScenarioDetailsAreReturned() {
         CatsTestCase testCase = new CatsTestCase();
@@ -0,0 +1,95 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.report.CatsTestCase;
+import com.endava.cats.model.report.CatsTestCaseSummary;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@QuarkusTest
+class ExecutionJournalTest {
+
+    @TempDir
+    Path reportFolder;
+
+    @Test
+    void shouldLoadTestsAndCheckpointsWhenResuming() throws Exception {
+        ExecutionJournal journal = ExecutionJournal.open(reportFolder, false);
+        journal.recordTest(this.createSummary("Test 1", "error"));
+        journal.recordTest(this.createSummary("Test 2", "success"));
+        journal.recordCheckpoint(List.of("/pets POST HttpFuzzer", "/pets GET HttpFuzzer"), 2);
+        journal.recordTest(this.createSummary("Test 3", "warn"));
+        journal.flush();
+
+        ExecutionJournal resumed = ExecutionJournal.open(reportFolder, true);
+
+        Assertions.assertThat(resumed.getPreviousTests()).extracting(CatsTestCaseSummary::getId).containsExactly("Test 1", "Test 2");
+        Assertions.assertThat(resumed.getPreviousTests().get(0).getHttpMethod()).isEqualTo("POST");
+        Assertions.assertThat(resumed.getPreviousTests().get(0).getTimeToExecuteInMs()).isEqualTo(15);
+        Assertions.assertThat(resumed.getCompletedUnits()).containsOnly("/pets POST HttpFuzzer", "/pets GET HttpFuzzer");
+        Assertions.assertThat(resumed.getLastCheckpointTest()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotDuplicateTestsWhenResumingTwice() throws Exception {
+        ExecutionJournal journal = ExecutionJournal.open(reportFolder, false);
+        journal.recordTest(this.createSummary("Test 1", "error"));
+        journal.recordCheckpoint(List.of("/pets POST HttpFuzzer"), 1);
+        journal.recordTest(this.createSummary("Test 2", "warn"));
+        journal.flush();
+
+        ExecutionJournal firstResume = ExecutionJournal.open(reportFolder, true);
+        firstResume.recordTest(this.createSummary("Test 2", "success"));
+        firstResume.recordCheckpoint(List.of("/pets GET HttpFuzzer"), 2);
+        firstResume.recordTest(this.createSummary("Test 3", "warn"));
+        firstResume.flush();
+
+        ExecutionJournal secondResume = ExecutionJournal.open(reportFolder, true);
+
+        Assertions.assertThat(secondResume.getPreviousTests()).extracting(CatsTestCaseSummary::getId).containsExactly("Test 1", "Test 2");
+        Assertions.assertThat(secondResume.getPreviousTests()).extracting(CatsTestCaseSummary::getResult).containsExactly("error", "success");
+        Assertions.assertThat(secondResume.getCompletedUnits()).containsOnly("/pets POST HttpFuzzer", "/pets GET HttpFuzzer");
+        Assertions.assertThat(secondResume.getLastCheckpointTest()).isEqualTo(2);
+        Assertions.assertThat(Files.readAllLines(reportFolder.resolve(ExecutionJournal.JOURNAL))).hasSize(3);
+    }
+
+    @Test
+    void shouldIgnoreIncompleteLastEntry() throws Exception {
+        ExecutionJournal journal = ExecutionJournal.open(reportFolder, false);
+        journal.recordCheckpoint(List.of("/pets POST HttpFuzzer"), 1);
+        Files.writeString(reportFolder.resolve(ExecutionJournal.JOURNAL), "{\"test\":{\"id\":\"Test", StandardOpenOption.APPEND);
+
+        ExecutionJournal resumed = ExecutionJournal.open(reportFolder, true);
+
+        Assertions.assertThat(resumed.getPreviousTests()).isEmpty();
+        Assertions.assertThat(resumed.getCompletedUnits()).containsOnly("/pets POST HttpFuzzer");
+    }
+
+    @Test
+    void shouldStartFromScratchWhenNotResuming() throws Exception {
+        ExecutionJournal journal = ExecutionJournal.open(reportFolder, false);
+        journal.recordCheckpoint(List.of("/pets POST HttpFuzzer"), 1);
+
+        ExecutionJournal newJournal = ExecutionJournal.open(reportFolder, false);
+        ExecutionJournal resumed = ExecutionJournal.open(reportFolder, true);
+
+        Assertions.assertThat(newJournal.getCompletedUnits()).isEmpty();
+        Assertions.assertThat(resumed.getCompletedUnits()).isEmpty();
+    }
+
+    private CatsTestCaseSummary createSummary(String testId, String result) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId(testId);
+        testCase.setResult(result);
+        testCase.setPath("/pets");
+        testCase.setResponse(CatsResponse.builder().httpMethod("POST").responseTimeInMs(15).responseCode(200).build());
+        return CatsTestCaseSummary.fromCatsTestCase(testId, testCase);
+    }
+}
@@ -1,9 +1,14 @@
 package com.endava.cats.report;
 
+import com.endava.cats.model.report.LatencyPercentiles;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 @QuarkusTest
 class ExecutionStatisticsListenerTest {
 
@@ -57,4 +62,38 @@ class ExecutionStatisticsListenerTest {
 
         Assertions.assertThat(listener.getAll()).isEqualTo(3);
     }
+
+    @Test
+    void shouldComputeConnectionReuseRatio() {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        Assertions.assertThat(listener.getConnectionReuseRatio()).isZero();
+
+        listener.increaseConnectionsOpened();
+        listener.increaseConnectionsAcquired();
+        listener.increaseConnectionsAcquired();
+        listener.increaseConnectionsAcquired();
+        listener.increaseConnectionsAcquired();
+
+        Assertions.assertThat(listener.getConnectionsOpened()).isOne();
+        Assertions.assertThat(listener.getConnectionsAcquired()).isEqualTo(4);
+        Assertions.assertThat(listener.getConnectionReuseRatio()).isEqualTo(75.0);
+    }
+
+    @Test
+    void shouldComputeLatencyPercentilesPerOperationAndFuzzer() {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        for (int i = 1; i <= 100; i++) {
+            listener.recordLatency("POST", "/pets", "HttpFuzzer", TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        listener.recordLatency("GET", "/pets", "HttpFuzzer", TimeUnit.MILLISECONDS.toNanos(5));
+
+        Map<String, LatencyPercentiles> operations = listener.getOperationLatencies().getPercentiles();
+        Assertions.assertThat(operations).containsOnlyKeys("GET /pets", "POST /pets");
+        LatencyPercentiles post = operations.get("POST /pets");
+        Assertions.assertThat(post.getCount()).isEqualTo(100);
+        Assertions.assertThat(post.getP50()).isCloseTo(50, Offset.offset(1d));
+        Assertions.assertThat(post.getP99()).isCloseTo(99, Offset.offset(1d));
+        Assertions.assertThat(post.getMax()).isCloseTo(100, Offset.offset(1d));
+        Assertions.assertThat(listener.getFuzzerLatencies().getPercentiles().get("HttpFuzzer").getCount()).isEqualTo(101);
+    }
 }
@@ -0,0 +1,96 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.report.LatencyPercentiles;
+import com.endava.cats.model.report.LatencyRegression;
+import com.endava.cats.model.report.LatencyReport;
+import com.endava.cats.model.util.JsonUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+@QuarkusTest
+class LatencyRegressionsTest {
+    private static final String OPERATION = "GET /pets";
+
+    @TempDir
+    Path baselineFolder;
+
+    @Test
+    void shouldDetectSlowerPercentiles() {
+        LatencyReport baseline = this.createReport(200, 10, 20);
+        LatencyReport current = this.createReport(200, 10, 40);
+
+        List<LatencyRegression> regressions = LatencyRegressions.detect(baseline, current, 20);
+
+        Assertions.assertThat(regressions).hasSize(4).extracting(LatencyRegression::getPercentile).containsExactly("p90", "p95", "p90", "p95");
+        Assertions.assertThat(regressions).extracting(LatencyRegression::getGroup).containsExactly("operation", "operation", "fuzzer", "fuzzer");
+        Assertions.assertThat(regressions.get(0).getKey()).isEqualTo(OPERATION);
+        Assertions.assertThat(regressions.get(0).getBaseline()).isEqualTo(20);
+        Assertions.assertThat(regressions.get(0).getCurrent()).isEqualTo(40);
+        Assertions.assertThat(regressions.get(0).getChangePercent()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldIgnorePercentilesWithoutEnoughSamples() {
+        LatencyReport baseline = this.createReport(50, 10, 20);
+        LatencyReport current = this.createReport(50, 30, 60);
+
+        List<LatencyRegression> regressions = LatencyRegressions.detect(baseline, current, 20);
+
+        Assertions.assertThat(regressions).extracting(LatencyRegression::getPercentile).containsOnly("p50");
+    }
+
+    @Test
+    void shouldIgnoreSmallDifferences() {
+        LatencyReport baseline = this.createReport(200, 2, 4);
+        LatencyReport current = this.createReport(200, 4, 8);
+
+        Assertions.assertThat(LatencyRegressions.detect(baseline, current, 20)).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreDifferencesBelowThreshold() {
+        LatencyReport baseline = this.createReport(200, 100, 200);
+        LatencyReport current = this.createReport(200, 110, 230);
+
+        Assertions.assertThat(LatencyRegressions.detect(baseline, current, 20)).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreOperationsNotInBaseline() {
+        LatencyReport baseline = LatencyReport.builder().operations(Map.of()).build();
+        LatencyReport current = this.createReport(200, 10, 40);
+
+        Assertions.assertThat(LatencyRegressions.detect(baseline, current, 20)).isEmpty();
+    }
+
+    @Test
+    void shouldLoadBaselineReport() throws Exception {
+        Files.writeString(baselineFolder.resolve(TestCaseExporter.LATENCY_REPORT), JsonUtils.GSON.toJson(this.createReport(200, 10, 20)));
+
+        LatencyReport baseline = LatencyRegressions.loadBaseline(baselineFolder).orElseThrow();
+
+        Assertions.assertThat(baseline.getOperations()).containsOnlyKeys(OPERATION);
+        Assertions.assertThat(baseline.getOperations().get(OPERATION).getP90()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenBaselineIsMissingOrInvalid() throws Exception {
+        Assertions.assertThat(LatencyRegressions.loadBaseline(baselineFolder)).isEmpty();
+
+        Files.writeString(baselineFolder.resolve(TestCaseExporter.LATENCY_REPORT), "{\"operations\": [");
+        Assertions.assertThat(LatencyRegressions.loadBaseline(baselineFolder)).isEmpty();
+    }
+
+    private LatencyReport createReport(long count, double median, double tail) {
+        LatencyPercentiles percentiles = LatencyPercentiles.builder().count(count).mean(median).p50(median)
+                .p90(tail).p95(tail).p99(tail).p999(tail).max(tail).build();
+        return LatencyReport.builder().operations(Map.of(OPERATION, percentiles)).fuzzers(Map.of("HttpFuzzer", percentiles)).build();
+    }
+}
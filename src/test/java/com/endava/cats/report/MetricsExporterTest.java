@@ -0,0 +1,101 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@QuarkusTest
+class MetricsExporterTest {
+    private ExecutionStatisticsListener executionStatisticsListener;
+    private ReportingArguments reportingArguments;
+    private MetricsExporter metricsExporter;
+
+    @TempDir
+    Path metricsFolder;
+
+    @BeforeEach
+    void setup() {
+        executionStatisticsListener = new ExecutionStatisticsListener();
+        reportingArguments = new ReportingArguments();
+        metricsExporter = new MetricsExporter(executionStatisticsListener, reportingArguments);
+    }
+
+    @Test
+    void shouldRenderOpenMetrics() {
+        executionStatisticsListener.recordResult("HttpFuzzer", "/pets", "success");
+        executionStatisticsListener.recordResult("HttpFuzzer", "/pets", "success");
+        executionStatisticsListener.recordResult("HttpFuzzer", "/pets", "error");
+        executionStatisticsListener.increaseInFlightRequests();
+        executionStatisticsListener.recordLatency("POST", "/pets", "HttpFuzzer", TimeUnit.MILLISECONDS.toNanos(20));
+        executionStatisticsListener.recordLatency("POST", "/pets", "HttpFuzzer", TimeUnit.MILLISECONDS.toNanos(700));
+
+        String metrics = metricsExporter.render();
+
+        Assertions.assertThat(metrics)
+                .contains("# TYPE cats_tests counter")
+                .contains("cats_tests_total{fuzzer=\"HttpFuzzer\",path=\"/pets\",result=\"success\"} 2")
+                .contains("cats_tests_total{fuzzer=\"HttpFuzzer\",path=\"/pets\",result=\"error\"} 1")
+                .contains("cats_requests_total 1")
+                .contains("cats_requests_in_flight 1")
+                .contains("cats_request_duration_seconds_bucket{method=\"POST\",path=\"/pets\",le=\"0.01\"} 0")
+                .contains("cats_request_duration_seconds_bucket{method=\"POST\",path=\"/pets\",le=\"0.025\"} 1")
+                .contains("cats_request_duration_seconds_bucket{method=\"POST\",path=\"/pets\",le=\"+Inf\"} 2")
+                .contains("cats_request_duration_seconds_count{method=\"POST\",path=\"/pets\"} 2")
+                .contains("cats_jvm_memory_heap_used_bytes")
+                .endsWith("# EOF\n");
+    }
+
+    @Test
+    void shouldWriteMetricsFileWhenStopping() throws Exception {
+        Path metricsFile = metricsFolder.resolve("cats.prom");
+        ReflectionTestUtils.setField(reportingArguments, "metricsFile", metricsFile.toString());
+        executionStatisticsListener.recordResult("HttpFuzzer", "/pets", "warn");
+
+        metricsExporter.start();
+        metricsExporter.stop();
+
+        Assertions.assertThat(Files.readString(metricsFile)).contains("result=\"warn\"} 1");
+    }
+
+    @Test
+    void shouldServeMetricsOnLocalPort() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        ReflectionTestUtils.setField(reportingArguments, "metricsPort", port);
+
+        metricsExporter.start();
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http", InetAddress.getLoopbackAddress().getHostAddress(), port, "/metrics").openConnection();
+            try (InputStream body = connection.getInputStream()) {
+                Assertions.assertThat(connection.getContentType()).isEqualTo(MetricsExporter.CONTENT_TYPE);
+                Assertions.assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).contains("cats_requests_total 0");
+            }
+        } finally {
+            metricsExporter.stop();
+        }
+    }
+
+    @Test
+    void shouldNotExportWhenNotEnabled() throws Exception {
+        metricsExporter.start();
+        metricsExporter.stop();
+
+        Assertions.assertThat(metricsFolder.toFile().listFiles()).isEmpty();
+    }
+}
@@ -0,0 +1,78 @@
+package com.endava.cats.report;
+
+import com.google.gson.JsonParser;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Collections;
+import java.util.List;
+
+@QuarkusTest
+class ResponseSchemaValidatorTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {"{'id':1,'name':'cats'}", "{'address':{'street':'s'}}", "[{'id':2}]", "[]", "{}", "{'tags':['a','b']}"}, delimiter = '|')
+    void shouldMatchDocumentedResponses(String body) {
+        ResponseSchemaValidator validator = ResponseSchemaValidator.compile("[{'id':1,'name':'n','address':{'street':'s'},'tags':['t']}]");
+
+        Assertions.assertThat(validator.matches(JsonParser.parseString(body), Collections.emptyList())).isTrue();
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"{'other':1}", "{'address':{'city':'c'}}", "[{'na':2}]", "'id'"}, delimiter = '|')
+    void shouldNotMatchUndocumentedResponses(String body) {
+        ResponseSchemaValidator validator = ResponseSchemaValidator.compile("{'id':1,'name':'n','address':{'street':'s'}}");
+
+        Assertions.assertThat(validator.matches(JsonParser.parseString(body), Collections.emptyList())).isFalse();
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"{'street':'s'}", "{'address':{'name':'n'}}", "{'id':{'street':'s'}}", "{'address':'s'}"}, delimiter = '|')
+    void shouldNotMatchPropertiesDocumentedAtOtherPaths(String body) {
+        ResponseSchemaValidator validator = ResponseSchemaValidator.compile("{'id':1,'name':'n','address':{'street':'s'}}");
+
+        Assertions.assertThat(validator.matches(JsonParser.parseString(body), Collections.emptyList())).isFalse();
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"{'id':'1'}|false", "{'name':2}|false", "{'active':'yes'}|false", "{'tags':'t'}|false", "{'tags':[1]}|false",
+            "{'id':2,'name':'cats','active':false,'tags':['a']}|true", "{'price':10}|true", "{'price':'10.5'}|true", "{'id':null}|true"}, delimiter = '|')
+    void shouldCheckPrimitiveTypes(String body, boolean matches) {
+        ResponseSchemaValidator validator = ResponseSchemaValidator.compile("{'id':1,'name':'n','active':true,'price':'3.45','tags':['t']}");
+
+        Assertions.assertThat(validator.matches(JsonParser.parseString(body), Collections.emptyList())).isEqualTo(matches);
+    }
+
+    @Test
+    void shouldMatchAnyObjectWhenDocumentedObjectHasNoProperties() {
+        ResponseSchemaValidator validator = ResponseSchemaValidator.compile("{'id':1,'metadata':{}}");
+
+        Assertions.assertThat(validator.matches(JsonParser.parseString("{'id':1,'metadata':{'any':'value'}}"), Collections.emptyList())).isTrue();
+    }
+
+    @Test
+    void shouldNotMatchEmptyArrayWhenDocumentedResponseIsNotArray() {
+        ResponseSchemaValidator validator = ResponseSchemaValidator.compile("{'id':1}");
+
+        Assertions.assertThat(validator.matches(JsonParser.parseString("[]"), Collections.emptyList())).isFalse();
+    }
+
+    @Test
+    void shouldMatchAnyPropertyForAdditionalProperties() {
+        ResponseSchemaValidator validator = ResponseSchemaValidator.compile("{'id':1,'metadata':{'key':'value'}}");
+
+        Assertions.assertThat(validator.matches(JsonParser.parseString("{'id':1,'metadata':{'any':'value'}}"), List.of("metadata"))).isTrue();
+        Assertions.assertThat(validator.matches(JsonParser.parseString("{'id':1,'metadata':{'any':'value'}}"), Collections.emptyList())).isFalse();
+    }
+
+    @Test
+    void shouldMatchAnyObjectWhenDocumentedResponseIsEmpty() {
+        ResponseSchemaValidator validator = ResponseSchemaValidator.compile("");
+
+        Assertions.assertThat(validator.matches(JsonParser.parseString("{'id':1}"), Collections.emptyList())).isTrue();
+        Assertions.assertThat(validator.matches(JsonParser.parseString("1"), Collections.emptyList())).isFalse();
+    }
+}
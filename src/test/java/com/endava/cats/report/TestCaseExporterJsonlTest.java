@@ -0,0 +1,87 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.report.CatsTestCase;
+import com.endava.cats.model.util.JsonUtils;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.inject.Inject;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+@QuarkusTest
+class TestCaseExporterJsonlTest {
+
+    @Inject
+    TestCaseExporterJsonl testCaseExporter;
+    @Inject
+    ReportingArguments reportingArguments;
+
+    @TempDir
+    Path reportFolder;
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(reportingArguments, "outputReportFolder", "cats-report");
+        ReflectionTestUtils.setField(reportingArguments, "compressReport", false);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"false,cats-tests.jsonl", "true,cats-tests.jsonl.gz"})
+    void shouldWriteAllTestCasesInOneArchiveWithIndex(boolean compress, String archiveName) throws Exception {
+        ReflectionTestUtils.setField(reportingArguments, "outputReportFolder", reportFolder.toString());
+        ReflectionTestUtils.setField(reportingArguments, "compressReport", compress);
+        testCaseExporter.initPath();
+
+        for (int i = 1; i <= 3; i++) {
+            testCaseExporter.writeTestCase(this.createTestCase("Test " + i));
+        }
+        testCaseExporter.flushTestCases();
+        testCaseExporter.writeHelperFiles();
+
+        Assertions.assertThat(reportFolder.resolve("Test1.html")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve("cats-test-viewer.html")).exists();
+        String index = Files.readString(reportFolder.resolve(TestCaseExporterJsonl.TESTS_INDEX));
+        Assertions.assertThat(index).startsWith("var CATS_TESTS_INDEX = ").endsWith(";");
+
+        JsonObject indexJson = JsonParser.parseString(index.substring(index.indexOf('{'), index.length() - 1)).getAsJsonObject();
+        Assertions.assertThat(indexJson.get("file").getAsString()).isEqualTo(archiveName);
+        Assertions.assertThat(indexJson.get("compressed").getAsBoolean()).isEqualTo(compress);
+        Assertions.assertThat(indexJson.getAsJsonObject("tests").keySet()).containsExactly("Test1", "Test2", "Test3");
+
+        byte[] archive = Files.readAllBytes(reportFolder.resolve(archiveName));
+        long offset = indexJson.getAsJsonObject("tests").getAsJsonArray("Test2").get(0).getAsLong();
+        long length = indexJson.getAsJsonObject("tests").getAsJsonArray("Test2").get(1).getAsLong();
+        byte[] entry = Arrays.copyOfRange(archive, (int) offset, (int) (offset + length));
+        InputStream entryStream = compress ? new GZIPInputStream(new ByteArrayInputStream(entry)) : new ByteArrayInputStream(entry);
+        String line = new String(entryStream.readAllBytes(), StandardCharsets.UTF_8);
+
+        Assertions.assertThat(line).endsWith("\n").doesNotContain("\n  ");
+        Assertions.assertThat(JsonUtils.GSON.fromJson(line, CatsTestCase.class).getScenario()).isEqualTo("Scenario for Test 2");
+    }
+
+    private CatsTestCase createTestCase(String testId) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId(testId);
+        testCase.setScenario("Scenario for " + testId);
+        testCase.setResult("success");
+        testCase.setRequest(CatsRequest.empty());
+        testCase.setResponse(CatsResponse.empty());
+        return testCase;
+    }
+}
@@ -0,0 +1,128 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.HttpPhaseTimings;
+import com.endava.cats.model.report.CatsTestCase;
+import com.endava.cats.model.report.CatsTestCaseSummary;
+import com.endava.cats.model.report.LatencyReport;
+import com.endava.cats.model.util.JsonUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.inject.Inject;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@QuarkusTest
+class TestCaseExporterTest {
+
+    @Inject
+    TestCaseExporterHtmlJs testCaseExporter;
+    @Inject
+    ReportingArguments reportingArguments;
+
+    @TempDir
+    Path reportFolder;
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(reportingArguments, "outputReportFolder", "cats-report");
+    }
+
+    @Test
+    void shouldWriteAllTestCasesWhenFlushing() throws Exception {
+        ReflectionTestUtils.setField(reportingArguments, "outputReportFolder", reportFolder.toString());
+        testCaseExporter.initPath();
+
+        for (int i = 1; i <= 250; i++) {
+            testCaseExporter.writeTestCase(this.createTestCase("Test " + i));
+        }
+        testCaseExporter.flushTestCases();
+
+        Assertions.assertThat(reportFolder.resolve("Test1.html")).exists();
+        Assertions.assertThat(reportFolder.resolve("Test250.html")).exists();
+        Assertions.assertThat(reportFolder.resolve("Test250.json")).exists();
+        Assertions.assertThat(reportFolder.resolve(ExecutionJournal.JOURNAL)).exists();
+        Assertions.assertThat(reportFolder.toFile().listFiles()).hasSize(501);
+    }
+
+    @Test
+    void shouldKeepPreviousReportAndJournalWhenResuming() throws Exception {
+        ReflectionTestUtils.setField(reportingArguments, "outputReportFolder", reportFolder.toString());
+        testCaseExporter.initPath();
+        testCaseExporter.writeTestCase(this.createTestCase("Test 1"));
+        testCaseExporter.recordCheckpoint(List.of("/pets POST HttpFuzzer"), 1);
+
+        ReflectionTestUtils.setField(reportingArguments, "resume", true);
+        testCaseExporter.initPath();
+        ReflectionTestUtils.setField(reportingArguments, "resume", false);
+
+        Assertions.assertThat(reportFolder.resolve("Test1.json")).exists();
+        Assertions.assertThat(testCaseExporter.getJournal().getPreviousTests()).extracting(CatsTestCaseSummary::getId).containsExactly("Test 1");
+        Assertions.assertThat(testCaseExporter.getJournal().getCompletedUnits()).containsExactly("/pets POST HttpFuzzer");
+    }
+
+    @Test
+    void shouldDeleteTestCasesMatchingTheFilter() throws Exception {
+        ReflectionTestUtils.setField(reportingArguments, "outputReportFolder", reportFolder.toString());
+        testCaseExporter.initPath();
+        for (int i = 1; i <= 3; i++) {
+            testCaseExporter.writeTestCase(this.createTestCase("Test " + i));
+        }
+        testCaseExporter.flushTestCases();
+
+        testCaseExporter.deleteTestCases(testNumber -> testNumber > 1);
+
+        Assertions.assertThat(reportFolder.resolve("Test1.json")).exists();
+        Assertions.assertThat(reportFolder.resolve("Test1.html")).exists();
+        Assertions.assertThat(reportFolder.resolve("Test2.json")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve("Test3.html")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve(ExecutionJournal.JOURNAL)).exists();
+    }
+
+    @Test
+    void shouldNotBlockWhenFlushingWithNoTestCases() {
+        testCaseExporter.flushTestCases();
+
+        Assertions.assertThat(reportFolder.toFile().listFiles()).isEmpty();
+    }
+
+    @Test
+    void shouldWriteLatencyReport() throws Exception {
+        ReflectionTestUtils.setField(reportingArguments, "outputReportFolder", reportFolder.toString());
+        testCaseExporter.initPath();
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        listener.recordLatency("POST", "/pets", "HttpFuzzer", TimeUnit.MILLISECONDS.toNanos(20));
+        listener.recordPhaseTimings("POST", "/pets", HttpPhaseTimings.builder().connect(2).server(15).download(3.0).build());
+
+        LatencyReport report = testCaseExporter.createLatencyReport(listener);
+        testCaseExporter.writeSummary(List.of(), listener, report);
+        testCaseExporter.writePerformanceReport(List.of(), listener, report);
+
+        LatencyReport latencyReport = JsonUtils.GSON.fromJson(Files.readString(reportFolder.resolve(TestCaseExporter.LATENCY_REPORT)), LatencyReport.class);
+        Assertions.assertThat(latencyReport.getOperations().get("POST /pets").getCount()).isOne();
+        Assertions.assertThat(latencyReport.getFuzzers()).containsOnlyKeys("HttpFuzzer");
+        Assertions.assertThat(latencyReport.getPhases().get("POST /pets")).containsOnlyKeys(HttpPhaseTimings.PHASES);
+        Assertions.assertThat(latencyReport.getPhases().get("POST /pets").get(HttpPhaseTimings.SERVER).getP50()).isCloseTo(15, Offset.offset(0.5));
+        Assertions.assertThat(Files.readString(reportFolder.resolve("index.html"))).contains("latencyTable", "POST");
+    }
+
+    private CatsTestCase createTestCase(String testId) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId(testId);
+        testCase.setScenario("Scenario for " + testId);
+        testCase.setResult("success");
+        testCase.setRequest(CatsRequest.empty());
+        testCase.setResponse(CatsResponse.empty());
+        return testCase;
+    }
+}
@@ -1,6 +1,7 @@
 package com.endava.cats.report;
 
 import com.endava.cats.Fuzzer;
+import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.IgnoreArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.http.HttpMethod;
@@ -10,16 +11,21 @@ import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.model.report.CatsTestCase;
+import com.endava.cats.model.report.CatsTestCaseSummary;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
+import com.google.gson.JsonParser;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.slf4j.MDC;
 import org.slf4j.event.Level;
@@ -27,10 +33,15 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
 import java.util.stream.Stream;
 
 @QuarkusTest
@@ -44,6 +55,8 @@ class TestCaseListenerTest {
     ReportingArguments reportingArguments;
     @Inject
     CatsGlobalContext catsGlobalContext;
+    @Inject
+    ApiArguments apiArguments;
 
     private PrettyLogger logger;
     private Fuzzer fuzzer;
@@ -60,7 +73,7 @@ class TestCaseListenerTest {
         ignoreArguments = Mockito.mock(IgnoreArguments.class);
         Instance<TestCaseExporter> exporters = Mockito.mock(Instance.class);
         Mockito.when(exporters.stream()).thenReturn(Stream.of(testCaseExporter));
-        testCaseListener = new TestCaseListener(catsGlobalContext, executionStatisticsListener, exporters, ignoreArguments, reportingArguments);
+        testCaseListener = new TestCaseListener(catsGlobalContext, executionStatisticsListener, exporters, ignoreArguments, reportingArguments, apiArguments);
         catsGlobalContext.getDiscriminators().clear();
     }
 
@@ -82,10 +95,54 @@ class TestCaseListenerTest {
     void givenAFunction_whenExecutingATestCase_thenTheCorrectContextIsCreatedAndTheTestCaseIsWrittenToFile() {
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> executionStatisticsListener.increaseSkipped());
 
-        Assertions.assertThat(testCaseListener.testCaseMap.get("Test 1")).isNotNull();
+        Assertions.assertThat(testCaseListener.testCaseMap).isEmpty();
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).hasSize(1);
         Mockito.verify(testCaseExporter).writeTestCase(Mockito.any());
     }
 
+    @Test
+    void shouldExecuteTestsInParallelAndKeepTestIdsWhenConcurrencyEnabled() {
+        ApiArguments parallelApiArguments = Mockito.mock(ApiArguments.class);
+        Mockito.when(parallelApiArguments.getConcurrency()).thenReturn(4);
+        Instance<TestCaseExporter> exporters = Mockito.mock(Instance.class);
+        Mockito.when(exporters.stream()).thenReturn(Stream.of(testCaseExporter));
+        TestCaseListener parallelListener = new TestCaseListener(catsGlobalContext, executionStatisticsListener, exporters, ignoreArguments, reportingArguments, parallelApiArguments);
+        Mockito.when(fuzzer.isConcurrencySafe()).thenReturn(true);
+        Set<String> workerThreads = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < 20; i++) {
+            parallelListener.createAndExecuteTest(logger, fuzzer, () -> {
+                workerThreads.add(Thread.currentThread().getName());
+                parallelListener.addScenario(logger, "Scenario for {}", MDC.get(TestCaseListener.ID));
+            });
+        }
+        parallelListener.waitForPendingTests();
+
+        Assertions.assertThat(parallelListener.testCaseSummaryDetails).hasSize(20);
+        Assertions.assertThat(parallelListener.testCaseSummaryDetails).filteredOn(summary -> summary.getId().equals("Test 7"))
+                .extracting(CatsTestCaseSummary::getScenario).containsOnly("Scenario for Test 7");
+        Assertions.assertThat(workerThreads).isNotEmpty().allMatch(name -> name.startsWith("cats-worker"));
+        Mockito.verify(testCaseExporter, Mockito.times(20)).writeTestCase(Mockito.any());
+    }
+
+    @Test
+    void shouldExecuteTestsOnCallingThreadWhenFuzzerIsNotConcurrencySafe() {
+        ApiArguments parallelApiArguments = Mockito.mock(ApiArguments.class);
+        Mockito.when(parallelApiArguments.getConcurrency()).thenReturn(4);
+        Instance<TestCaseExporter> exporters = Mockito.mock(Instance.class);
+        Mockito.when(exporters.stream()).thenReturn(Stream.of(testCaseExporter));
+        TestCaseListener parallelListener = new TestCaseListener(catsGlobalContext, executionStatisticsListener, exporters, ignoreArguments, reportingArguments, parallelApiArguments);
+        Mockito.when(fuzzer.isConcurrencySafe()).thenReturn(false);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < 5; i++) {
+            parallelListener.createAndExecuteTest(logger, fuzzer, () -> threads.add(Thread.currentThread().getName()));
+        }
+        parallelListener.waitForPendingTests();
+
+        Assertions.assertThat(threads).containsOnly(Thread.currentThread().getName());
+    }
+
     @Test
     void givenAFunction_whenExecutingATestCaseAndAddingDetails_thenTheDetailsAreCorrectlyAttachedToTheTestCase() {
         CatsTestCase testCase = testCaseListener.testCaseMap.get("Test 1");
@@ -101,7 +158,8 @@ class TestCaseListenerTest {
             testCaseListener.addExpectedResult(logger, "Should return {}", "2XX");
         });
 
-        testCase = testCaseListener.testCaseMap.get("Test 1");
+        testCase = this.getWrittenTestCase();
+        Assertions.assertThat(testCaseListener.testCaseMap).isEmpty();
         Assertions.assertThat(testCase).isNotNull();
         Assertions.assertThat(testCase.getRequest()).isNotNull();
         Assertions.assertThat(testCase.getResponse()).isNotNull();
@@ -118,7 +176,17 @@ class TestCaseListenerTest {
         testCaseListener.endSession();
 
         Mockito.verify(testCaseExporter, Mockito.times(1)).writeHelperFiles();
-        Mockito.verify(testCaseExporter, Mockito.times(1)).writeSummary(Mockito.anyMap(), Mockito.any());
+        Mockito.verify(testCaseExporter, Mockito.times(1)).writeSummary(Mockito.anyCollection(), Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseExporter, Mockito.times(1)).createLatencyReport(Mockito.any());
+    }
+
+    @Test
+    void shouldFlushTestCasesBeforeWritingTheSummary() {
+        testCaseListener.endSession();
+
+        InOrder inOrder = Mockito.inOrder(testCaseExporter);
+        inOrder.verify(testCaseExporter).flushTestCases();
+        inOrder.verify(testCaseExporter).writeSummary(Mockito.anyCollection(), Mockito.any(), Mockito.any());
     }
 
     @Test
@@ -130,7 +198,7 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess();
 
-        CatsTestCase testCase = testCaseListener.testCaseMap.get("Test 1");
+        CatsTestCase testCase = this.getWrittenTestCase();
         Assertions.assertThat(testCase.getResult()).isEqualTo(Level.WARN.toString().toLowerCase());
         Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Warn 1 happened");
     }
@@ -236,7 +304,7 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess();
 
-        CatsTestCase testCase = testCaseListener.testCaseMap.get("Test 1");
+        CatsTestCase testCase = this.getWrittenTestCase();
         Assertions.assertThat(testCase.getResult()).isEqualTo(Level.ERROR.toString().toLowerCase());
         Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Error 1 happened");
     }
@@ -250,7 +318,7 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors();
 
-        CatsTestCase testCase = testCaseListener.testCaseMap.get("Test 1");
+        CatsTestCase testCase = this.getWrittenTestCase();
         Assertions.assertThat(testCase.getResult()).isEqualTo("success");
         Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Success 1 happened");
     }
@@ -264,9 +332,10 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors();
 
-        CatsTestCase testCase = testCaseListener.testCaseMap.get("Test 1");
-        Assertions.assertThat(testCase.getResult()).isEqualTo("skipped");
-        Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Skipped due to: Skipper!");
+        Mockito.verify(logger).skip("Skipped due to: {}", "Skipper!");
+        Mockito.verify(testCaseExporter, Mockito.never()).writeTestCase(Mockito.any());
+        Assertions.assertThat(testCaseListener.testCaseMap).isEmpty();
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).isEmpty();
     }
 
     @Test
@@ -274,6 +343,7 @@ class TestCaseListenerTest {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         CatsResponse response = Mockito.mock(CatsResponse.class);
         Mockito.when(response.getBody()).thenReturn("{}");
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Collections.singleton("200"));
         Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("")));
         Mockito.when(response.responseCodeAsString()).thenReturn("200");
@@ -287,6 +357,7 @@ class TestCaseListenerTest {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         CatsResponse response = Mockito.mock(CatsResponse.class);
         Mockito.when(response.getBody()).thenReturn("{'test':1}");
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'test':1}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Collections.singleton("200"));
         Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("nomatch")));
         Mockito.when(response.responseCodeAsString()).thenReturn("200");
@@ -294,7 +365,7 @@ class TestCaseListenerTest {
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX));
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess();
-        CatsTestCase testCase = testCaseListener.testCaseMap.get("Test 1");
+        CatsTestCase testCase = this.getWrittenTestCase();
         Assertions.assertThat(testCase.getResultDetails()).startsWith("Response does NOT match expected result. Response code");
     }
 
@@ -303,6 +374,7 @@ class TestCaseListenerTest {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         CatsResponse response = Mockito.mock(CatsResponse.class);
         Mockito.when(response.getBody()).thenReturn("{'test':1}");
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'test':1}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Collections.singleton("400"));
         Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("test")));
         Mockito.when(response.responseCodeAsString()).thenReturn("200");
@@ -310,7 +382,7 @@ class TestCaseListenerTest {
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX));
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess();
-        CatsTestCase testCase = testCaseListener.testCaseMap.get("Test 1");
+        CatsTestCase testCase = this.getWrittenTestCase();
         Assertions.assertThat(testCase.getResultDetails()).startsWith("Response does NOT match expected result. Response code is from a list of expected codes for this FUZZER");
     }
 
@@ -319,6 +391,7 @@ class TestCaseListenerTest {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         CatsResponse response = Mockito.mock(CatsResponse.class);
         Mockito.when(response.getBody()).thenReturn("{'test':1}");
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'test':1}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Collections.singleton("400"));
         Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("test")));
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
@@ -333,6 +406,7 @@ class TestCaseListenerTest {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         CatsResponse response = Mockito.mock(CatsResponse.class);
         Mockito.when(response.getBody()).thenReturn("{'test':1}");
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'test':1}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Collections.singleton("200"));
         Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("test")));
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
@@ -340,7 +414,7 @@ class TestCaseListenerTest {
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportResult(logger, data, response, ResponseCodeFamily.TWOXX));
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseErrors();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess();
-        CatsTestCase testCase = testCaseListener.testCaseMap.get("Test 1");
+        CatsTestCase testCase = this.getWrittenTestCase();
         Assertions.assertThat(testCase.getResultDetails()).startsWith("Unexpected behaviour");
     }
 
@@ -351,6 +425,7 @@ class TestCaseListenerTest {
         CatsResponse response = Mockito.mock(CatsResponse.class);
         TestCaseListener spyListener = Mockito.spy(testCaseListener);
         Mockito.when(response.getBody()).thenReturn("{'test':1}");
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'test':1}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Sets.newHashSet("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(ImmutableMap.of("400", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}")));
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
@@ -368,6 +443,7 @@ class TestCaseListenerTest {
         CatsResponse response = Mockito.mock(CatsResponse.class);
         TestCaseListener spyListener = Mockito.spy(testCaseListener);
         Mockito.when(response.getBody()).thenReturn(body);
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString(body));
         Mockito.when(data.getResponseCodes()).thenReturn(Sets.newHashSet("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(Collections.emptyMap());
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
@@ -383,6 +459,7 @@ class TestCaseListenerTest {
         CatsResponse response = Mockito.mock(CatsResponse.class);
         TestCaseListener spyListener = Mockito.spy(testCaseListener);
         Mockito.when(response.getBody()).thenReturn("[{'test':1},{'test':2}]");
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("[{'test':1},{'test':2}]"));
         Mockito.when(data.getResponseCodes()).thenReturn(Sets.newHashSet("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(ImmutableMap.of("400", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}")));
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
@@ -399,6 +476,7 @@ class TestCaseListenerTest {
         CatsResponse response = Mockito.mock(CatsResponse.class);
         TestCaseListener spyListener = Mockito.spy(testCaseListener);
         Mockito.when(response.getBody()).thenReturn(returnedBody);
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString(returnedBody));
         Mockito.when(data.getResponseCodes()).thenReturn(Sets.newHashSet("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(ImmutableMap.of("400", Collections.singletonList(documentedResponses), "200", Collections.singletonList("{'other':'2'}")));
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
@@ -408,12 +486,31 @@ class TestCaseListenerTest {
         Mockito.verify(spyListener, Mockito.times(1)).reportInfo(logger, "Response matches expected result. Response code [{}] is documented and response body matches the corresponding schema.", response.responseCodeAsString());
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {"{'test':1}|true", "{'tes':1}|false"}, delimiter = '|')
+    void shouldCheckResponseBodyUsingCompiledResponses(String body, boolean matches) {
+        FuzzingData data = Mockito.mock(FuzzingData.class);
+        CatsResponse response = Mockito.mock(CatsResponse.class);
+        TestCaseListener spyListener = Mockito.spy(testCaseListener);
+        Mockito.when(ignoreArguments.getResponseBodyCheckStrategy()).thenReturn(IgnoreArguments.ResponseBodyCheckStrategy.COMPILED);
+        Mockito.when(response.getBody()).thenReturn(body);
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString(body));
+        Mockito.when(data.getResponseCodes()).thenReturn(Sets.newHashSet("200", "400"));
+        Mockito.when(data.getResponses()).thenReturn(ImmutableMap.of("400", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}")));
+        Mockito.when(response.responseCodeAsString()).thenReturn("400");
+
+        spyListener.createAndExecuteTest(logger, fuzzer, () -> spyListener.reportResult(logger, data, response, ResponseCodeFamily.FOURXX));
+        Mockito.verify(executionStatisticsListener, Mockito.times(matches ? 1 : 0)).increaseSuccess();
+        Mockito.verify(executionStatisticsListener, Mockito.times(matches ? 0 : 1)).increaseWarns();
+    }
+
     @Test
     void shouldReportInfoWhenResponseCode200IsExpectedAndResponseBodyIsEmptyArrayButResponseIsNotArray() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         CatsResponse response = Mockito.mock(CatsResponse.class);
         TestCaseListener spyListener = Mockito.spy(testCaseListener);
         Mockito.when(response.getBody()).thenReturn("[]");
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("[]"));
         Mockito.when(data.getResponseCodes()).thenReturn(Sets.newHashSet("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(ImmutableMap.of("400", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}")));
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
@@ -429,6 +526,7 @@ class TestCaseListenerTest {
         CatsResponse response = Mockito.mock(CatsResponse.class);
         TestCaseListener spyListener = Mockito.spy(testCaseListener);
         Mockito.when(response.getBody()).thenReturn("{'test':1}");
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'test':1}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Sets.newHashSet("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(ImmutableMap.of("400", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}")));
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
@@ -446,6 +544,7 @@ class TestCaseListenerTest {
         CatsResponse response = Mockito.mock(CatsResponse.class);
         TestCaseListener spyListener = Mockito.spy(testCaseListener);
         Mockito.when(response.getBody()).thenReturn("{'test':1}");
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'test':1}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Sets.newHashSet("200", "4xx"));
         Mockito.when(data.getResponses()).thenReturn(new TreeMap<>(ImmutableMap.of("4xx", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}"))));
         Mockito.when(response.responseCodeAsString()).thenReturn(responseCode);
@@ -462,6 +561,7 @@ class TestCaseListenerTest {
         CatsResponse response = Mockito.mock(CatsResponse.class);
         TestCaseListener spyListener = Mockito.spy(testCaseListener);
         Mockito.when(response.getBody()).thenReturn("{'test':1}");
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'test':1}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Sets.newHashSet("200", "401"));
         Mockito.when(data.getResponses()).thenReturn(ImmutableMap.of("401", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}")));
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
@@ -487,15 +587,72 @@ class TestCaseListenerTest {
         Assertions.assertThat(testCaseListener.isFieldNotADiscriminator("additionalField")).isTrue();
     }
 
+    @Test
+    void shouldRestoreTestsUpToTheLastCheckpointWhenResuming(@TempDir Path reportFolder) throws Exception {
+        ExecutionJournal journal = ExecutionJournal.open(reportFolder, false);
+        journal.recordTest(this.createSummary("Test 1", "error"));
+        journal.recordTest(this.createSummary("Test 2", "warn"));
+        journal.recordCheckpoint(List.of("/pets POST HttpFuzzer"), 2);
+        journal.recordTest(this.createSummary("Test 3", "success"));
+        journal.flush();
+        Mockito.when(testCaseExporter.getJournal()).thenReturn(ExecutionJournal.open(reportFolder, true));
+
+        Set<String> completedUnits = testCaseListener.restorePreviousProgress();
+
+        Assertions.assertThat(completedUnits).containsOnly("/pets POST HttpFuzzer");
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).extracting(CatsTestCaseSummary::getId).containsExactly("Test 1", "Test 2");
+        Assertions.assertThat(TestCaseListener.TEST.get()).isEqualTo(2);
+        Mockito.verify(executionStatisticsListener).increaseErrors();
+        Mockito.verify(executionStatisticsListener).increaseWarns();
+        Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess();
+        ArgumentCaptor<LongPredicate> deletedTests = ArgumentCaptor.forClass(LongPredicate.class);
+        Mockito.verify(testCaseExporter).deleteTestCases(deletedTests.capture());
+        Assertions.assertThat(deletedTests.getValue().test(2)).isFalse();
+        Assertions.assertThat(deletedTests.getValue().test(3)).isTrue();
+    }
+
+    @Test
+    void shouldRestoreResponseTimesOfPreviousTestsWhenResuming(@TempDir Path reportFolder) throws Exception {
+        ExecutionJournal journal = ExecutionJournal.open(reportFolder, false);
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId("Test 1");
+        testCase.setResult("success");
+        testCase.setPath("/pets");
+        testCase.setFuzzer("HttpFuzzer");
+        testCase.setResponse(CatsResponse.builder().responseCode(200).httpMethod("POST").responseTimeInMs(120).build());
+        journal.recordTest(CatsTestCaseSummary.fromCatsTestCase("Test 1", testCase));
+        journal.recordTest(this.createSummary("Test 2", "success"));
+        journal.recordCheckpoint(List.of("/pets POST HttpFuzzer"), 2);
+        journal.flush();
+        Mockito.when(testCaseExporter.getJournal()).thenReturn(ExecutionJournal.open(reportFolder, true));
+
+        testCaseListener.restorePreviousProgress();
+
+        Mockito.verify(executionStatisticsListener).recordLatency("POST", "/pets", "HttpFuzzer", TimeUnit.MILLISECONDS.toNanos(120));
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).recordLatency(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyLong());
+    }
+
+    private CatsTestCaseSummary createSummary(String testId, String result) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId(testId);
+        testCase.setResult(result);
+        return CatsTestCaseSummary.fromCatsTestCase(testId, testCase);
+    }
+
+    private CatsTestCase getWrittenTestCase() {
+        ArgumentCaptor<CatsTestCase> testCaseCaptor = ArgumentCaptor.forClass(CatsTestCase.class);
+        Mockito.verify(testCaseExporter).writeTestCase(testCaseCaptor.capture());
+        return testCaseCaptor.getValue();
+    }
+
     private void prepareTestCaseListenerSimpleSetup(CatsResponse build) {
-        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
-            testCaseListener.addScenario(logger, "Given a {} field", "string");
-            testCaseListener.addRequest(new CatsRequest());
-            testCaseListener.addResponse(build);
-            testCaseListener.addFullRequestPath("fullPath");
-            testCaseListener.addPath("path");
-            testCaseListener.addExpectedResult(logger, "Should return {}", "2XX");
-        });
         MDC.put(TestCaseListener.ID, "Test 1");
+        testCaseListener.testCaseMap.put("Test 1", new CatsTestCase());
+        testCaseListener.addScenario(logger, "Given a {} field", "string");
+        testCaseListener.addRequest(new CatsRequest());
+        testCaseListener.addResponse(build);
+        testCaseListener.addFullRequestPath("fullPath");
+        testCaseListener.addPath("path");
+        testCaseListener.addExpectedResult(logger, "Should return {}", "2XX");
     }
 }
@@ -4,6 +4,7 @@ import com.endava.cats.dsl.CatsDSLParser;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.model.FuzzingResult;
 import com.endava.cats.model.FuzzingStrategy;
+import com.endava.cats.model.SetCombinations;
 import com.endava.cats.model.util.PayloadUtils;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
@@ -32,7 +33,7 @@ class CatsUtilTest {
     @Test
     void givenASetAndMinSize_whenGettingAllSetsWithMinSize_thenAllSubsetsAreProperlyReturned() {
         Set<String> data = new HashSet<>(Arrays.asList("a", "b", "c"));
-        Set<Set<String>> sets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(data, 2);
+        SetCombinations<String> sets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(data, 2);
 
         Assertions.assertThat(sets)
                 .isNotEmpty()
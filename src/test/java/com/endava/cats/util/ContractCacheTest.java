@@ -0,0 +1,160 @@
+package com.endava.cats.util;
+
+import com.endava.cats.args.FilesArguments;
+import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.factory.FuzzingDataFactory;
+import com.endava.cats.model.CatsGlobalContext;
+import com.endava.cats.model.FuzzingData;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mockito;
+
+import javax.inject.Inject;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@QuarkusTest
+class ContractCacheTest {
+    @Inject
+    CatsGlobalContext catsGlobalContext;
+
+    @TempDir
+    Path cacheDir;
+
+    @TempDir
+    Path contractDir;
+
+    @Test
+    void shouldReuseCachedContractWhenNotChanged() throws Exception {
+        Path contract = Files.copy(Path.of("src/test/resources/petstore.yml"), contractDir.resolve("petstore.yml"));
+        OpenAPI parsed = OpenApiUtils.readOpenApi(contract.toString(), cacheDir.toString());
+        ContractCache contractCache = new ContractCache(cacheDir);
+        Optional<String> key = contractCache.keyFor(contract.toString());
+
+        Assertions.assertThat(key).isPresent();
+        Optional<OpenAPI> cached = contractCache.load(key.get());
+        Assertions.assertThat(cached).isPresent();
+        Assertions.assertThat(cached.get().getPaths().keySet()).containsExactlyElementsOf(parsed.getPaths().keySet());
+        Assertions.assertThat(cached.get().getComponents().getSchemas().keySet()).containsExactlyInAnyOrderElementsOf(parsed.getComponents().getSchemas().keySet());
+        Assertions.assertThat(OpenApiUtils.readOpenApi(contract.toString(), cacheDir.toString()).getPaths().keySet()).containsExactlyElementsOf(parsed.getPaths().keySet());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"/pets", "/pet-types"})
+    void shouldCreateTheSameFuzzingDataFromCachedContract(String path) throws Exception {
+        Path contract = Files.copy(Path.of("src/test/resources/petstore-cache-fidelity.yml"), contractDir.resolve("petstore.yml"));
+        OpenAPI parsed = OpenApiUtils.readOpenApi(contract.toString(), cacheDir.toString());
+        OpenAPI cached = OpenApiUtils.readOpenApi(contract.toString(), cacheDir.toString());
+
+        List<FuzzingData> parsedData = this.createFuzzingData(parsed, path);
+        List<FuzzingData> cachedData = this.createFuzzingData(cached, path);
+
+        Assertions.assertThat(cacheDir.toFile().listFiles()).hasSize(1);
+        Assertions.assertThat(cachedData).hasSameSizeAs(parsedData).isNotEmpty();
+        for (int i = 0; i < parsedData.size(); i++) {
+            Assertions.assertThat(this.schemaTypes(cachedData.get(i))).isEqualTo(this.schemaTypes(parsedData.get(i)));
+            Assertions.assertThat(this.payloadShape(cachedData.get(i).getPayload())).isEqualTo(this.payloadShape(parsedData.get(i).getPayload()));
+            Assertions.assertThat(cachedData.get(i).getAllFieldsByHttpMethod()).isEqualTo(parsedData.get(i).getAllFieldsByHttpMethod());
+        }
+    }
+
+    @Test
+    void shouldChangeKeyWhenContractOrReferencedFilesChange() throws Exception {
+        Path contract = Files.writeString(contractDir.resolve("petstore.yml"), Files.readString(Path.of("src/test/resources/petstore.yml"))
+                + "\n# $ref: 'common.yml#/components/schemas/Error'\n");
+        Path referenced = Files.writeString(contractDir.resolve("common.yml"), "components: {$ref: \"nested/errors.json#/Error\"}");
+        Path nested = Files.writeString(Files.createDirectories(contractDir.resolve("nested")).resolve("errors.json"), "{}");
+        ContractCache contractCache = new ContractCache(cacheDir);
+        String initialKey = contractCache.keyFor(contract.toString()).orElseThrow();
+
+        Files.writeString(nested, "{\"Error\": {}}");
+        String keyAfterNestedChange = contractCache.keyFor(contract.toString()).orElseThrow();
+        Files.writeString(referenced, "\n# changed", StandardOpenOption.APPEND);
+        String keyAfterReferencedChange = contractCache.keyFor(contract.toString()).orElseThrow();
+        Files.writeString(contract, "\n# changed", StandardOpenOption.APPEND);
+        String keyAfterContractChange = contractCache.keyFor(contract.toString()).orElseThrow();
+
+        Assertions.assertThat(List.of(initialKey, keyAfterNestedChange, keyAfterReferencedChange, keyAfterContractChange)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldKeepKeyWhenOnlyModifiedTimeOrUnreferencedFilesChange() throws Exception {
+        Path contract = Files.copy(Path.of("src/test/resources/petstore.yml"), contractDir.resolve("petstore.yml"));
+        ContractCache contractCache = new ContractCache(contractDir.resolve("cache"));
+        String initialKey = contractCache.keyFor(contract.toString()).orElseThrow();
+
+        Files.setLastModifiedTime(contract, FileTime.fromMillis(Files.getLastModifiedTime(contract).toMillis() + 10000));
+        Files.writeString(Files.createDirectories(contractDir.resolve("cats-report")).resolve("Test1.json"), "{}");
+        contractCache.store(initialKey, OpenApiUtils.readOpenApi(contract.toString(), null));
+
+        Assertions.assertThat(contractCache.keyFor(contract.toString())).contains(initialKey);
+    }
+
+    @Test
+    void shouldIgnoreCorruptedEntries() throws Exception {
+        ContractCache contractCache = new ContractCache(cacheDir);
+        Files.writeString(cacheDir.resolve("corrupted.json"), "{not a json");
+
+        Assertions.assertThat(contractCache.load("corrupted")).isEmpty();
+        Assertions.assertThat(contractCache.load("missing")).isEmpty();
+    }
+
+    @Test
+    void shouldNotComputeKeyForMissingContract() {
+        ContractCache contractCache = new ContractCache(cacheDir);
+
+        Assertions.assertThat(contractCache.keyFor(contractDir.resolve("missing.yml").toString())).isEmpty();
+    }
+
+    private List<FuzzingData> createFuzzingData(OpenAPI openAPI, String path) {
+        ProcessingArguments processingArguments = Mockito.mock(ProcessingArguments.class);
+        Mockito.when(processingArguments.isUseExamples()).thenReturn(true);
+        Mockito.when(processingArguments.getContentType()).thenReturn("application/json");
+        catsGlobalContext.getSchemaMap().clear();
+        catsGlobalContext.getSchemaMap().putAll(OpenApiUtils.getSchemas(openAPI, "application/json"));
+        FuzzingDataFactory fuzzingDataFactory = new FuzzingDataFactory(Mockito.mock(FilesArguments.class), processingArguments, catsGlobalContext);
+        return fuzzingDataFactory.fromPathItem(path, openAPI.getPaths().get(path), openAPI);
+    }
+
+    /*the schema subtypes drive payload generation and fuzzing, so they must be the same as when parsing the contract*/
+    private Map<String, String> schemaTypes(FuzzingData data) {
+        return data.getRequestPropertyTypes().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getClass().getSimpleName(), (first, second) -> first, TreeMap::new));
+    }
+
+    /*generated values are random, so only the structure of the payload and the types of the values are compared*/
+    private Object payloadShape(String payload) {
+        return this.shape(JsonParser.parseString(payload));
+    }
+
+    private Object shape(JsonElement element) {
+        if (element.isJsonObject()) {
+            Map<String, Object> shape = new LinkedHashMap<>();
+            element.getAsJsonObject().entrySet().forEach(entry -> shape.put(entry.getKey(), this.shape(entry.getValue())));
+            return shape;
+        }
+        if (element.isJsonArray()) {
+            return StreamSupport.stream(element.getAsJsonArray().spliterator(), false).map(this::shape).collect(Collectors.toList());
+        }
+        if (element.isJsonNull()) {
+            return "null";
+        }
+        return element.getAsJsonPrimitive().isString() ? "string" : element.getAsJsonPrimitive().isNumber() ? "number" : "boolean";
+    }
+}
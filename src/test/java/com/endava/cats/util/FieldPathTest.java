@@ -0,0 +1,86 @@
+package com.endava.cats.util;
+
+import com.endava.cats.model.util.FieldPath;
+import com.endava.cats.model.util.FieldPathIndex;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+@QuarkusTest
+class FieldPathTest {
+    private static final String PAYLOAD = "{\"field\":\"value\",\"address\":{\"street\":\"main\",\"number\":null},\"items\":[{\"name\":\"first\"},{\"name\":\"second\"},{\"other\":1}]}";
+
+    @ParameterizedTest
+    @CsvSource(value = {"field", "address#street", "address#number", "items[*]#name", "items[1]#name", "items[0]", "items", "items[*]#missing"}, delimiter = '|')
+    void shouldReadSameValuesAsJsonPath(String field) {
+        Object json = parse(PAYLOAD);
+
+        Assertions.assertThat(FieldPath.compile(field).read(json)).isEqualTo(JsonPath.read(json, field.replace("#", ".")));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"missing", "address#missing", "missing#inner", "field#inner", "items[5]#name", "items#name"}, delimiter = '|')
+    void shouldThrowExceptionWhenDefinitePathIsMissing(String field) {
+        Object json = parse(PAYLOAD);
+
+        Assertions.assertThatThrownBy(() -> FieldPath.compile(field).read(json)).isInstanceOf(PathNotFoundException.class);
+    }
+
+    @Test
+    void shouldSetExistingFieldsOnly() {
+        Object json = parse(PAYLOAD);
+        FieldPath.compile("items[*]#name").set(json, "fuzzed");
+        FieldPath.compile("address#missing").set(json, "fuzzed");
+
+        Assertions.assertThat(toJson(json)).isEqualTo("{\"field\":\"value\",\"address\":{\"street\":\"main\",\"number\":null},\"items\":[{\"name\":\"fuzzed\"},{\"name\":\"fuzzed\"},{\"other\":1}]}");
+    }
+
+    @Test
+    void shouldDeleteAllMatchingFields() {
+        Object json = parse(PAYLOAD);
+        FieldPath.compile("items[*]#name").delete(json);
+        FieldPath.compile("address#street").delete(json);
+
+        Assertions.assertThat(toJson(json)).isEqualTo("{\"field\":\"value\",\"address\":{\"number\":null},\"items\":[{},{},{\"other\":1}]}");
+    }
+
+    @Test
+    void shouldUseRootArrayVariants() {
+        Object json = parse("[{\"field\":\"value1\"},{\"field\":\"value2\"}]");
+        FieldPath fieldPath = FieldPath.compile("field");
+
+        Assertions.assertThat(fieldPath.firstElement().read(json)).isEqualTo("value1");
+        Assertions.assertThat(fieldPath.allElements().read(json)).isEqualTo(List.of("value1", "value2"));
+        Assertions.assertThat(fieldPath.allElements()).hasToString("$[*].field");
+    }
+
+    @Test
+    void shouldFallbackToJsonPathForUnsupportedNames() {
+        Object json = parse("{\"items\":[{\"name\":\"first\"},{\"name\":\"second\"}]}");
+
+        Assertions.assertThat(FieldPath.compile("items[-1]#name").read(json)).isEqualTo("second");
+    }
+
+    @Test
+    void shouldReuseCompiledPathsFromIndex() {
+        FieldPathIndex index = new FieldPathIndex(List.of("field"));
+
+        Assertions.assertThat(index.get("field")).isSameAs(index.get("field"));
+        Assertions.assertThat(index.get("other")).isSameAs(index.get("other"));
+    }
+
+    private static Object parse(String payload) {
+        return Configuration.defaultConfiguration().jsonProvider().parse(payload);
+    }
+
+    private static String toJson(Object json) {
+        return Configuration.defaultConfiguration().jsonProvider().toJson(json);
+    }
+}
@@ -0,0 +1,75 @@
+package com.endava.cats.util;
+
+import com.endava.cats.model.util.JsonDocument;
+import com.jayway.jsonpath.PathNotFoundException;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+@QuarkusTest
+class JsonDocumentTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {"{\"test\":3}|test|true", "[{\"test\":3}]|test|true", "{\"test\":{\"inner\": 4}}|test|false",
+            "{\"test\":{\"inner\": 4}}|test#inner|true", "{\"test\":null}|test|true", "{\"test\":[1,2]}|test|false", "{\"test\":3}|missing|false"}, delimiter = '|')
+    void shouldCheckIfFieldIsPrimitive(String payload, String field, boolean expected) {
+        Assertions.assertThat(JsonDocument.parse(payload).isPrimitive(field)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldReturnOriginalPayloadWhenNotChanged() {
+        String payload = "{\"field\":   \"value\"}";
+        JsonDocument document = JsonDocument.parse(payload);
+
+        Assertions.assertThat(document.readField("field")).isEqualTo("value");
+        Assertions.assertThat(document.jsonString()).isSameAs(payload);
+    }
+
+    @Test
+    void shouldNotChangeOriginalDocumentWhenSettingField() {
+        JsonDocument document = JsonDocument.parse("{\"field\":\"value\",\"other\":{\"inner\":1}}");
+        JsonDocument changed = document.withField("other#inner", "fuzzed");
+
+        Assertions.assertThat(changed.jsonString()).isEqualTo("{\"field\":\"value\",\"other\":{\"inner\":\"fuzzed\"}}");
+        Assertions.assertThat(document.readField("other#inner")).isEqualTo(1);
+        Assertions.assertThat(changed.hasSameContentAs(document)).isFalse();
+    }
+
+    @Test
+    void shouldChangeAllElementsWhenRootArray() {
+        JsonDocument document = JsonDocument.parse("[{\"field\":\"value\"},{\"field\":\"otherValue\"}]");
+
+        Assertions.assertThat(document.isArray()).isTrue();
+        Assertions.assertThat(document.readField("field")).isEqualTo("value");
+        Assertions.assertThat(document.withField("field", "fuzzed").jsonString()).isEqualTo("[{\"field\":\"fuzzed\"},{\"field\":\"fuzzed\"}]");
+        Assertions.assertThat(document.withoutFields(List.of("field")).jsonString()).isEqualTo("[{},{}]");
+    }
+
+    @Test
+    void shouldIgnoreMissingFieldsWhenRemoving() {
+        JsonDocument document = JsonDocument.parse("{\"field\":\"value\", \"other\":2}");
+
+        JsonDocument withoutMissing = document.withoutFields(List.of("missing#inner"));
+        JsonDocument withoutField = document.withoutFields(List.of("missing#inner", "other"));
+
+        Assertions.assertThat(withoutMissing.hasSameContentAs(document)).isTrue();
+        Assertions.assertThat(withoutField.jsonString()).isEqualTo("{\"field\":\"value\"}");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenReadingMissingField() {
+        JsonDocument document = JsonDocument.parse("{\"field\":\"value\"}");
+
+        Assertions.assertThatThrownBy(() -> document.readField("missing")).isInstanceOf(PathNotFoundException.class);
+    }
+
+    @Test
+    void shouldBeBlankWhenPayloadIsEmpty() {
+        Assertions.assertThat(JsonDocument.parse("").isBlank()).isTrue();
+        Assertions.assertThat(JsonDocument.parse("{}").isBlank()).isFalse();
+    }
+}
@@ -0,0 +1,61 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+@QuarkusTest
+class OperationFingerprintsTest {
+    private static final String CONTRACT = "src/test/resources/petstore.yml";
+
+    @TempDir
+    Path reportFolder;
+
+    @Test
+    void shouldComputeTheSameFingerprintsForTheSameContract() throws Exception {
+        OpenAPI openAPI = OpenApiUtils.readOpenApi(CONTRACT);
+
+        Map<String, String> fingerprints = OperationFingerprints.compute(openAPI, openAPI.getPaths().keySet());
+
+        Assertions.assertThat(fingerprints).containsKeys("/pets GET", "/pets POST", "/pets/{id} GET", "/pet-types POST");
+        Assertions.assertThat(OperationFingerprints.compute(OpenApiUtils.readOpenApi(CONTRACT), openAPI.getPaths().keySet())).isEqualTo(fingerprints);
+    }
+
+    @Test
+    void shouldOnlyChangeFingerprintsOfOperationsReferencingChangedSchema() throws Exception {
+        OpenAPI openAPI = OpenApiUtils.readOpenApi(CONTRACT);
+        Map<String, String> initial = OperationFingerprints.compute(openAPI, openAPI.getPaths().keySet());
+
+        openAPI.getComponents().getSchemas().get("PetType").addProperties("nickname", new StringSchema());
+        Map<String, String> changed = OperationFingerprints.compute(openAPI, openAPI.getPaths().keySet());
+
+        Assertions.assertThat(changed.get("/pet-types POST")).isNotEqualTo(initial.get("/pet-types POST"));
+        Assertions.assertThat(changed.get("/pets/{id} GET")).isEqualTo(initial.get("/pets/{id} GET"));
+        Assertions.assertThat(changed.get("/pets POST")).isEqualTo(initial.get("/pets POST"));
+    }
+
+    @Test
+    void shouldStoreAndLoadFingerprints() {
+        Path file = reportFolder.resolve(OperationFingerprints.FINGERPRINTS);
+        Map<String, String> fingerprints = Map.of("/pets GET", "abc", "/pets POST", "def");
+
+        OperationFingerprints.store(file, fingerprints);
+
+        Assertions.assertThat(OperationFingerprints.load(file)).isEqualTo(fingerprints);
+    }
+
+    @Test
+    void shouldIgnoreMissingOrUnreadableFingerprints() throws Exception {
+        Path file = Files.writeString(reportFolder.resolve(OperationFingerprints.FINGERPRINTS), "{not a json");
+
+        Assertions.assertThat(OperationFingerprints.load(file)).isEmpty();
+        Assertions.assertThat(OperationFingerprints.load(reportFolder.resolve("missing.json"))).isEmpty();
+    }
+}